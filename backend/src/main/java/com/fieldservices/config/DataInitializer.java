@@ -1,14 +1,20 @@
 package com.fieldservices.config;
 
+import com.fieldservices.model.Task;
 import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
 import com.fieldservices.repository.UserRepository;
+import com.fieldservices.util.AddressNormalizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DataInitializer implements CommandLineRunner {
 
@@ -17,11 +23,18 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Override
     public void run(String... args) {
+        backfillPriorityRanks();
+        backfillTaskVersions();
+        backfillNormalizedAddresses();
+
         if (userRepository.count() == 0) {
             logger.info("Initializing default users...");
 
@@ -58,4 +71,42 @@ public class DataInitializer implements CommandLineRunner {
             logger.info("Default users initialized successfully");
         }
     }
+
+    private void backfillPriorityRanks() {
+        for (Task.Priority priority : Task.Priority.values()) {
+            int updated = taskRepository.backfillPriorityRank(priority, priority.getRank());
+            if (updated > 0) {
+                logger.info("Backfilled priority rank for {} {} tasks", updated, priority);
+            }
+        }
+    }
+
+    private void backfillTaskVersions() {
+        int updated = taskRepository.backfillVersion();
+        if (updated > 0) {
+            logger.info("Initialized version for {} tasks", updated);
+        }
+    }
+
+    private void backfillNormalizedAddresses() {
+        int updated = 0;
+        long lastId = 0;
+        List<Task> batch;
+        do {
+            batch = taskRepository.findByNormalizedAddressIsNullAndIdGreaterThanOrderById(lastId, PageRequest.of(0, 500));
+            for (Task task : batch) {
+                lastId = task.getId();
+                try {
+                    updated += taskRepository.backfillNormalizedAddress(
+                            task.getId(), AddressNormalizer.normalize(task.getClientAddress()));
+                } catch (IllegalArgumentException e) {
+                    // Addresses accepted before validation existed stay out of duplicate detection
+                    logger.warn("Task {} has an invalid address and was not normalized: {}", task.getId(), e.getMessage());
+                }
+            }
+        } while (!batch.isEmpty());
+        if (updated > 0) {
+            logger.info("Normalized addresses of {} tasks", updated);
+        }
+    }
 }
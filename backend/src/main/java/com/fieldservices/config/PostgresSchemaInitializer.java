@@ -0,0 +1,61 @@
+package com.fieldservices.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies PostgreSQL-specific schema adjustments that Hibernate's ddl-auto cannot express.
+ * Runs once all singletons, including the EntityManagerFactory that creates the schema, are ready
+ * but before the web server starts, so no request can insert a task ahead of the sequence alignment.
+ * Does nothing on other databases (e.g. H2 in tests).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresSchemaInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.debug("Skipping PostgreSQL schema adjustments on {}", database);
+            return;
+        }
+        alignTaskSequence();
+        createTaskSearchIndex();
+    }
+
+    /**
+     * Tasks created before the switch from IDENTITY to tasks_seq already use ids the new sequence
+     * would hand out again. Move the sequence past the highest existing id; with the pooled optimizer
+     * the next block then starts at max(id) + 1.
+     */
+    private void alignTaskSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM tasks_seq", Long.class);
+        if (maxId != null && lastValue != null && lastValue < maxId) {
+            jdbcTemplate.queryForObject("SELECT setval('tasks_seq', ?)", Long.class, maxId);
+            log.info("Advanced tasks_seq from {} to {}", lastValue, maxId);
+        }
+    }
+
+    /**
+     * Generated full-text column over title, client address and description (weighted in that order)
+     * with a GIN index, used by task search. Both statements are no-ops once applied.
+     */
+    private void createTaskSearchIndex() {
+        jdbcTemplate.execute("ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                "GENERATED ALWAYS AS (" +
+                "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+                "setweight(to_tsvector('english', coalesce(client_address, '')), 'B') || " +
+                "setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector)");
+    }
+}
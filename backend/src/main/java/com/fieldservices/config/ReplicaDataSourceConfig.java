@@ -0,0 +1,74 @@
+package com.fieldservices.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only transactions to read replicas.
+ * Only active when replica-routing.urls lists at least one replica; otherwise every query goes to
+ * spring.datasource as before.
+ */
+@Configuration
+@ConditionalOnExpression("!'${replica-routing.urls:}'.isBlank()")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    @Value("${replica-routing.urls}")
+    private String replicaUrls;
+
+    @Value("${replica-routing.username:}")
+    private String replicaUsername;
+
+    @Value("${replica-routing.password:}")
+    private String replicaPassword;
+
+    @Value("${replica-routing.read-your-writes-ms:5000}")
+    private long readYourWritesMillis;
+
+    @Value("${replica-routing.max-lag-ms:5000}")
+    private long maxLagMillis;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        String username = replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername;
+        String password = replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword;
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(u -> !u.isEmpty()).toList()) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url);
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesMillis, maxLagMillis);
+    }
+
+    /**
+     * The DataSource used by JPA and JdbcTemplate; connections are fetched lazily so routing sees
+     * whether the transaction is read-only
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
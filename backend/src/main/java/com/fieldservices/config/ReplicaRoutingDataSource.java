@@ -0,0 +1,211 @@
+package com.fieldservices.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy, so the connection is taken only once the
+ * transaction's read-only flag is known.
+ * Two staleness guards keep reads consistent: replicas whose replay lag exceeds the limit are
+ * skipped until they catch up, and a user who committed a write is read from the primary for
+ * a short window afterwards, so they always see their own changes.
+ * Work that loads in-memory state kept current by after-commit events must not miss a commit, so
+ * it runs inside {@link #runOnPrimary}, which sends even read-only transactions to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // 0 when the replica has replayed everything it received, so an idle primary does not read as lag;
+    // -1 for a server that is not a standby, and NULL while the lag cannot be measured yet
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN -1 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    // Set while runOnPrimary work is running on this thread
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long readYourWritesMillis;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    // Username to the time of their last committed write
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    long readYourWritesMillis, long maxLagMillis) {
+        this.primary = primary;
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.maxLagMillis = maxLagMillis;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(username);
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return PRIMARY;
+        }
+        if (username != null && wroteRecently(username)) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Run work against the primary even where its transactions are read-only.
+     * May be called inside a transaction that has not run a statement yet, since connections are taken lazily.
+     */
+    public static void runOnPrimary(Runnable work) {
+        callOnPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Same as {@link #runOnPrimary}, returning the work's result
+     */
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return work.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    /**
+     * Measure the replay lag of every replica and take lagging or unreachable ones out of rotation
+     */
+    @Scheduled(fixedDelayString = "${replica-routing.lag-check-interval-ms:2000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                result.next();
+                double lagMillis = result.getDouble(1);
+                if (result.wasNull()) {
+                    lagMillis = Double.POSITIVE_INFINITY;
+                } else if (lagMillis < 0 && !replica.warnedNotStandby) {
+                    log.warn("{} is not a standby; routing reads to it anyway", replica.key);
+                    replica.warnedNotStandby = true;
+                }
+                healthy = lagMillis <= maxLagMillis;
+                if (!healthy && replica.healthy) {
+                    log.warn("{} is {} ms behind the primary; reading from the primary until it catches up",
+                            replica.key, Double.isInfinite(lagMillis) ? "an unknown number of" : Math.round(lagMillis));
+                }
+            } catch (SQLException e) {
+                healthy = false;
+                if (replica.healthy) {
+                    log.warn("{} is unreachable; reading from the primary: {}", replica.key, e.getMessage());
+                }
+            }
+            if (healthy && !replica.healthy) {
+                log.info("{} is back in rotation", replica.key);
+            }
+            replica.healthy = healthy;
+        }
+        long cutoff = System.currentTimeMillis() - readYourWritesMillis;
+        lastWrites.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+
+    /**
+     * Close the primary and replica pools on shutdown
+     */
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    boolean wroteRecently(String username) {
+        Long writtenAt = lastWrites.get(username);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < readYourWritesMillis;
+    }
+
+    /**
+     * Remember the user once their read-write transaction commits
+     */
+    private void trackWrite(String username) {
+        if (username == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(username, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        // Unknown until the first check; assume healthy so reads are spread from startup
+        private volatile boolean healthy = true;
+        private boolean warnedNotStandby;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
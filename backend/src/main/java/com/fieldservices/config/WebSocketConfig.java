@@ -16,6 +16,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic");
         // Set application destination prefix
         config.setApplicationDestinationPrefixes("/app");
+        // Deliver messages to each client in the order they were sent, so feed sequence numbers arrive in order
+        config.setPreservePublishOrder(true);
     }
 
     @Override
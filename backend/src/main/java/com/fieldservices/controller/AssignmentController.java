@@ -1,14 +1,18 @@
 package com.fieldservices.controller;
 
 import com.fieldservices.dto.AssignmentRequest;
+import com.fieldservices.dto.AutoDispatchResponse;
 import com.fieldservices.dto.TaskResponse;
 import com.fieldservices.dto.TechnicianResponse;
 import com.fieldservices.service.AssignmentService;
+import com.fieldservices.service.AutoDispatchService;
+import com.fieldservices.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,7 +23,10 @@ import java.util.List;
  * 
  * Endpoints:
  * - POST /api/tasks/{id}/assign - Assign task to technician (DISPATCHER, SUPERVISOR)
+ * - DELETE /api/tasks/{id}/assign - Unassign a task that has not been started (DISPATCHER, SUPERVISOR)
  * - GET /api/technicians/available - Get available technicians (DISPATCHER, SUPERVISOR)
+ * - GET /api/assignments/auto-dispatch - Suggest optimal assignments for the backlog (DISPATCHER, SUPERVISOR)
+ * - POST /api/assignments/auto-dispatch - Apply optimal assignments for the backlog (DISPATCHER, SUPERVISOR)
  */
 @RestController
 @RequiredArgsConstructor
@@ -27,10 +34,13 @@ import java.util.List;
 public class AssignmentController {
 
     private final AssignmentService assignmentService;
+    private final TaskService taskService;
+    private final AutoDispatchService autoDispatchService;
 
     /**
      * Assign a task to a technician
      * Accessible by: DISPATCHER, SUPERVISOR
+     * Returns 409 with the current task if another request changed it first
      */
     @PostMapping("/tasks/{id}/assign")
     @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
@@ -38,8 +48,31 @@ public class AssignmentController {
             @PathVariable Long id,
             @Valid @RequestBody AssignmentRequest request) {
         log.info("Received request to assign task {} to technician {}", id, request.getTechnicianId());
-        TaskResponse response = assignmentService.assignTask(id, request);
-        return ResponseEntity.ok(response);
+        try {
+            TaskResponse response = assignmentService.assignTask(id, request);
+            return ResponseEntity.ok(response);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Task {} was modified concurrently while assigning", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(taskService.getTaskById(id));
+        }
+    }
+
+    /**
+     * Unassign a task so it returns to the dispatch backlog
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * Returns 409 with the current task if another request changed it first
+     */
+    @DeleteMapping("/tasks/{id}/assign")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<TaskResponse> unassignTask(@PathVariable Long id) {
+        log.info("Received request to unassign task {}", id);
+        try {
+            TaskResponse response = assignmentService.unassignTask(id);
+            return ResponseEntity.ok(response);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Task {} was modified concurrently while unassigning", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(taskService.getTaskById(id));
+        }
     }
 
     /**
@@ -53,4 +86,32 @@ public class AssignmentController {
         List<TechnicianResponse> technicians = assignmentService.getAvailableTechnicians();
         return ResponseEntity.ok(technicians);
     }
+
+    /**
+     * Suggest a minimum-cost pairing of unassigned tasks with available technicians without assigning anything
+     * Accessible by: DISPATCHER, SUPERVISOR
+     */
+    @GetMapping("/assignments/auto-dispatch")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<AutoDispatchResponse> suggestAutoDispatch() {
+        log.info("Received request to suggest auto-dispatch assignments");
+        return ResponseEntity.ok(autoDispatchService.suggest());
+    }
+
+    /**
+     * Compute a minimum-cost pairing and assign it in one batch
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * Returns 409 if a planned task was changed concurrently; nothing is assigned and the round can be retried
+     */
+    @PostMapping("/assignments/auto-dispatch")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<AutoDispatchResponse> applyAutoDispatch() {
+        log.info("Received request to apply auto-dispatch assignments");
+        try {
+            return ResponseEntity.ok(autoDispatchService.apply());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Auto-dispatch conflicted with a concurrent task change");
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
 }
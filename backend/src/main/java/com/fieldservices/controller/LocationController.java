@@ -32,7 +32,8 @@ public class LocationController {
     /**
      * Update technician location
      * Accessible by: TECHNICIAN
-     * Throttled to one update per 30 seconds
+     * Throttled to one update per 30 seconds, or with the MOVEMENT policy stored only when the
+     * technician moved (200 OK without an id means the point was accepted but not stored)
      */
     @PostMapping
     @PreAuthorize("hasRole('TECHNICIAN')")
@@ -40,6 +41,9 @@ public class LocationController {
         log.info("Received request to update location for user: {}", request.getUserId());
         try {
             LocationResponse response = locationService.updateLocation(request);
+            if (response.getId() == null) {
+                return ResponseEntity.ok(response);
+            }
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalStateException e) {
             // Throttling error
@@ -0,0 +1,42 @@
+package com.fieldservices.controller;
+
+import com.fieldservices.dto.LocationImportRequest;
+import com.fieldservices.dto.LocationImportResponse;
+import com.fieldservices.service.LocationImportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for Historical Location Import
+ * 
+ * Endpoints:
+ * - POST /api/admin/locations/import - Bulk load a CSV or NDJSON file from the import directory (SUPERVISOR)
+ */
+@RestController
+@RequestMapping("/admin/locations")
+@RequiredArgsConstructor
+@Slf4j
+public class LocationImportController {
+
+    private final LocationImportService locationImportService;
+
+    /**
+     * Bulk import historical locations using PostgreSQL COPY
+     * Accessible by: SUPERVISOR
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('SUPERVISOR')")
+    public ResponseEntity<LocationImportResponse> importLocations(@Valid @RequestBody LocationImportRequest request) {
+        log.info("Received request to import {} locations from {}", request.getFormat(), request.getFileName());
+        try {
+            return ResponseEntity.ok(locationImportService.importLocations(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid location import request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.fieldservices.controller;
+
+import com.fieldservices.dto.DailyMileageResponse;
+import com.fieldservices.service.MileageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for Technician Mileage Reports
+ * 
+ * Endpoints:
+ * - GET /api/mileage/daily?date= - Distance driven per technician on a day (SUPERVISOR)
+ * - GET /api/mileage/technicians/{id}?from=&to= - Daily distance for one technician (SUPERVISOR)
+ */
+@RestController
+@RequestMapping("/mileage")
+@RequiredArgsConstructor
+@Slf4j
+public class MileageController {
+
+    private final MileageService mileageService;
+
+    /**
+     * Get distance driven by every technician on a day (defaults to today)
+     * Accessible by: SUPERVISOR
+     */
+    @GetMapping("/daily")
+    @PreAuthorize("hasRole('SUPERVISOR')")
+    public ResponseEntity<List<DailyMileageResponse>> getDailyMileage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        log.info("Received request to get mileage for {}", day);
+        return ResponseEntity.ok(mileageService.getDailyMileage(day));
+    }
+
+    /**
+     * Get daily distance driven by one technician within a date range
+     * Accessible by: SUPERVISOR
+     */
+    @GetMapping("/technicians/{id}")
+    @PreAuthorize("hasRole('SUPERVISOR')")
+    public ResponseEntity<List<DailyMileageResponse>> getTechnicianMileage(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Received request to get mileage for technician {} from {} to {}", id, from, to);
+        try {
+            return ResponseEntity.ok(mileageService.getTechnicianMileage(id, from, to));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid mileage request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -2,14 +2,26 @@ package com.fieldservices.controller;
 
 import com.fieldservices.dto.TaskCompleteRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskTransitionBatchResponse;
+import com.fieldservices.dto.TaskTransitionRequest;
+import com.fieldservices.model.Task;
 import com.fieldservices.service.StatusService;
+import com.fieldservices.service.TaskStatusStreamService;
+import com.fieldservices.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for Task Status Management
@@ -17,7 +29,9 @@ import org.springframework.web.bind.annotation.*;
  * Endpoints:
  * - PUT /api/tasks/{id}/start - Mark task as in progress (TECHNICIAN)
  * - PUT /api/tasks/{id}/complete - Mark task as completed (TECHNICIAN)
+ * - POST /api/tasks/transitions - Apply a batch of start/complete transitions (TECHNICIAN)
  * - GET /api/tasks/{id}/status - Get current status (all authenticated users)
+ * - GET /api/tasks/status/stream - Stream status transitions as Server-Sent Events (all authenticated users)
  */
 @RestController
 @RequestMapping("/tasks")
@@ -26,24 +40,32 @@ import org.springframework.web.bind.annotation.*;
 public class StatusController {
 
     private final StatusService statusService;
+    private final TaskStatusStreamService taskStatusStreamService;
 
     /**
      * Mark task as in progress
      * Accessible by: TECHNICIAN
      * Only assigned tasks can be started
+     * Returns 409 with the current task if another request changed it first
      */
     @PutMapping("/{id}/start")
     @PreAuthorize("hasRole('TECHNICIAN')")
     public ResponseEntity<TaskResponse> startTask(@PathVariable Long id) {
         log.info("Received request to start task with id: {}", id);
-        TaskResponse response = statusService.startTask(id);
-        return ResponseEntity.ok(response);
+        try {
+            TaskResponse response = statusService.startTask(id);
+            return ResponseEntity.ok(response);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Task {} was modified concurrently while starting", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(statusService.getTaskStatus(id));
+        }
     }
 
     /**
      * Mark task as completed with work summary
      * Accessible by: TECHNICIAN
      * Only in-progress tasks can be completed
+     * Returns 409 with the current task if another request changed it first
      */
     @PutMapping("/{id}/complete")
     @PreAuthorize("hasRole('TECHNICIAN')")
@@ -51,18 +73,76 @@ public class StatusController {
             @PathVariable Long id,
             @Valid @RequestBody TaskCompleteRequest request) {
         log.info("Received request to complete task with id: {}", id);
-        TaskResponse response = statusService.completeTask(id, request);
-        return ResponseEntity.ok(response);
+        try {
+            TaskResponse response = statusService.completeTask(id, request);
+            return ResponseEntity.ok(response);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Task {} was modified concurrently while completing", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(statusService.getTaskStatus(id));
+        }
+    }
+
+    /**
+     * Apply an ordered batch of start and complete transitions queued while offline
+     * Accessible by: TECHNICIAN
+     * Returns a result per transition; 409 if another request changed one of the tasks first,
+     * in which case the whole batch can be resent
+     */
+    @PostMapping("/transitions")
+    @PreAuthorize("hasRole('TECHNICIAN')")
+    public ResponseEntity<TaskTransitionBatchResponse> applyTransitions(
+            @RequestBody List<TaskTransitionRequest> transitions) {
+        log.info("Received request to apply {} task transitions", transitions.size());
+        try {
+            return ResponseEntity.ok(statusService.applyTransitions(transitions));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task transition batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("A task was modified concurrently while applying transitions");
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
     }
 
     /**
      * Get current status of a task
      * Accessible by: all authenticated users
+     * Returns 304 without loading the task when If-None-Match matches its current ETag
      */
     @GetMapping("/{id}/status")
-    public ResponseEntity<TaskResponse> getTaskStatus(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskStatus(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Received request to get status for task with id: {}", id);
+        if (ifNoneMatch != null) {
+            Optional<String> etag = statusService.getTaskETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
         TaskResponse response = statusService.getTaskStatus(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.forResource(response.getId(), response.getUpdatedAt()))
+                .body(response);
+    }
+
+    /**
+     * Stream task status transitions (assigned, unassigned, started, completed) as Server-Sent Events
+     * Accessible by: all authenticated users
+     * Optional filters narrow the stream to one technician and/or one resulting status;
+     * a Last-Event-ID header resumes after the last event the client received
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStatusChanges(
+            @RequestParam(required = false) Long technicianId,
+            @RequestParam(required = false) Task.TaskStatus status,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Received request to stream task status changes");
+        try {
+            return ResponseEntity.ok(taskStatusStreamService.subscribe(technicianId, status, lastEventId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task status stream request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
@@ -1,26 +1,63 @@
 package com.fieldservices.controller;
 
+import com.fieldservices.dto.BulkTaskResponse;
+import com.fieldservices.dto.TaskBoardResponse;
+import com.fieldservices.dto.TaskChangesResponse;
+import com.fieldservices.dto.TaskEventResponse;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFieldsPageResponse;
+import com.fieldservices.dto.TaskFieldsResponse;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.dto.TaskPageResponse;
 import com.fieldservices.dto.TaskRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSearchResponse;
+import com.fieldservices.dto.TaskSummaryResponse;
+import com.fieldservices.dto.TaskSyncResponse;
+import com.fieldservices.model.Task;
+import com.fieldservices.service.TaskCountersService;
+import com.fieldservices.service.TaskEventLogService;
+import com.fieldservices.service.TaskExportService;
+import com.fieldservices.service.TaskFeedService;
 import com.fieldservices.service.TaskService;
+import com.fieldservices.service.TaskSyncService;
+import com.fieldservices.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST Controller for Task Management
  * 
  * Endpoints:
  * - POST /api/tasks - Create a new task (DISPATCHER, SUPERVISOR)
- * - GET /api/tasks - List all tasks (all authenticated users)
+ * - POST /api/tasks/bulk - Create many tasks at once (DISPATCHER, SUPERVISOR)
+ * - GET /api/tasks - List tasks, keyset-paginated and filterable; history=true includes archived tasks (all authenticated users)
+ * - GET /api/tasks?fields=... - Same list with only the selected fields (all authenticated users)
+ * - GET /api/tasks/search - Full-text search, ranked and paginated (all authenticated users)
+ * - GET /api/tasks/export - Stream all tasks as NDJSON (DISPATCHER, SUPERVISOR)
+ * - GET /api/tasks/changes - Replay task changes missed on /topic/tasks (all authenticated users)
+ * - GET /api/tasks/summary - Task counts by status and priority (all authenticated users)
+ * - GET /api/tasks/board - Open tasks as they stood at a point in time (DISPATCHER, SUPERVISOR)
+ * - GET /api/tasks/sync - Changes to the calling technician's tasks since a sync cursor (TECHNICIAN)
  * - GET /api/tasks/unassigned - List unassigned tasks sorted by priority (all authenticated users)
+ * - GET /api/tasks/unassigned/next - Get the most urgent unassigned task (all authenticated users)
  * - GET /api/tasks/{id} - Get task details (all authenticated users)
+ * - GET /api/tasks/{id}?fields=... - Get only the selected fields of a task (all authenticated users)
+ * - GET /api/tasks/{id}/events - Recorded change history of a task (DISPATCHER, SUPERVISOR)
  * - PUT /api/tasks/{id} - Update task details (DISPATCHER, SUPERVISOR)
  */
 @RestController
@@ -29,7 +66,16 @@ import java.util.List;
 @Slf4j
 public class TaskController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    static final String NDJSON = "application/x-ndjson";
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskFeedService taskFeedService;
+    private final TaskCountersService taskCountersService;
+    private final TaskSyncService taskSyncService;
+    private final TaskEventLogService taskEventLogService;
 
     /**
      * Create a new task
@@ -44,14 +90,201 @@ public class TaskController {
     }
 
     /**
-     * Get all tasks
+     * Create many tasks at once
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * Returns 400 with per-item errors, and creates nothing, if any item is invalid
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<BulkTaskResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+        log.info("Received request to create {} tasks in bulk", requests.size());
+        try {
+            BulkTaskResponse response = taskService.createTasks(requests);
+            if (!response.getErrors().isEmpty()) {
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk task request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get a page of tasks, newest first, optionally filtered
      * Accessible by: all authenticated users
+     * Archived tasks are only included with history=true.
+     * The cursor for the next page is returned in the X-Next-Cursor header.
+     * Returns 304 without touching the database when If-None-Match matches the current list version.
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.info("Received request to get all tasks");
-        List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<TaskResponse>> getTasks(
+            @RequestParam(required = false) Task.TaskStatus status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) Long technicianId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Received request to get tasks");
+        TaskFilter filter = toFilter(status, priority, technicianId, createdFrom, createdTo);
+        try {
+            String etag = taskService.getTaskListETag(status, priority, technicianId, createdFrom, createdTo, cursor, limit,
+                    history);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            TaskPageResponse page = history
+                    ? taskService.getTaskHistory(filter, cursor, limit)
+                    : taskService.getTasks(filter, cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task list request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get tasks with only the fields listed in the comma-separated fields parameter, e.g. fields=id,title,status
+     * Accessible by: all authenticated users
+     * Only the selected columns are read, and only the selected fields are serialized.
+     * Filters, paging and conditional requests work as for the full task list.
+     * Archived tasks have no field projection, so history=true is rejected with 400.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<TaskFieldsResponse>> getTaskFields(
+            @RequestParam(required = false) Task.TaskStatus status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) Long technicianId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Received request to get task fields {}", fields);
+        TaskFilter filter = toFilter(status, priority, technicianId, createdFrom, createdTo);
+        try {
+            if (history) {
+                throw new IllegalArgumentException("fields cannot be combined with history");
+            }
+            Set<TaskField> selected = TaskField.parse(fields);
+            String etag = taskService.getTaskListETag(status, priority, technicianId, createdFrom, createdTo, cursor, limit,
+                    TaskField.format(selected));
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            TaskFieldsPageResponse page = taskService.getTaskFields(filter, cursor, limit, selected);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task fields request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Search tasks by keywords in title, description or client address, best match first
+     * Accessible by: all authenticated users
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.info("Received request to search tasks");
+        try {
+            return ResponseEntity.ok(taskService.searchTasks(q, page, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Export all tasks as newline-delimited JSON
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * The response is streamed while tasks are read, so it is never built in memory
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        log.info("Received request to export tasks");
+        StreamingResponseBody body = taskExportService::exportTasks;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    /**
+     * Get the task changes broadcast on /topic/tasks after the given sequence number
+     * Accessible by: all authenticated users
+     * Clients call this after (re)subscribing; without a sequence only the current position is returned
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(@RequestParam(required = false) Long after) {
+        log.info("Received request to get task changes after sequence {}", after);
+        return ResponseEntity.ok(taskFeedService.getChangesSince(after));
+    }
+
+    /**
+     * Get task counts by status and priority, excluding archived tasks
+     * Accessible by: all authenticated users
+     * Served from in-memory counters, so it is cheap enough to poll from dashboards
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<TaskSummaryResponse> getTaskSummary() {
+        log.debug("Received request to get task summary");
+        return ResponseEntity.ok(taskCountersService.getSummary());
+    }
+
+    /**
+     * Get the open tasks as they stood at the given time, or now
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * Rebuilt from the latest snapshot before that time plus the task events after it
+     */
+    @GetMapping("/board")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<TaskBoardResponse> getTaskBoard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.info("Received request to get task board at {}", at);
+        try {
+            return ResponseEntity.ok(taskEventLogService.getBoardAt(at));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task board request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get the changes to the calling technician's tasks since the given sync cursor
+     * Accessible by: TECHNICIAN
+     * Without a cursor the full list is returned with reset=true; pass the returned cursor on the next call
+     */
+    @GetMapping("/sync")
+    @PreAuthorize("hasRole('TECHNICIAN')")
+    public ResponseEntity<TaskSyncResponse> syncTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        log.info("Received request to sync technician tasks");
+        try {
+            return ResponseEntity.ok(taskSyncService.sync(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task sync request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -59,21 +292,93 @@ public class TaskController {
      * Accessible by: all authenticated users
      */
     @GetMapping("/unassigned")
-    public ResponseEntity<List<TaskResponse>> getUnassignedTasks() {
+    public ResponseEntity<List<TaskResponse>> getUnassignedTasks(@RequestParam(required = false) Integer limit) {
         log.info("Received request to get unassigned tasks");
-        List<TaskResponse> tasks = taskService.getUnassignedTasks();
-        return ResponseEntity.ok(tasks);
+        try {
+            List<TaskResponse> tasks = taskService.getUnassignedTasks(limit);
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid unassigned task query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get the most urgent unassigned task
+     * Accessible by: all authenticated users
+     */
+    @GetMapping("/unassigned/next")
+    public ResponseEntity<TaskResponse> getNextUnassignedTask() {
+        log.info("Received request to get next unassigned task");
+        return taskService.getNextUnassignedTask()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 
     /**
      * Get task by ID
      * Accessible by: all authenticated users
+     * With history=true, a task that has been archived is returned as well
+     * Returns 304 without loading the task when If-None-Match matches its current ETag
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean history,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Received request to get task with id: {}", id);
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        if (ifNoneMatch != null) {
+            Optional<String> etag = taskService.getTaskETag(id);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
+        TaskResponse task = history ? taskService.getTaskByIdIncludingArchive(id) : taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forResource(task.getId(), task.getUpdatedAt()))
+                .body(task);
+    }
+
+    /**
+     * Get only the fields listed in the comma-separated fields parameter of a task
+     * Accessible by: all authenticated users
+     * Returns 304 without loading the task when If-None-Match matches the ETag of this field selection
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<TaskFieldsResponse> getTaskFieldsById(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.info("Received request to get fields {} of task with id: {}", fields, id);
+        Set<TaskField> selected;
+        try {
+            selected = TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid task fields request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (ifNoneMatch != null) {
+            Optional<String> etag = taskService.getTaskETag(id, selected);
+            if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+            }
+        }
+        TaskFieldsResponse task = taskService.getTaskFieldsById(id, selected);
+        return ResponseEntity.ok()
+                .eTag(ETags.forResource(task.getId(), task.getUpdatedAt(), TaskField.format(selected)))
+                .body(task);
+    }
+
+    /**
+     * Get the recorded change history of a task, oldest first
+     * Accessible by: DISPATCHER, SUPERVISOR
+     * History is kept after the task is archived
+     */
+    @GetMapping("/{id}/events")
+    @PreAuthorize("hasAnyRole('DISPATCHER', 'SUPERVISOR')")
+    public ResponseEntity<List<TaskEventResponse>> getTaskEvents(@PathVariable Long id) {
+        log.info("Received request to get event history of task {}", id);
+        return ResponseEntity.ok(taskEventLogService.getTaskHistory(id));
     }
 
     /**
@@ -89,4 +394,15 @@ public class TaskController {
         TaskResponse response = taskService.updateTask(id, request);
         return ResponseEntity.ok(response);
     }
+
+    private TaskFilter toFilter(Task.TaskStatus status, Task.Priority priority, Long technicianId,
+                                LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return TaskFilter.builder()
+                .status(status)
+                .priority(priority)
+                .technicianId(technicianId)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+    }
 }
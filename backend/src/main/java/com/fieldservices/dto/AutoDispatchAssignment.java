@@ -0,0 +1,25 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One task-to-technician pairing chosen by auto-dispatch
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoDispatchAssignment {
+
+    private Long taskId;
+    private String taskTitle;
+    private Task.Priority priority;
+    private Long technicianId;
+    private String technicianUsername;
+    private Double distanceKm; // null when the task or technician location is unknown
+    private double cost;
+}
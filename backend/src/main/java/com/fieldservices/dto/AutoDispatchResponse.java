@@ -0,0 +1,26 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of an auto-dispatch round, either suggested or applied
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoDispatchResponse {
+
+    private List<AutoDispatchAssignment> assignments;
+    private int tasksConsidered;
+    private int techniciansConsidered;
+    private double totalCost;
+    private long solveMillis;
+    private boolean applied;
+    private List<Long> skippedTaskIds; // planned but no longer assignable when applied
+}
@@ -0,0 +1,16 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskError {
+
+    private int index; // position of the rejected item in the request
+    private List<String> messages;
+}
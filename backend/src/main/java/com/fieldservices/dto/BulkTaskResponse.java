@@ -0,0 +1,17 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+
+    private int created;
+    private List<Long> ids; // in request order
+    private List<BulkTaskError> errors; // empty when every item was created
+}
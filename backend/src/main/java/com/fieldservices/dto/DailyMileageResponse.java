@@ -0,0 +1,33 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.DailyMileage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyMileageResponse {
+
+    private Long technicianId;
+    private LocalDate date;
+    private Double distanceKm;
+    private Integer pointCount;
+    private LocalDateTime updatedAt;
+
+    public static DailyMileageResponse fromEntity(DailyMileage mileage) {
+        return DailyMileageResponse.builder()
+                .technicianId(mileage.getTechnicianId())
+                .date(mileage.getMileageDate())
+                .distanceKm(mileage.getDistanceKm())
+                .pointCount(mileage.getPointCount())
+                .updatedAt(mileage.getUpdatedAt())
+                .build();
+    }
+}
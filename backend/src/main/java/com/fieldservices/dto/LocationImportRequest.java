@@ -0,0 +1,24 @@
+package com.fieldservices.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocationImportRequest {
+
+    @NotBlank(message = "File name is required")
+    private String fileName; // relative to the configured import directory
+
+    @NotNull(message = "Format is required")
+    private Format format;
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+}
@@ -0,0 +1,19 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationImportResponse {
+
+    private String fileName;
+    private LocationImportRequest.Format format;
+    private Long rowsImported;
+    private Long elapsedMillis;
+    private Double rowsPerSecond;
+}
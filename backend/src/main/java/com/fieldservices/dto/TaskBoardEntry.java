@@ -0,0 +1,20 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dispatch state of one open task on a reconstructed board
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardEntry {
+
+    private Long taskId;
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private Long assignedTechnicianId;
+}
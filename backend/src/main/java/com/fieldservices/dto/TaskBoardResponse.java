@@ -0,0 +1,24 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Open tasks as they stood at a point in time, rebuilt from the latest snapshot before it
+ * plus the task events recorded after that snapshot.
+ * snapshotAt is null when no snapshot was old enough and the board was replayed from events alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardResponse {
+
+    private LocalDateTime at;
+    private LocalDateTime snapshotAt;
+    private int eventsApplied;
+    private List<TaskBoardEntry> tasks;
+}
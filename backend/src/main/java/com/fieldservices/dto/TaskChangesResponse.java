@@ -0,0 +1,22 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Task changes missed since a sequence number.
+ * When {@code complete} is false the requested changes are no longer retained, and the client
+ * should reload the tasks it displays and continue from {@code lastSequence}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    private List<TaskDelta> changes;
+    private long lastSequence;
+    private boolean complete;
+}
@@ -0,0 +1,19 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of tasks with one status and priority
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCount {
+
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private long count;
+}
@@ -0,0 +1,45 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact description of a committed task change, as pushed on the task change feed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDelta {
+
+    private long sequence;
+    private TaskChangedEvent.Type type;
+    private Long taskId;
+    private String title;
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private Long assignedTechnicianId;
+    private Long version;
+    private LocalDateTime updatedAt;
+
+    public static TaskDelta of(long sequence, TaskChangedEvent event) {
+        TaskResponse task = event.getTask();
+        return TaskDelta.builder()
+                .sequence(sequence)
+                .type(event.getType())
+                .taskId(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .assignedTechnicianId(task.getAssignedTechnicianId())
+                .version(task.getVersion())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskEventResponse {
+
+    private Long id;
+    private Long taskId;
+    private TaskChangedEvent.Type type;
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private Long assignedTechnicianId;
+    private String actor;
+    private LocalDateTime occurredAt;
+
+    public static TaskEventResponse fromEntity(TaskEvent event) {
+        return TaskEventResponse.builder()
+                .id(event.getId())
+                .taskId(event.getTaskId())
+                .type(event.getType())
+                .status(event.getStatus())
+                .priority(event.getPriority())
+                .assignedTechnicianId(event.getAssignedTechnicianId())
+                .actor(event.getActor())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
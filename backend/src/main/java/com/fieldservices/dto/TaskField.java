@@ -0,0 +1,97 @@
+package com.fieldservices.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link TaskResponse} that clients can select with the {@code fields} parameter.
+ * Each field knows the entity attribute it is read from, so a sparse request only selects those columns.
+ */
+public enum TaskField {
+
+    ID("id", null, "id"),
+    TITLE("title", null, "title"),
+    DESCRIPTION("description", null, "description"),
+    CLIENT_ADDRESS("clientAddress", null, "clientAddress"),
+    LATITUDE("latitude", null, "latitude"),
+    LONGITUDE("longitude", null, "longitude"),
+    PRIORITY("priority", null, "priority"),
+    ESTIMATED_DURATION("estimatedDuration", null, "estimatedDuration"),
+    STATUS("status", null, "status"),
+    ASSIGNED_TECHNICIAN_ID("assignedTechnicianId", "assignedTechnician", "id"),
+    ASSIGNED_TECHNICIAN_NAME("assignedTechnicianName", "assignedTechnician", "username"),
+    ASSIGNED_AT("assignedAt", null, "assignedAt"),
+    ASSIGNED_BY_ID("assignedById", "assignedBy", "id"),
+    ASSIGNED_BY_NAME("assignedByName", "assignedBy", "username"),
+    CREATED_AT("createdAt", null, "createdAt"),
+    UPDATED_AT("updatedAt", null, "updatedAt"),
+    STARTED_AT("startedAt", null, "startedAt"),
+    COMPLETED_AT("completedAt", null, "completedAt"),
+    WORK_SUMMARY("workSummary", null, "workSummary"),
+    VERSION("version", null, "version");
+
+    /**
+     * Always selected, whether requested or not: they are needed for cursors and ETags
+     */
+    public static final Set<TaskField> KEY_FIELDS = EnumSet.of(ID, CREATED_AT, UPDATED_AT);
+
+    private static final Map<String, TaskField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskField::getName, Function.identity()));
+
+    private final String name;
+    private final String association;
+    private final String attribute;
+
+    TaskField(String name, String association, String attribute) {
+        this.name = name;
+        this.association = association;
+        this.attribute = attribute;
+    }
+
+    /**
+     * JSON property name, as in {@link TaskResponse}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Task association the value is read through, or null for a column of the tasks table
+     */
+    public String getAssociation() {
+        return association;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Canonical comma-separated form of a selection, in declaration order
+     */
+    public static String format(Set<TaskField> fields) {
+        return fields.stream().map(TaskField::getName).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Parse a comma-separated list of JSON property names, e.g. {@code id,title,status}
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("fields must list at least one field");
+        }
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            TaskField field = BY_NAME.get(name.trim());
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown task field: " + name.trim());
+            }
+            parsed.add(field);
+        }
+        return parsed;
+    }
+}
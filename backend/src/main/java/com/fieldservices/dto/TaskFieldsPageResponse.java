@@ -0,0 +1,16 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFieldsPageResponse {
+
+    private List<TaskFieldsResponse> items;
+    private String nextCursor; // null when this is the last page
+}
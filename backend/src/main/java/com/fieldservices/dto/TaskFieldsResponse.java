@@ -0,0 +1,26 @@
+package com.fieldservices.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A task reduced to the fields a client asked for, serialized as a flat object of just those fields.
+ * The key columns are kept alongside for building cursors and ETags, but only appear in the output when requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFieldsResponse {
+
+    private Long id;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @JsonValue
+    private Map<String, Object> fields;
+}
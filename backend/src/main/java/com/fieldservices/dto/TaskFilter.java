@@ -0,0 +1,25 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for task list queries. Null fields are not applied.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskFilter {
+
+    private Task.TaskStatus status;
+    private Task.Priority priority;
+    private Long technicianId;
+    private LocalDateTime createdFrom; // inclusive
+    private LocalDateTime createdTo;   // exclusive
+}
@@ -1,5 +1,7 @@
 package com.fieldservices.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fieldservices.model.ArchivedTask;
 import com.fieldservices.model.Task;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -18,6 +21,8 @@ public class TaskResponse {
     private String title;
     private String description;
     private String clientAddress;
+    private Double latitude;
+    private Double longitude;
     private Task.Priority priority;
     private Integer estimatedDuration;
     private Task.TaskStatus status;
@@ -31,8 +36,45 @@ public class TaskResponse {
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
     private String workSummary;
+    private Long version;
+
+    // Open tasks at the same normalized address; only set on the response to a create
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Long> possibleDuplicateIds;
 
     public static TaskResponse fromEntity(Task task) {
+        TaskResponseBuilder builder = TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .clientAddress(task.getClientAddress())
+                .latitude(task.getLatitude())
+                .longitude(task.getLongitude())
+                .priority(task.getPriority())
+                .estimatedDuration(task.getEstimatedDuration())
+                .status(task.getStatus())
+                .assignedAt(task.getAssignedAt())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .workSummary(task.getWorkSummary())
+                .version(task.getVersion());
+
+        if (task.getAssignedTechnician() != null) {
+            builder.assignedTechnicianId(task.getAssignedTechnician().getId())
+                   .assignedTechnicianName(task.getAssignedTechnician().getUsername());
+        }
+
+        if (task.getAssignedBy() != null) {
+            builder.assignedById(task.getAssignedBy().getId())
+                   .assignedByName(task.getAssignedBy().getUsername());
+        }
+
+        return builder.build();
+    }
+
+    public static TaskResponse fromArchive(ArchivedTask task) {
         TaskResponseBuilder builder = TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -46,7 +88,8 @@ public class TaskResponse {
                 .updatedAt(task.getUpdatedAt())
                 .startedAt(task.getStartedAt())
                 .completedAt(task.getCompletedAt())
-                .workSummary(task.getWorkSummary());
+                .workSummary(task.getWorkSummary())
+                .version(task.getVersion());
 
         if (task.getAssignedTechnician() != null) {
             builder.assignedTechnicianId(task.getAssignedTechnician().getId())
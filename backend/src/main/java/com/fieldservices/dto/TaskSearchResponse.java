@@ -0,0 +1,18 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+
+    private List<TaskResponse> items; // best match first
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
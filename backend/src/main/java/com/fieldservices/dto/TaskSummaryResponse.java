@@ -0,0 +1,25 @@
+package com.fieldservices.dto;
+
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Task totals by status and by priority, excluding archived tasks.
+ * Maintained in memory from committed changes and corrected against the database every
+ * few minutes, so counts may briefly lag behind concurrent changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryResponse {
+
+    private long total;
+    private Map<Task.TaskStatus, Long> byStatus;
+    private Map<Task.Priority, Long> byPriority;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,43 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a technician's sync: the last task change (updatedAt, id) and the last
+ * tombstone (removedAt, id) the client has received.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+@Data
+@AllArgsConstructor
+public class TaskSyncCursor {
+
+    private LocalDateTime updatedAt;
+    private Long taskId;
+    private LocalDateTime removedAt;
+    private Long tombstoneId;
+
+    public String encode() {
+        String raw = updatedAt + "|" + taskId + "|" + removedAt + "|" + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSyncCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskSyncCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes to a technician's task list since a sync cursor.
+ * Clients upsert {@code changed}, drop {@code removed} and pass {@code cursor} on the next call;
+ * a task may be sent again in a later response, so applying it must be idempotent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSyncResponse {
+
+    private List<TaskResponse> changed; // tasks created or modified, oldest change first
+    private List<Long> removed; // ids of tasks no longer assigned to the technician
+    private String cursor;
+    private boolean hasMore; // call again with the cursor straight away
+    private boolean reset; // discard local tasks first; set when no cursor was sent or it has expired
+}
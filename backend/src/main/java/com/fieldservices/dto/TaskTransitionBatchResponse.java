@@ -0,0 +1,16 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionBatchResponse {
+
+    private int applied;
+    private List<TaskTransitionResult> results; // in request order
+}
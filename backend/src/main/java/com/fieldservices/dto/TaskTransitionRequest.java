@@ -0,0 +1,26 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition recorded by a technician, possibly while offline
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionRequest {
+
+    private Long taskId;
+    private Action action;
+    private LocalDateTime occurredAt; // client time of the action; server time when null
+    private String workSummary; // required for COMPLETE
+
+    public enum Action {
+        START,
+        COMPLETE
+    }
+}
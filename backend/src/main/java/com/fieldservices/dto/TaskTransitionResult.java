@@ -0,0 +1,26 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one transition in a batch
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionResult {
+
+    private int index; // position of the transition in the request
+    private Long taskId;
+    private Outcome outcome;
+    private String message; // reason when the transition was rejected
+    private TaskResponse task; // task after the transition; null when the task does not exist
+
+    public enum Outcome {
+        APPLIED,
+        ALREADY_APPLIED, // the task had already reached the target status, e.g. a replayed transition
+        REJECTED
+    }
+}
@@ -0,0 +1,17 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id and optimistic-locking version of a task
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskVersion {
+
+    private Long id;
+    private Long version;
+}
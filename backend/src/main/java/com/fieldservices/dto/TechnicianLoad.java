@@ -0,0 +1,17 @@
+package com.fieldservices.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of open tasks held by one technician
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnicianLoad {
+
+    private Long technicianId;
+    private long openTasks;
+}
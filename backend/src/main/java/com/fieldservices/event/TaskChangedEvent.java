@@ -0,0 +1,37 @@
+package com.fieldservices.event;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published whenever a task is created or changes.
+ * Listeners that maintain derived state should handle it after the publishing transaction commits.
+ */
+@Value
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+    Type type;
+    TaskResponse task;
+    // Status and priority before the change; null for CREATED
+    Task.TaskStatus previousStatus;
+    Task.Priority previousPriority;
+
+    /**
+     * Event for a newly created task, which has no previous state
+     */
+    public TaskChangedEvent(Type type, TaskResponse task) {
+        this(type, task, null, null);
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        ASSIGNED,
+        UNASSIGNED,
+        STARTED,
+        COMPLETED
+    }
+}
@@ -0,0 +1,19 @@
+package com.fieldservices.event;
+
+import com.fieldservices.model.Task;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a HIGH-priority task misses its SLA for the status it is waiting in
+ */
+@Value
+public class TaskEscalatedEvent {
+
+    Long taskId;
+    Task.TaskStatus status;
+    Long assignedTechnicianId;
+    LocalDateTime deadline;
+    LocalDateTime escalatedAt;
+}
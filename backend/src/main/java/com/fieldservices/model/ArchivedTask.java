@@ -0,0 +1,83 @@
+package com.fieldservices.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed or cancelled task moved out of the tasks table by the archiver.
+ * Same columns as {@link Task}, keeping its id, so history reads can mix both tables.
+ * Rows are written in bulk by {@link com.fieldservices.repository.ArchivedTaskRepository#copyFromTasks}
+ * and are read-only afterwards.
+ */
+@Entity
+@Table(name = "archived_tasks", indexes = {
+    @Index(name = "idx_archived_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_archived_tasks_technician_created_at", columnList = "assigned_technician_id, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(nullable = false, length = 500)
+    private String clientAddress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.Priority priority;
+
+    @Column(name = "priority_rank")
+    private Integer priorityRank;
+
+    @Column
+    private Integer estimatedDuration;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.TaskStatus status;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_technician_id")
+    private User assignedTechnician;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_by_id")
+    private User assignedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "work_summary", length = 2000)
+    private String workSummary;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
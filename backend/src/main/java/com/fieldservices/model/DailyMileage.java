@@ -0,0 +1,54 @@
+package com.fieldservices.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "daily_mileage",
+       uniqueConstraints = @UniqueConstraint(name = "uk_daily_mileage_technician_date",
+                                             columnNames = {"technician_id", "mileage_date"}),
+       indexes = @Index(name = "idx_daily_mileage_date", columnList = "mileage_date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyMileage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Technician ID is required")
+    @Column(name = "technician_id", nullable = false)
+    private Long technicianId;
+
+    @NotNull(message = "Mileage date is required")
+    @Column(name = "mileage_date", nullable = false)
+    private LocalDate mileageDate;
+
+    @Column(name = "distance_km", nullable = false)
+    private Double distanceKm = 0.0;
+
+    @Column(name = "point_count", nullable = false)
+    private Integer pointCount = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+        if (distanceKm == null) {
+            distanceKm = 0.0;
+        }
+        if (pointCount == null) {
+            pointCount = 0;
+        }
+    }
+}
@@ -7,18 +7,42 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at, id"),
+    @Index(name = "idx_tasks_priority_created_at", columnList = "priority, created_at, id"),
+    @Index(name = "idx_tasks_technician_created_at", columnList = "assigned_technician_id, created_at, id"),
+    @Index(name = "idx_tasks_technician_updated_at", columnList = "assigned_technician_id, updated_at, id"),
+    @Index(name = "idx_tasks_status_priority_rank_created_at", columnList = "status, priority_rank, created_at, id"),
+    @Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_tasks_normalized_address_status", columnList = "normalized_address, status")
+})
+@NamedEntityGraph(name = Task.WITH_ASSIGNEES, attributeNodes = {
+    @NamedAttributeNode("assignedTechnician"),
+    @NamedAttributeNode("assignedBy")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    /**
+     * Fetch graph loading the technician and dispatcher together with the task,
+     * for reads that are mapped to TaskResponse
+     */
+    public static final String WITH_ASSIGNEES = "Task.withAssignees";
+
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts; one round-trip reserves 50 ids
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -34,11 +58,24 @@ public class Task {
     @Column(nullable = false, length = 500)
     private String clientAddress;
 
+    // Canonical key of clientAddress from AddressNormalizer, used to find open tasks at the same address
+    @Column(name = "normalized_address", length = 500)
+    private String normalizedAddress;
+
+    // Client location as supplied by the dispatcher; null until known, used for distance in auto-dispatch
+    private Double latitude;
+
+    private Double longitude;
+
     @NotNull(message = "Priority is required")
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Priority priority;
 
+    // Ordinal copy of priority so the unassigned queue can be read in index order
+    @Column(name = "priority_rank")
+    private Integer priorityRank;
+
     @Column
     private Integer estimatedDuration; // in minutes
 
@@ -72,6 +109,16 @@ public class Task {
     @Column(name = "work_summary", length = 2000)
     private String workSummary;
 
+    // Optimistic lock: concurrent assign/start/complete of the same task fail instead of overwriting each other
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+        this.priorityRank = priority != null ? priority.getRank() : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -79,17 +126,38 @@ public class Task {
         if (status == null) {
             status = TaskStatus.UNASSIGNED;
         }
+        syncPriorityRank();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        syncPriorityRank();
+    }
+
+    private void syncPriorityRank() {
+        if (priority != null) {
+            priorityRank = priority.getRank();
+        }
     }
 
     public enum Priority {
-        HIGH,
-        MEDIUM,
-        LOW
+        HIGH(1),
+        MEDIUM(2),
+        LOW(3);
+
+        private final int rank;
+
+        Priority(int rank) {
+            this.rank = rank;
+        }
+
+        /**
+         * Sort rank, lower is more urgent
+         */
+        public int getRank() {
+            return rank;
+        }
     }
 
     public enum TaskStatus {
@@ -0,0 +1,55 @@
+package com.fieldservices.model;
+
+import com.fieldservices.event.TaskChangedEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of one task change, holding the task's dispatch state after the change.
+ * Rows are never updated or deleted, and survive archiving of the task itself.
+ */
+@Entity
+@Table(name = "task_events", indexes = {
+    @Index(name = "idx_task_events_task_occurred_at", columnList = "task_id, occurred_at, id"),
+    @Index(name = "idx_task_events_occurred_at", columnList = "occurred_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    // Pooled sequence so the events of a transaction are written in one batch at flush
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_events_seq")
+    @SequenceGenerator(name = "task_events_seq", sequenceName = "task_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskChangedEvent.Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Task.TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Task.Priority priority;
+
+    @Column(name = "assigned_technician_id")
+    private Long assignedTechnicianId;
+
+    // Username of the caller that made the change; null for changes made by the system
+    @Column(length = 100)
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
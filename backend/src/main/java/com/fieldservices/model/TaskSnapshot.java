@@ -0,0 +1,43 @@
+package com.fieldservices.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dispatch state of one open task at the time a periodic snapshot was taken.
+ * Board state at a point in time is the latest snapshot before it plus the task events after that snapshot.
+ */
+@Entity
+@Table(name = "task_snapshots", indexes = {
+    @Index(name = "idx_task_snapshots_taken_at", columnList = "taken_at, task_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Task.TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Task.Priority priority;
+
+    @Column(name = "assigned_technician_id")
+    private Long assignedTechnicianId;
+}
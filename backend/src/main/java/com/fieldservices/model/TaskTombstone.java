@@ -0,0 +1,45 @@
+package com.fieldservices.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record that a task left a technician's task list, so syncing clients can drop it.
+ * Kept for a limited time; clients whose sync position is older start over with a full sync.
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+    @Index(name = "idx_task_tombstones_technician_removed_at", columnList = "technician_id, removed_at, id"),
+    @Index(name = "idx_task_tombstones_removed_at", columnList = "removed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "technician_id", nullable = false)
+    private Long technicianId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    public enum Reason {
+        UNASSIGNED,
+        ARCHIVED
+    }
+}
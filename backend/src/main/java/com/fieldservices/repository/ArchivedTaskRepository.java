@@ -0,0 +1,46 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long>, ArchivedTaskRepositoryCustom {
+
+    /**
+     * Copy the given tasks into the archive, skipping any that are no longer in one of the given statuses
+     * or were modified after the cutoff. Declares archived_tasks as the only table touched, so Hibernate
+     * does not clear the whole second-level cache as it would for an arbitrary native statement.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "archived_tasks"))
+    @Query(value = "INSERT INTO archived_tasks (id, title, description, client_address, priority, priority_rank, " +
+                   "estimated_duration, status, assigned_technician_id, assigned_at, assigned_by_id, created_at, " +
+                   "updated_at, started_at, completed_at, work_summary, version, archived_at) " +
+                   "SELECT id, title, description, client_address, priority, priority_rank, " +
+                   "estimated_duration, status, assigned_technician_id, assigned_at, assigned_by_id, created_at, " +
+                   "updated_at, started_at, completed_at, work_summary, version, :archivedAt " +
+                   "FROM tasks WHERE id IN (:ids) AND status IN (:statuses) AND updated_at < :cutoff",
+           nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids,
+                      @Param("statuses") Collection<String> statuses,
+                      @Param("cutoff") LocalDateTime cutoff,
+                      @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Find an archived task with its technician and dispatcher loaded in the same query
+     */
+    @EntityGraph(attributePaths = {"assignedTechnician", "assignedBy"})
+    Optional<ArchivedTask> findWithAssigneesById(Long id);
+}
@@ -0,0 +1,16 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.model.ArchivedTask;
+
+import java.util.List;
+
+public interface ArchivedTaskRepositoryCustom {
+
+    /**
+     * Find a page of archived tasks with the same filter, order and cursor semantics as
+     * {@link TaskRepositoryCustom#findPage}, so pages of both tables can be merged
+     */
+    List<ArchivedTask> findPage(TaskFilter filter, TaskCursor after, int limit);
+}
@@ -0,0 +1,36 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.model.ArchivedTask;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+public class ArchivedTaskRepositoryImpl implements ArchivedTaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ArchivedTask> findPage(TaskFilter filter, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArchivedTask> query = cb.createQuery(ArchivedTask.class);
+        Root<ArchivedTask> task = query.from(ArchivedTask.class);
+        task.fetch("assignedTechnician", JoinType.LEFT);
+        task.fetch("assignedBy", JoinType.LEFT);
+
+        query.select(task)
+             .where(TaskRepositoryImpl.pagePredicates(cb, task, filter, after))
+             .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
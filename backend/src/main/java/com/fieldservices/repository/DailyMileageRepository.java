@@ -0,0 +1,29 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.DailyMileage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyMileageRepository extends JpaRepository<DailyMileage, Long> {
+
+    /**
+     * Find all technician summaries for a single day
+     */
+    List<DailyMileage> findByMileageDateOrderByTechnicianId(LocalDate mileageDate);
+
+    /**
+     * Find summaries for a set of technicians on a single day (used when flushing)
+     */
+    List<DailyMileage> findByMileageDateAndTechnicianIdIn(LocalDate mileageDate, Collection<Long> technicianIds);
+
+    /**
+     * Find summaries for a technician within a date range (inclusive)
+     */
+    List<DailyMileage> findByTechnicianIdAndMileageDateBetweenOrderByMileageDate(
+            Long technicianId, LocalDate from, LocalDate to);
+}
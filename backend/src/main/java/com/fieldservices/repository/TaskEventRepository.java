@@ -0,0 +1,26 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.TaskEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+
+    /**
+     * Full history of one task, oldest first, read along idx_task_events_task_occurred_at
+     */
+    List<TaskEvent> findByTaskIdOrderByOccurredAtAscIdAsc(Long taskId);
+
+    /**
+     * Events of all tasks in (from, to], in the order they happened, read along idx_task_events_occurred_at
+     */
+    @Query("SELECT e FROM TaskEvent e WHERE e.occurredAt > :from AND e.occurredAt <= :to " +
+           "ORDER BY e.occurredAt, e.id")
+    List<TaskEvent> findBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,34 +1,184 @@
 package com.fieldservices.repository;
 
+import com.fieldservices.dto.TaskCount;
+import com.fieldservices.dto.TaskVersion;
+import com.fieldservices.dto.TechnicianLoad;
 import com.fieldservices.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     /**
-     * Find all unassigned tasks sorted by priority (HIGH, MEDIUM, LOW)
+     * Find unassigned tasks sorted by priority (HIGH, MEDIUM, LOW), oldest first within a priority.
+     * The order matches idx_tasks_status_priority_rank_created_at, so a limited page is read
+     * straight from the index instead of sorting every unassigned row.
      */
-    @Query("SELECT t FROM Task t WHERE t.assignedTechnician IS NULL " +
-           "AND t.status = 'UNASSIGNED' " +
-           "ORDER BY CASE t.priority " +
-           "  WHEN 'HIGH' THEN 1 " +
-           "  WHEN 'MEDIUM' THEN 2 " +
-           "  WHEN 'LOW' THEN 3 " +
-           "END")
-    List<Task> findUnassignedTasksSortedByPriority();
+    @EntityGraph(Task.WITH_ASSIGNEES)
+    @Query("SELECT t FROM Task t WHERE t.status = 'UNASSIGNED' " +
+           "AND t.assignedTechnician IS NULL " +
+           "ORDER BY t.priorityRank, t.createdAt, t.id")
+    List<Task> findUnassignedTasksSortedByPriority(Pageable pageable);
+
+    /**
+     * Tasks of one priority in the given statuses, using the status/priority index
+     */
+    List<Task> findByStatusInAndPriorityRank(Collection<Task.TaskStatus> statuses, Integer priorityRank);
+
+    /**
+     * Fill in priority_rank for rows written before the column existed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.priorityRank = :rank WHERE t.priority = :priority AND t.priorityRank IS NULL")
+    int backfillPriorityRank(@Param("priority") Task.Priority priority, @Param("rank") int rank);
+
+    /**
+     * Initialize the optimistic lock version for rows written before the column existed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.version = 0 WHERE t.version IS NULL")
+    int backfillVersion();
+
+    /**
+     * Tasks written before normalized_address existed, in id order after the given id
+     */
+    List<Task> findByNormalizedAddressIsNullAndIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    /**
+     * Fill in normalized_address for one task without changing its version or modification time
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.normalizedAddress = :normalizedAddress WHERE t.id = :id")
+    int backfillNormalizedAddress(@Param("id") Long id, @Param("normalizedAddress") String normalizedAddress);
+
+    /**
+     * Ids of tasks in one of the given statuses last modified before the cutoff, oldest first,
+     * read along idx_tasks_updated_at
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.status IN :statuses AND t.updatedAt < :cutoff ORDER BY t.updatedAt, t.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<Task.TaskStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    /**
+     * Delete tasks that have been copied to the archive, re-checking the conditions they were copied under
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.status IN :statuses AND t.updatedAt < :cutoff")
+    int deleteArchived(@Param("ids") Collection<Long> ids,
+                       @Param("statuses") Collection<Task.TaskStatus> statuses,
+                       @Param("cutoff") LocalDateTime cutoff);
 
     /**
      * Find tasks by status
      */
+    @EntityGraph(Task.WITH_ASSIGNEES)
     List<Task> findByStatus(Task.TaskStatus status);
 
+    /**
+     * Ids of tasks with one of the given statuses at a normalized address, served by the normalized address index
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.normalizedAddress = :normalizedAddress AND t.status IN :statuses " +
+           "ORDER BY t.id")
+    List<Long> findIdsByNormalizedAddress(@Param("normalizedAddress") String normalizedAddress,
+                                          @Param("statuses") Collection<Task.TaskStatus> statuses);
+
     /**
      * Find tasks assigned to a specific technician
      */
+    @EntityGraph(Task.WITH_ASSIGNEES)
     List<Task> findByAssignedTechnicianId(Long technicianId);
+
+    /**
+     * Find a task with its technician and dispatcher loaded in the same query
+     */
+    @EntityGraph(Task.WITH_ASSIGNEES)
+    Optional<Task> findWithAssigneesById(Long id);
+
+    /**
+     * Tasks assigned to a technician after an (updatedAt, id) position, least recently changed first,
+     * read along idx_tasks_technician_updated_at
+     */
+    @EntityGraph(Task.WITH_ASSIGNEES)
+    @Query("SELECT t FROM Task t WHERE t.assignedTechnician.id = :technicianId " +
+           "AND (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) " +
+           "ORDER BY t.updatedAt, t.id")
+    List<Task> findSyncPage(@Param("technicianId") Long technicianId,
+                            @Param("updatedAt") LocalDateTime updatedAt,
+                            @Param("id") Long id,
+                            Pageable pageable);
+
+    /**
+     * Which of the given tasks are currently assigned to a technician
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.assignedTechnician.id = :technicianId")
+    List<Long> findIdsAssignedTo(@Param("ids") Collection<Long> ids, @Param("technicianId") Long technicianId);
+
+    /**
+     * Find tasks by id with technician and dispatcher loaded, in no particular order
+     */
+    @EntityGraph(Task.WITH_ASSIGNEES)
+    List<Task> findWithAssigneesByIdIn(Collection<Long> ids);
+
+    /**
+     * Last modification time of a task, without loading the entity
+     */
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Number of tasks per status and priority combination; combinations without tasks are omitted
+     */
+    @Query("SELECT new com.fieldservices.dto.TaskCount(t.status, t.priority, COUNT(t)) FROM Task t " +
+           "GROUP BY t.status, t.priority")
+    List<TaskCount> countByStatusAndPriority();
+
+    /**
+     * Id and version of every task modified at or after the given time
+     */
+    @Query("SELECT new com.fieldservices.dto.TaskVersion(t.id, t.version) FROM Task t WHERE t.updatedAt >= :since")
+    List<TaskVersion> findVersionsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Number of tasks in the given statuses per assigned technician; technicians without such tasks are omitted
+     */
+    @Query("SELECT new com.fieldservices.dto.TechnicianLoad(t.assignedTechnician.id, COUNT(t)) FROM Task t " +
+           "WHERE t.status IN :statuses AND t.assignedTechnician IS NOT NULL GROUP BY t.assignedTechnician.id")
+    List<TechnicianLoad> countByAssignedTechnician(@Param("statuses") Collection<Task.TaskStatus> statuses);
+
+    /**
+     * Stream every task with its technician and dispatcher for export.
+     * Rows are fetched from the database in chunks instead of being loaded all at once, and bypass the
+     * second-level cache so an export does not evict hot entries; the caller must consume the stream
+     * inside a transaction and close it.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t " +
+           "LEFT JOIN FETCH t.assignedTechnician " +
+           "LEFT JOIN FETCH t.assignedBy " +
+           "ORDER BY t.id")
+    Stream<Task> streamAllForExport();
 }
@@ -0,0 +1,40 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.model.Task;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Task queries that are built dynamically and cannot be expressed as derived or @Query methods
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Find a page of tasks matching the filter, ordered by createdAt and id (newest first),
+     * starting strictly after the given cursor (or from the beginning when the cursor is null)
+     */
+    List<Task> findPage(TaskFilter filter, TaskCursor after, int limit);
+
+    /**
+     * Same page as {@link #findPage}, selecting only the given fields plus {@link TaskField#KEY_FIELDS}.
+     * Each tuple element is aliased with the field's JSON name.
+     */
+    List<Tuple> findPageFields(TaskFilter filter, TaskCursor after, int limit, Set<TaskField> fields);
+
+    /**
+     * The given fields plus {@link TaskField#KEY_FIELDS} of the tasks with these ids, in no particular order
+     */
+    List<Tuple> findFieldsByIdIn(Collection<Long> ids, Set<TaskField> fields);
+
+    /**
+     * Ids of tasks matching a free-text query over title, description and client address, best match first.
+     * Uses the search_vector full-text index on PostgreSQL and a case-insensitive LIKE scan elsewhere.
+     */
+    List<Long> searchIds(String query, int offset, int limit);
+}
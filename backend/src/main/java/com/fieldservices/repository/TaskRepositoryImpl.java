@@ -0,0 +1,192 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    // search_vector and its GIN index are created by PostgresSchemaInitializer
+    private static final String FULL_TEXT_SEARCH =
+            "SELECT t.id FROM tasks t, websearch_to_tsquery('english', :query) q " +
+            "WHERE t.search_vector @@ q " +
+            "ORDER BY ts_rank(t.search_vector, q) DESC, t.id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        query.select(task)
+             .where(pagePredicates(cb, task, filter, after))
+             .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+
+        // Load technician and dispatcher in the same select instead of one lazy load per row
+        return entityManager.createQuery(query)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Task.WITH_ASSIGNEES))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findPageFields(TaskFilter filter, TaskCursor after, int limit, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        query.multiselect(selections(task, fields))
+             .where(pagePredicates(cb, task, filter, after))
+             .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIdIn(Collection<Long> ids, Set<TaskField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+
+        query.multiselect(selections(task, fields))
+             .where(task.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Filter and keyset predicates of a task page; shared with the archive, which has the same attributes
+     */
+    static Predicate[] pagePredicates(CriteriaBuilder cb, Root<?> task, TaskFilter filter, TaskCursor after) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(task.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(task.get("priority"), filter.getPriority()));
+            }
+            if (filter.getTechnicianId() != null) {
+                predicates.add(cb.equal(task.get("assignedTechnician").get("id"), filter.getTechnicianId()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(task.<LocalDateTime>get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(task.<LocalDateTime>get("createdAt"), filter.getCreatedTo()));
+            }
+        }
+
+        // Keyset condition: (createdAt, id) < (cursor.createdAt, cursor.id)
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(task.<LocalDateTime>get("createdAt"), after.getCreatedAt()),
+                    cb.and(cb.equal(task.get("createdAt"), after.getCreatedAt()),
+                           cb.lessThan(task.<Long>get("id"), after.getId()))));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * One aliased selection per requested field plus the key fields; technician and dispatcher
+     * are only joined when one of their fields is requested
+     */
+    private List<Selection<?>> selections(Root<Task> task, Set<TaskField> fields) {
+        Set<TaskField> selected = EnumSet.copyOf(TaskField.KEY_FIELDS);
+        selected.addAll(fields);
+
+        Map<String, Join<Task, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TaskField field : selected) {
+            Path<?> path = field.getAssociation() == null
+                    ? task.get(field.getAttribute())
+                    : joins.computeIfAbsent(field.getAssociation(), association -> task.join(association, JoinType.LEFT))
+                           .get(field.getAttribute());
+            selections.add(path.alias(field.getName()));
+        }
+        return selections;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> searchIds(String query, int offset, int limit) {
+        if (isPostgres()) {
+            List<Number> ids = entityManager.createNativeQuery(FULL_TEXT_SEARCH)
+                    .setParameter("query", query)
+                    .setParameter("limit", limit)
+                    .setParameter("offset", offset)
+                    .getResultList();
+            return ids.stream().map(Number::longValue).toList();
+        }
+        return likeSearchIds(query, offset, limit);
+    }
+
+    /**
+     * Fallback for databases without full-text search: every term must appear in one of the fields
+     */
+    private List<Long> likeSearchIds(String query, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = cb.createQuery(Long.class);
+        Root<Task> task = criteria.from(Task.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (String term : query.trim().toLowerCase().split("\\s+")) {
+            String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(task.get("title")), pattern, '\\'),
+                    cb.like(cb.lower(task.get("description")), pattern, '\\'),
+                    cb.like(cb.lower(task.get("clientAddress")), pattern, '\\')));
+        }
+
+        criteria.select(task.get("id"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(task.get("id")));
+
+        return entityManager.createQuery(criteria)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
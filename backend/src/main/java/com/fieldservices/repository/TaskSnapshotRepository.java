@@ -0,0 +1,39 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.TaskSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskSnapshotRepository extends JpaRepository<TaskSnapshot, Long> {
+
+    /**
+     * Time of the latest snapshot taken at or before the given time
+     */
+    @Query("SELECT MAX(s.takenAt) FROM TaskSnapshot s WHERE s.takenAt <= :at")
+    Optional<LocalDateTime> findLatestTakenAt(@Param("at") LocalDateTime at);
+
+    List<TaskSnapshot> findByTakenAt(LocalDateTime takenAt);
+
+    /**
+     * Copy the dispatch state of every task in the given statuses into a snapshot, in a single statement
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_snapshots"))
+    @Query(value = "INSERT INTO task_snapshots (taken_at, task_id, status, priority, assigned_technician_id) " +
+                   "SELECT :takenAt, id, status, priority, assigned_technician_id FROM tasks " +
+                   "WHERE status IN (:statuses)",
+           nativeQuery = true)
+    int recordSnapshot(@Param("takenAt") LocalDateTime takenAt, @Param("statuses") Collection<String> statuses);
+}
@@ -0,0 +1,57 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.TaskTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Tombstones of one technician after a (removedAt, id) position, oldest first,
+     * read along idx_task_tombstones_technician_removed_at
+     */
+    @Query("SELECT b FROM TaskTombstone b WHERE b.technicianId = :technicianId " +
+           "AND (b.removedAt > :removedAt OR (b.removedAt = :removedAt AND b.id > :id)) " +
+           "ORDER BY b.removedAt, b.id")
+    List<TaskTombstone> findSyncPage(@Param("technicianId") Long technicianId,
+                                     @Param("removedAt") LocalDateTime removedAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * Record tombstones for the assigned tasks among those about to be archived, with the same
+     * conditions as ArchivedTaskRepository.copyFromTasks so both cover exactly the same rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_tombstones"))
+    @Query(value = "INSERT INTO task_tombstones (task_id, technician_id, reason, removed_at) " +
+                   "SELECT id, assigned_technician_id, 'ARCHIVED', :removedAt FROM tasks " +
+                   "WHERE id IN (:ids) AND status IN (:statuses) AND updated_at < :cutoff " +
+                   "AND assigned_technician_id IS NOT NULL",
+           nativeQuery = true)
+    int recordArchived(@Param("ids") Collection<Long> ids,
+                       @Param("statuses") Collection<String> statuses,
+                       @Param("cutoff") LocalDateTime cutoff,
+                       @Param("removedAt") LocalDateTime removedAt);
+
+    /**
+     * Delete tombstones older than the retention cutoff
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskTombstone b WHERE b.removedAt < :cutoff")
+    int deleteRemovedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
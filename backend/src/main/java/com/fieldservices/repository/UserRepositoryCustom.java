@@ -0,0 +1,17 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.User;
+
+import java.util.Optional;
+
+/**
+ * User lookups that go through Hibernate APIs not exposed by Spring Data
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find a user by username via the natural-id cache, so repeated lookups (every authenticated
+     * request, every assignment) are served from the second-level cache instead of the database
+     */
+    Optional<User> findByUsername(String username);
+}
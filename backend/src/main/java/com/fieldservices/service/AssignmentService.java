@@ -3,20 +3,28 @@ package com.fieldservices.service;
 import com.fieldservices.dto.AssignmentRequest;
 import com.fieldservices.dto.TaskResponse;
 import com.fieldservices.dto.TechnicianResponse;
+import com.fieldservices.event.TaskChangedEvent;
 import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskTombstone;
 import com.fieldservices.model.User;
 import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
 import com.fieldservices.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +34,9 @@ public class AssignmentService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Assign a task to a technician
@@ -59,24 +69,129 @@ public class AssignmentService {
             throw new IllegalStateException("Technician is not available");
         }
 
-        // Get the dispatcher who is assigning the task
+        User dispatcher = currentUser();
+        TaskResponse response = assign(task, technician, dispatcher);
+        log.info("Task {} assigned successfully to technician {}", taskId, technician.getUsername());
+        return response;
+    }
+
+    /**
+     * Assign several tasks at once, as planned by auto-dispatch.
+     * The plan may be stale by the time it is applied, so tasks that are no longer unassigned and
+     * technicians that are no longer available are skipped instead of failing the whole batch.
+     *
+     * @param technicianIdByTaskId technician to assign, keyed by task id
+     * @return the tasks that were assigned
+     */
+    @Transactional
+    public List<TaskResponse> assignTasks(Map<Long, Long> technicianIdByTaskId) {
+        if (technicianIdByTaskId.isEmpty()) {
+            return List.of();
+        }
+        log.info("Assigning {} tasks in one batch", technicianIdByTaskId.size());
+
+        Map<Long, User> technicians = userRepository.findAllById(new HashSet<>(technicianIdByTaskId.values())).stream()
+                .filter(user -> user.getRole() == User.Role.TECHNICIAN && Boolean.TRUE.equals(user.getActive()))
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        User dispatcher = currentUser();
+
+        List<TaskResponse> assigned = new ArrayList<>();
+        for (Task task : taskRepository.findWithAssigneesByIdIn(technicianIdByTaskId.keySet())) {
+            User technician = technicians.get(technicianIdByTaskId.get(task.getId()));
+            if (task.getStatus() != Task.TaskStatus.UNASSIGNED || task.getAssignedTechnician() != null
+                    || technician == null) {
+                log.info("Skipping task {}: no longer assignable to technician {}",
+                        task.getId(), technicianIdByTaskId.get(task.getId()));
+                continue;
+            }
+            assigned.add(assign(task, technician, dispatcher));
+        }
+        log.info("Assigned {} of {} tasks", assigned.size(), technicianIdByTaskId.size());
+        return assigned;
+    }
+
+    /**
+     * Take a task back from its technician so it can be dispatched again
+     * Only tasks that have not been started can be unassigned
+     */
+    @Transactional
+    public TaskResponse unassignTask(Long taskId) {
+        log.info("Unassigning task {}", taskId);
+
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
+
+        if (task.getStatus() != Task.TaskStatus.ASSIGNED) {
+            throw new IllegalStateException(
+                String.format("Cannot unassign task with status %s. Only ASSIGNED tasks can be unassigned.",
+                    task.getStatus())
+            );
+        }
+
+        Long technicianId = task.getAssignedTechnician().getId();
+        task.setAssignedTechnician(null);
+        task.setAssignedAt(null);
+        task.setAssignedBy(null);
+        task.setStatus(Task.TaskStatus.UNASSIGNED);
+
+        // Flush so the response carries the new version and updatedAt
+        Task unassignedTask = taskRepository.saveAndFlush(task);
+        // The task no longer shows up in the technician's changes, so tell their sync explicitly
+        taskTombstoneRepository.save(new TaskTombstone(null, taskId, technicianId,
+                TaskTombstone.Reason.UNASSIGNED, LocalDateTime.now()));
+        log.info("Task {} unassigned from technician {}", taskId, technicianId);
+
+        TaskResponse response = TaskResponse.fromEntity(unassignedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UNASSIGNED, response,
+                Task.TaskStatus.ASSIGNED, response.getPriority()));
+        return response;
+    }
+
+    /**
+     * Get all available technicians
+     */
+    @Transactional(readOnly = true)
+    public List<TechnicianResponse> getAvailableTechnicians() {
+        log.info("Fetching available technicians");
+        
+        List<User> technicians = userRepository.findByRoleAndActive(User.Role.TECHNICIAN, true);
+        
+        return technicians.stream()
+                .map(TechnicianResponse::fromUser)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The dispatcher who is assigning tasks
+     */
+    private User currentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName();
-        User dispatcher = userRepository.findByUsername(currentUsername)
+        return userRepository.findByUsername(currentUsername)
                 .orElseThrow(() -> new EntityNotFoundException("Current user not found"));
+    }
 
-        // Assign the task
+    /**
+     * Hand a task to a technician, publish the change and notify the customer
+     */
+    private TaskResponse assign(Task task, User technician, User dispatcher) {
+        Task.TaskStatus previousStatus = task.getStatus();
         task.setAssignedTechnician(technician);
         task.setAssignedAt(LocalDateTime.now());
         task.setAssignedBy(dispatcher);
         task.setStatus(Task.TaskStatus.ASSIGNED);
 
-        Task assignedTask = taskRepository.save(task);
-        log.info("Task {} assigned successfully to technician {}", taskId, technician.getUsername());
+        // Flush so the response carries the new version and updatedAt
+        Task assignedTask = taskRepository.saveAndFlush(task);
+
+        TaskResponse response = TaskResponse.fromEntity(assignedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED, response,
+                previousStatus, response.getPriority()));
 
         // Trigger notification to customer
         // Note: Using placeholder customer ID and email since customer management is not in scope
         // In a real implementation, this would come from the Task entity or a Customer service
+        Long taskId = task.getId();
         Long customerId = 1L; // Placeholder customer ID
         String customerEmail = "customer@example.com"; // Placeholder customer email
         
@@ -88,20 +203,6 @@ public class AssignmentService {
             log.error("Failed to send assignment notification for task {}: {}", taskId, e.getMessage());
         }
 
-        return TaskResponse.fromEntity(assignedTask);
-    }
-
-    /**
-     * Get all available technicians
-     */
-    @Transactional(readOnly = true)
-    public List<TechnicianResponse> getAvailableTechnicians() {
-        log.info("Fetching available technicians");
-        
-        List<User> technicians = userRepository.findByRoleAndActive(User.Role.TECHNICIAN, true);
-        
-        return technicians.stream()
-                .map(TechnicianResponse::fromUser)
-                .collect(Collectors.toList());
+        return response;
     }
 }
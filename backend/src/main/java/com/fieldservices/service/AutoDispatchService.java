@@ -0,0 +1,217 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.AutoDispatchAssignment;
+import com.fieldservices.dto.AutoDispatchResponse;
+import com.fieldservices.dto.LocationResponse;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TechnicianLoad;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.UserRepository;
+import com.fieldservices.util.AssignmentSolver;
+import com.fieldservices.util.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Pairs unassigned tasks with available technicians at minimum total cost.
+ * A pairing costs the travel distance in km plus penalties for lower priority and for the technician's
+ * current load, so HIGH-priority tasks and idle technicians win when there is not enough of the other.
+ * Each technician receives at most one task per round; running rounds repeatedly fills up to max-open-tasks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutoDispatchService {
+
+    private static final Set<Task.TaskStatus> LOAD_STATUSES = Set.of(Task.TaskStatus.ASSIGNED, Task.TaskStatus.IN_PROGRESS);
+
+    private final DispatchBacklogService dispatchBacklogService;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final LocationService locationService;
+    private final AssignmentService assignmentService;
+
+    @Value("${auto-dispatch.max-open-tasks:3}")
+    private int maxOpenTasks;
+
+    @Value("${auto-dispatch.max-tasks:2000}")
+    private int maxTasks;
+
+    @Value("${auto-dispatch.priority-weight-km:25}")
+    private double priorityWeightKm;
+
+    @Value("${auto-dispatch.load-weight-km:10}")
+    private double loadWeightKm;
+
+    @Value("${auto-dispatch.unknown-distance-km:50}")
+    private double unknownDistanceKm;
+
+    /**
+     * Plan a round of assignments without changing anything
+     */
+    @Transactional(readOnly = true)
+    public AutoDispatchResponse suggest() {
+        return plan();
+    }
+
+    /**
+     * Plan a round of assignments and assign them in one transaction.
+     * Pairings whose task or technician changed since the plan was made are skipped.
+     */
+    @Transactional
+    public AutoDispatchResponse apply() {
+        AutoDispatchResponse plan = plan();
+        Map<Long, Long> technicianIdByTaskId = new LinkedHashMap<>();
+        plan.getAssignments().forEach(a -> technicianIdByTaskId.put(a.getTaskId(), a.getTechnicianId()));
+
+        Set<Long> assignedIds = assignmentService.assignTasks(technicianIdByTaskId).stream()
+                .map(TaskResponse::getId)
+                .collect(Collectors.toSet());
+        List<AutoDispatchAssignment> applied = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (AutoDispatchAssignment assignment : plan.getAssignments()) {
+            if (assignedIds.contains(assignment.getTaskId())) {
+                applied.add(assignment);
+            } else {
+                skipped.add(assignment.getTaskId());
+            }
+        }
+        plan.setAssignments(applied);
+        plan.setTotalCost(applied.stream().mapToDouble(AutoDispatchAssignment::getCost).sum());
+        plan.setApplied(true);
+        plan.setSkippedTaskIds(skipped);
+        log.info("Auto-dispatch applied {} assignments, skipped {}", applied.size(), skipped.size());
+        return plan;
+    }
+
+    private AutoDispatchResponse plan() {
+        List<TaskResponse> tasks = unassignedTasks();
+        Map<Long, Long> loads = currentLoads();
+        List<User> technicians = availableTechnicians(loads);
+        Map<Long, LocationResponse> locations = new HashMap<>();
+        for (LocationResponse location : locationService.getAllTechnicianLocations()) {
+            locations.put(location.getUserId(), location);
+        }
+
+        int taskCount = tasks.size();
+        int technicianCount = technicians.size();
+        List<AutoDispatchAssignment> assignments = new ArrayList<>();
+        long started = System.nanoTime();
+        if (taskCount > 0 && technicianCount > 0) {
+            // The solver matches every row, so rows are whichever side is scarcer
+            boolean technicianRows = technicianCount <= taskCount;
+            int rows = technicianRows ? technicianCount : taskCount;
+            int cols = technicianRows ? taskCount : technicianCount;
+            double[][] technicianPositions = new double[technicianCount][];
+            double[] loadCosts = new double[technicianCount];
+            for (int k = 0; k < technicianCount; k++) {
+                Long technicianId = technicians.get(k).getId();
+                LocationResponse location = locations.get(technicianId);
+                technicianPositions[k] = location != null
+                        ? GeoUtils.toUnitVector(location.getLatitude(), location.getLongitude()) : null;
+                loadCosts[k] = loadWeightKm * loads.getOrDefault(technicianId, 0L);
+            }
+            double[][] taskPositions = new double[taskCount][];
+            double[] priorityCosts = new double[taskCount];
+            for (int t = 0; t < taskCount; t++) {
+                TaskResponse task = tasks.get(t);
+                taskPositions[t] = task.getLatitude() != null && task.getLongitude() != null
+                        ? GeoUtils.toUnitVector(task.getLatitude(), task.getLongitude()) : null;
+                priorityCosts[t] = priorityWeightKm * (task.getPriority().getRank() - 1);
+            }
+            // Filled in row-major order so the writes stay sequential
+            double[] cost = new double[rows * cols];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    int t = technicianRows ? col : row;
+                    int k = technicianRows ? row : col;
+                    double travelCost = taskPositions[t] != null && technicianPositions[k] != null
+                            ? GeoUtils.distanceKm(taskPositions[t], technicianPositions[k]) : unknownDistanceKm;
+                    cost[row * cols + col] = travelCost + priorityCosts[t] + loadCosts[k];
+                }
+            }
+
+            int[] match = AssignmentSolver.solve(cost, rows, cols);
+            for (int row = 0; row < rows; row++) {
+                int t = technicianRows ? match[row] : row;
+                int k = technicianRows ? row : match[row];
+                TaskResponse task = tasks.get(t);
+                User technician = technicians.get(k);
+                assignments.add(AutoDispatchAssignment.builder()
+                        .taskId(task.getId())
+                        .taskTitle(task.getTitle())
+                        .priority(task.getPriority())
+                        .technicianId(technician.getId())
+                        .technicianUsername(technician.getUsername())
+                        .distanceKm(distanceKm(taskPositions[t], technicianPositions[k]))
+                        .cost(cost[row * cols + match[row]])
+                        .build());
+            }
+            assignments.sort(Comparator.comparing(AutoDispatchAssignment::getTaskId));
+        }
+        long solveMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Auto-dispatch planned {} assignments for {} tasks and {} technicians in {} ms",
+                assignments.size(), taskCount, technicianCount, solveMillis);
+
+        return AutoDispatchResponse.builder()
+                .assignments(assignments)
+                .tasksConsidered(taskCount)
+                .techniciansConsidered(technicianCount)
+                .totalCost(assignments.stream().mapToDouble(AutoDispatchAssignment::getCost).sum())
+                .solveMillis(solveMillis)
+                .applied(false)
+                .skippedTaskIds(List.of())
+                .build();
+    }
+
+    /**
+     * The most urgent unassigned tasks, up to max-tasks
+     */
+    private List<TaskResponse> unassignedTasks() {
+        if (dispatchBacklogService.isReady()) {
+            return dispatchBacklogService.top(maxTasks);
+        }
+        return taskRepository.findUnassignedTasksSortedByPriority(Pageable.ofSize(maxTasks)).stream()
+                .map(TaskResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Active technicians below max-open-tasks
+     */
+    private List<User> availableTechnicians(Map<Long, Long> loads) {
+        return userRepository.findByRoleAndActive(User.Role.TECHNICIAN, true).stream()
+                .filter(technician -> loads.getOrDefault(technician.getId(), 0L) < maxOpenTasks)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> currentLoads() {
+        return taskRepository.countByAssignedTechnician(LOAD_STATUSES).stream()
+                .collect(Collectors.toMap(TechnicianLoad::getTechnicianId, TechnicianLoad::getOpenTasks));
+    }
+
+    /**
+     * Distance between a task and a technician, null when either location is unknown
+     */
+    private static Double distanceKm(double[] taskPosition, double[] technicianPosition) {
+        if (taskPosition == null || technicianPosition == null) {
+            return null;
+        }
+        return GeoUtils.distanceKm(taskPosition, technicianPosition);
+    }
+}
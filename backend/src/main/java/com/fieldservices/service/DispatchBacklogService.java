@@ -0,0 +1,197 @@
+package com.fieldservices.service;
+
+import com.fieldservices.config.ReplicaRoutingDataSource;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.util.AppliedVersions;
+import com.fieldservices.util.IndexedPriorityHeap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory queue of unassigned tasks ordered by priority, then age.
+ * Loaded from the database once the application is ready and kept current from committed
+ * task changes, so dispatchers can read the head of the backlog without touching the database.
+ * After-commit listeners of concurrent transactions can run in any order, so each task's last applied
+ * version is remembered and changes that are not newer are ignored. Listener reordering only spans
+ * milliseconds, so versions of tasks that left the backlog are forgotten after a short grace period.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchBacklogService {
+
+    static final Comparator<TaskResponse> DISPATCH_ORDER = Comparator
+            .comparingInt((TaskResponse task) -> task.getPriority().getRank())
+            .thenComparing(TaskResponse::getCreatedAt)
+            .thenComparing(TaskResponse::getId);
+
+    static final long VERSION_GRACE_MILLIS = 60_000;
+
+    private final TaskRepository taskRepository;
+
+    private final IndexedPriorityHeap<Long, TaskResponse> backlog = new IndexedPriorityHeap<>(DISPATCH_ORDER);
+    // Kept for a grace period after a task leaves the backlog, so a late stale change cannot bring it back
+    private final AppliedVersions<Long> appliedVersions = new AppliedVersions<>(VERSION_GRACE_MILLIS);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    /**
+     * Load all unassigned tasks.
+     * The write lock is held during the query so changes committed meanwhile are applied after the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, TaskResponse> tasks = new LinkedHashMap<>();
+            // A lagging replica could miss changes whose events were already delivered
+            ReplicaRoutingDataSource.runOnPrimary(() -> taskRepository
+                    .findUnassignedTasksSortedByPriority(Pageable.unpaged())
+                    .forEach(task -> tasks.put(task.getId(), TaskResponse.fromEntity(task))));
+            backlog.rebuild(tasks);
+            tasks.values().forEach(this::recordVersion);
+            ready = true;
+            log.info("Dispatch backlog loaded with {} unassigned tasks", tasks.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed task change: queue the task while it is unassigned, drop it otherwise
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponse task = event.getTask();
+        lock.writeLock().lock();
+        try {
+            if (!recordVersion(task)) {
+                log.debug("Ignoring stale change {} of task {} at version {}", event.getType(), task.getId(),
+                        task.getVersion());
+                return;
+            }
+            if (isDispatchable(task)) {
+                backlog.put(task.getId(), task);
+            } else {
+                backlog.remove(task.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget the versions of tasks that left the backlog longer than the grace period ago
+     */
+    @Scheduled(fixedDelay = VERSION_GRACE_MILLIS)
+    public void purgeAppliedVersions() {
+        purgeAppliedVersions(System.currentTimeMillis());
+    }
+
+    void purgeAppliedVersions(long nowMillis) {
+        int purged;
+        lock.writeLock().lock();
+        try {
+            purged = appliedVersions.purge(nowMillis, backlog::contains);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (purged > 0) {
+            log.debug("Purged applied versions of {} tasks outside the dispatch backlog", purged);
+        }
+    }
+
+    /**
+     * Number of tasks whose last applied version is remembered
+     */
+    int trackedVersionCount() {
+        lock.readLock().lock();
+        try {
+            return appliedVersions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the backlog has been loaded and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The k most urgent unassigned tasks, in dispatch order
+     */
+    public List<TaskResponse> top(int k) {
+        lock.readLock().lock();
+        try {
+            return backlog.top(k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * All unassigned tasks, in dispatch order
+     */
+    public List<TaskResponse> all() {
+        lock.readLock().lock();
+        try {
+            return backlog.top(backlog.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The most urgent unassigned task, if any
+     */
+    public Optional<TaskResponse> next() {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(backlog.peek());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return backlog.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Remember the task's version unless a newer one was already applied; returns whether it is newer
+     */
+    private boolean recordVersion(TaskResponse task) {
+        return appliedVersions.record(task.getId(), task.getVersion(), System.currentTimeMillis());
+    }
+
+    private boolean isDispatchable(TaskResponse task) {
+        return task.getStatus() == Task.TaskStatus.UNASSIGNED && task.getAssignedTechnicianId() == null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.fieldservices.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fieldservices.dto.LocationImportRequest;
+import com.fieldservices.dto.LocationImportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk import of historical location history using the PostgreSQL COPY protocol.
+ * Rows are streamed from a file in the import directory straight into the locations table,
+ * bypassing the JPA entity lifecycle (and therefore the live-position and mileage tracking).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LocationImportService {
+
+    static final String CSV_HEADER = "user_id,latitude,longitude,accuracy,timestamp";
+
+    private static final String COPY_SQL =
+            "COPY locations (user_id, latitude, longitude, accuracy, timestamp) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    @Value("${location.import.directory:/var/lib/field-services/import}")
+    private String importDirectory = "/var/lib/field-services/import";
+
+    /**
+     * Stream a CSV or NDJSON file into the locations table
+     */
+    public LocationImportResponse importLocations(LocationImportRequest request) {
+        Path file = resolveImportFile(request.getFileName());
+        log.info("Importing {} locations from {}", request.getFormat(), file);
+
+        long start = System.nanoTime();
+        long rows;
+        try (BufferedReader fileReader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             Reader csvReader = request.getFormat() == LocationImportRequest.Format.CSV
+                     ? skipCsvHeader(fileReader)
+                     : new NdjsonToCsvReader(fileReader, objectMapper);
+             Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = unwrapCopyManager(connection);
+            rows = copyManager.copyIn(COPY_SQL, csvReader);
+        } catch (IOException e) {
+            log.error("Location import from {} failed: {}", file, e.getMessage());
+            throw new IllegalArgumentException("Location import failed: " + e.getMessage(), e);
+        } catch (SQLException e) {
+            log.error("Location import from {} failed: {}", file, e.getMessage());
+            if (isDataError(e)) {
+                throw new IllegalArgumentException("Location import failed: " + e.getMessage(), e);
+            }
+            throw new IllegalStateException("Location import failed: " + e.getMessage(), e);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        double rowsPerSecond = rows * 1000.0 / elapsedMillis;
+        log.info("Imported {} locations from {} in {} ms ({} rows/s)",
+                rows, file, elapsedMillis, String.format("%.0f", rowsPerSecond));
+
+        return LocationImportResponse.builder()
+                .fileName(request.getFileName())
+                .format(request.getFormat())
+                .rowsImported(rows)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * Resolve a file name against the import directory, rejecting paths that escape it
+     */
+    private Path resolveImportFile(String fileName) {
+        Path directory = Paths.get(importDirectory).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory");
+        }
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new IllegalArgumentException("Import file not found: " + fileName);
+        }
+        return file;
+    }
+
+    private Reader skipCsvHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || !CSV_HEADER.equalsIgnoreCase(header.replace(" ", "").trim())) {
+            throw new IOException("CSV header must be: " + CSV_HEADER);
+        }
+        return reader;
+    }
+
+    /**
+     * Whether the database rejected the file's contents (SQLSTATE class 22 data exception or
+     * 23 integrity constraint violation) rather than failing on its own
+     */
+    private static boolean isDataError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("22") || state.startsWith("23"));
+    }
+
+    private CopyManager unwrapCopyManager(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            throw new IllegalStateException("Bulk location import requires a PostgreSQL database");
+        }
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    /**
+     * Converts newline-delimited JSON location objects into COPY CSV rows one line at a time,
+     * so the whole file is never held in memory. Numeric columns must be JSON numbers, so a string
+     * value can never add columns or rows to the CSV.
+     */
+    static class NdjsonToCsvReader extends Reader {
+
+        private final BufferedReader source;
+        private final ObjectMapper objectMapper;
+        private String buffer = "";
+        private int position;
+        private long lineNumber;
+
+        NdjsonToCsvReader(BufferedReader source, ObjectMapper objectMapper) {
+            this.source = source;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public int read(char[] target, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position >= buffer.length()) {
+                String line = source.readLine();
+                if (line == null) {
+                    return -1;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    buffer = toCsvRow(line);
+                    position = 0;
+                }
+            }
+            int count = Math.min(length, buffer.length() - position);
+            buffer.getChars(position, position + count, target, offset);
+            position += count;
+            return count;
+        }
+
+        private String toCsvRow(String line) throws IOException {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                throw new IOException("Invalid JSON on line " + lineNumber, e);
+            }
+            return requiredInteger(node, "userId") + ','
+                    + requiredNumber(node, "latitude") + ','
+                    + requiredNumber(node, "longitude") + ','
+                    + optionalNumber(node, "accuracy") + ','
+                    + csvQuote(requiredValue(node, "timestamp").asText()) + '\n';
+        }
+
+        private JsonNode requiredValue(JsonNode node, String field) throws IOException {
+            JsonNode value = node.get(field);
+            if (value == null || value.isNull()) {
+                throw new IOException("Missing '" + field + "' on line " + lineNumber);
+            }
+            return value;
+        }
+
+        private String requiredInteger(JsonNode node, String field) throws IOException {
+            JsonNode value = requiredValue(node, field);
+            if (!value.isIntegralNumber()) {
+                throw new IOException("'" + field + "' must be an integer on line " + lineNumber);
+            }
+            return value.asText();
+        }
+
+        private String requiredNumber(JsonNode node, String field) throws IOException {
+            return number(requiredValue(node, field), field);
+        }
+
+        private String optionalNumber(JsonNode node, String field) throws IOException {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? "" : number(value, field);
+        }
+
+        private String number(JsonNode value, String field) throws IOException {
+            if (!value.isNumber()) {
+                throw new IOException("'" + field + "' must be a number on line " + lineNumber);
+            }
+            return value.asText();
+        }
+
+        private String csvQuote(String value) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+    }
+}
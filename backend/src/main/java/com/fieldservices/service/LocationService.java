@@ -8,13 +8,17 @@ import com.fieldservices.model.User;
 import com.fieldservices.repository.LocationRepository;
 import com.fieldservices.repository.TaskRepository;
 import com.fieldservices.repository.UserRepository;
+import com.fieldservices.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,13 +34,41 @@ public class LocationService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final MileageService mileageService;
 
     // Throttle map to track last update time per user
     private final Map<Long, LocalDateTime> lastUpdateMap = new ConcurrentHashMap<>();
     private static final int THROTTLE_SECONDS = 30;
 
+    // Latest reported position per technician, including points that were not persisted
+    private final Map<Long, TrackedPosition> latestPositions = new ConcurrentHashMap<>();
+
+    @Value("${location.persistence.policy:THROTTLE}")
+    private PersistencePolicy persistencePolicy = PersistencePolicy.THROTTLE;
+
+    @Value("${location.dead-band.min-distance-meters:25}")
+    private double deadBandMinDistanceMeters = 25;
+
+    @Value("${location.dead-band.accuracy-factor:1.5}")
+    private double deadBandAccuracyFactor = 1.5;
+
+    @Value("${location.dead-band.heartbeat-seconds:240}")
+    private long heartbeatSeconds = 240;
+
     /**
-     * Update technician location with throttling
+     * How location updates are turned into stored rows.
+     * THROTTLE stores at most one point per 30 seconds and rejects the rest.
+     * MOVEMENT stores a point only when the technician left the dead band around the last stored point
+     * or the heartbeat interval elapsed; other points just refresh the in-memory position.
+     */
+    public enum PersistencePolicy {
+        THROTTLE,
+        MOVEMENT
+    }
+
+    /**
+     * Update technician location according to the configured persistence policy.
+     * Returns a response without an id when the point was accepted but not persisted.
      */
     @Transactional
     public LocationResponse updateLocation(LocationUpdateRequest request) {
@@ -50,17 +82,31 @@ public class LocationService {
             throw new IllegalArgumentException("Only technicians can update location");
         }
 
-        // Check throttling
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime lastUpdate = lastUpdateMap.get(request.getUserId());
-
-        if (lastUpdate != null) {
-            long secondsSinceLastUpdate = java.time.Duration.between(lastUpdate, now).getSeconds();
-            if (secondsSinceLastUpdate < THROTTLE_SECONDS) {
-                long remainingSeconds = THROTTLE_SECONDS - secondsSinceLastUpdate;
-                throw new IllegalStateException(
-                    String.format("Location update throttled. Please wait %d seconds.", remainingSeconds)
-                );
+
+        if (persistencePolicy == PersistencePolicy.MOVEMENT) {
+            TrackedPosition previous = latestPositions.get(request.getUserId());
+            if (previous != null && isWithinDeadBand(previous, request, now)) {
+                TrackedPosition refreshed = previous.refresh(
+                        request.getLatitude(), request.getLongitude(), request.getAccuracy(), now);
+                latestPositions.put(request.getUserId(), refreshed);
+                mileageService.recordPoint(request.getUserId(), request.getLatitude(), request.getLongitude(),
+                        request.getAccuracy(), now);
+                log.debug("Technician {} within dead band, location not persisted", request.getUserId());
+                return refreshed.toResponse(request.getUserId());
+            }
+        } else {
+            // Check throttling
+            LocalDateTime lastUpdate = lastUpdateMap.get(request.getUserId());
+
+            if (lastUpdate != null) {
+                long secondsSinceLastUpdate = java.time.Duration.between(lastUpdate, now).getSeconds();
+                if (secondsSinceLastUpdate < THROTTLE_SECONDS) {
+                    long remainingSeconds = THROTTLE_SECONDS - secondsSinceLastUpdate;
+                    throw new IllegalStateException(
+                        String.format("Location update throttled. Please wait %d seconds.", remainingSeconds)
+                    );
+                }
             }
         }
 
@@ -74,6 +120,10 @@ public class LocationService {
 
         Location savedLocation = locationRepository.save(location);
         lastUpdateMap.put(request.getUserId(), now);
+        latestPositions.put(request.getUserId(), TrackedPosition.persisted(savedLocation.getId(),
+                request.getLatitude(), request.getLongitude(), request.getAccuracy(), now));
+        mileageService.recordPoint(request.getUserId(), request.getLatitude(), request.getLongitude(),
+                request.getAccuracy(), now);
 
         log.info("Location updated successfully for user: {}", request.getUserId());
         
@@ -84,6 +134,25 @@ public class LocationService {
         return response;
     }
 
+    /**
+     * A point is inside the dead band when it is closer to the last stored point than the movement
+     * threshold (scaled by the worse of the two accuracies) and the heartbeat interval has not elapsed.
+     */
+    private boolean isWithinDeadBand(TrackedPosition previous, LocationUpdateRequest request, LocalDateTime now) {
+        if (java.time.Duration.between(previous.getPersistedAt(), now).getSeconds() >= heartbeatSeconds) {
+            return false;
+        }
+
+        double accuracy = Math.max(
+                previous.getPersistedAccuracy() != null ? previous.getPersistedAccuracy() : 0.0,
+                request.getAccuracy() != null ? request.getAccuracy() : 0.0);
+        double thresholdMeters = Math.max(deadBandMinDistanceMeters, deadBandAccuracyFactor * accuracy);
+        double movedMeters = calculateDistance(previous.getPersistedLatitude(), previous.getPersistedLongitude(),
+                request.getLatitude(), request.getLongitude()) * 1000;
+
+        return movedMeters <= thresholdMeters;
+    }
+
     /**
      * Get all active technician locations (latest location for each technician)
      */
@@ -103,10 +172,19 @@ public class LocationService {
 
         // Get latest locations within last 5 minutes to show "active" technicians
         LocalDateTime fiveMinutesAgo = LocalDateTime.now().minusMinutes(5);
-        return locationRepository.findLatestLocationForEachUserSince(fiveMinutesAgo).stream()
+        Map<Long, LocationResponse> latestByUser = new LinkedHashMap<>();
+        locationRepository.findLatestLocationForEachUserSince(fiveMinutesAgo).stream()
                 .filter(location -> technicianIds.contains(location.getUserId()))
-                .map(LocationResponse::fromEntity)
-                .collect(Collectors.toList());
+                .forEach(location -> latestByUser.put(location.getUserId(), LocationResponse.fromEntity(location)));
+
+        // Points inside the dead band are only kept in memory, so they are newer than the stored row
+        latestPositions.forEach((userId, position) -> {
+            if (technicianIds.contains(userId) && !position.getLastSeen().isBefore(fiveMinutesAgo)) {
+                latestByUser.put(userId, position.toResponse(userId));
+            }
+        });
+
+        return new ArrayList<>(latestByUser.values());
     }
 
     /**
@@ -144,38 +222,64 @@ public class LocationService {
      * Returns distance in kilometers
      */
     public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS = 6371; // kilometers
-
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c;
+        return GeoUtils.distanceKm(lat1, lon1, lat2, lon2);
     }
 
     /**
-     * Convert task to location response (placeholder for geocoding)
-     * In a real implementation, this would geocode the address
+     * Convert task to location response
+     * Coordinates are those supplied with the task; addresses are not geocoded yet
      */
     private TaskLocationResponse convertTaskToLocation(Task task) {
-        // For now, return a placeholder location
-        // In production, you would use a geocoding service like Google Maps API
         return TaskLocationResponse.builder()
                 .taskId(task.getId())
                 .title(task.getTitle())
                 .address(task.getClientAddress())
                 .status(task.getStatus())
                 .priority(task.getPriority())
-                .latitude(null) // Would be geocoded
-                .longitude(null) // Would be geocoded
+                .latitude(task.getLatitude())
+                .longitude(task.getLongitude())
                 .build();
     }
 
+    /**
+     * Latest known position of a technician together with the last persisted anchor point
+     */
+    @lombok.Value
+    private static class TrackedPosition {
+        Long locationId;
+        double latitude;
+        double longitude;
+        Double accuracy;
+        LocalDateTime lastSeen;
+        double persistedLatitude;
+        double persistedLongitude;
+        Double persistedAccuracy;
+        LocalDateTime persistedAt;
+
+        static TrackedPosition persisted(Long locationId, double latitude, double longitude, Double accuracy,
+                                         LocalDateTime timestamp) {
+            return new TrackedPosition(locationId, latitude, longitude, accuracy, timestamp,
+                    latitude, longitude, accuracy, timestamp);
+        }
+
+        TrackedPosition refresh(double newLatitude, double newLongitude, Double newAccuracy, LocalDateTime seenAt) {
+            // The refreshed point has no row of its own
+            return new TrackedPosition(null, newLatitude, newLongitude, newAccuracy, seenAt,
+                    persistedLatitude, persistedLongitude, persistedAccuracy, persistedAt);
+        }
+
+        LocationResponse toResponse(Long userId) {
+            return LocationResponse.builder()
+                    .id(locationId)
+                    .userId(userId)
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .accuracy(accuracy)
+                    .timestamp(lastSeen)
+                    .build();
+        }
+    }
+
     /**
      * DTO for task location responses
      */
@@ -0,0 +1,194 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.DailyMileageResponse;
+import com.fieldservices.model.DailyMileage;
+import com.fieldservices.repository.DailyMileageRepository;
+import com.fieldservices.util.GeoUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains a running per-technician, per-day odometer from accepted location points.
+ * Distance is accumulated in memory and periodically added to the daily_mileage summary table,
+ * so reports never have to replay raw location history.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MileageService {
+
+    private final DailyMileageRepository dailyMileageRepository;
+
+    // One odometer per technician, holding the last counted position and unflushed distance per day
+    private final Map<Long, Odometer> odometers = new ConcurrentHashMap<>();
+
+    /**
+     * Record an accepted location point for a technician.
+     * Movements shorter than the reported accuracy of either point are treated as GPS jitter and ignored.
+     */
+    public void recordPoint(Long technicianId, double latitude, double longitude, Double accuracy,
+                            LocalDateTime timestamp) {
+        odometers.computeIfAbsent(technicianId, id -> new Odometer())
+                .record(latitude, longitude, accuracy, timestamp.toLocalDate());
+    }
+
+    /**
+     * Add the distance accumulated since the last flush to the daily summaries
+     */
+    @Scheduled(fixedDelayString = "${mileage.flush-interval-ms:60000}")
+    @Transactional
+    public void flush() {
+        Map<LocalDate, Map<Long, Pending>> pendingByDate = new HashMap<>();
+        odometers.forEach((technicianId, odometer) ->
+                odometer.drain().forEach((date, pending) ->
+                        pendingByDate.computeIfAbsent(date, d -> new HashMap<>()).put(technicianId, pending)));
+
+        if (pendingByDate.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<DailyMileage> toSave = new ArrayList<>();
+            pendingByDate.forEach((date, pendingByTechnician) -> {
+                Map<Long, DailyMileage> existing = dailyMileageRepository
+                        .findByMileageDateAndTechnicianIdIn(date, pendingByTechnician.keySet()).stream()
+                        .collect(Collectors.toMap(DailyMileage::getTechnicianId, Function.identity()));
+
+                pendingByTechnician.forEach((technicianId, pending) -> {
+                    DailyMileage summary = existing.get(technicianId);
+                    if (summary == null) {
+                        summary = new DailyMileage();
+                        summary.setTechnicianId(technicianId);
+                        summary.setMileageDate(date);
+                    }
+                    summary.setDistanceKm(summary.getDistanceKm() + pending.distanceKm);
+                    summary.setPointCount(summary.getPointCount() + pending.points);
+                    toSave.add(summary);
+                });
+            });
+
+            dailyMileageRepository.saveAll(toSave);
+            dailyMileageRepository.flush();
+            log.debug("Flushed mileage for {} technician-days", toSave.size());
+        } catch (RuntimeException e) {
+            // Put the distance back so the next flush retries it
+            pendingByDate.forEach((date, pendingByTechnician) ->
+                    pendingByTechnician.forEach((technicianId, pending) ->
+                            odometers.computeIfAbsent(technicianId, id -> new Odometer()).restore(date, pending)));
+            log.error("Failed to flush mileage summaries: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Flush any remaining distance before shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Mileage could not be flushed on shutdown: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get mileage summaries for all technicians on a given day
+     */
+    @Transactional(readOnly = true)
+    public List<DailyMileageResponse> getDailyMileage(LocalDate date) {
+        log.info("Fetching mileage summaries for {}", date);
+        return dailyMileageRepository.findByMileageDateOrderByTechnicianId(date).stream()
+                .map(DailyMileageResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get mileage summaries for one technician within a date range
+     */
+    @Transactional(readOnly = true)
+    public List<DailyMileageResponse> getTechnicianMileage(Long technicianId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' date must not be after 'to' date");
+        }
+        log.info("Fetching mileage summaries for technician {} from {} to {}", technicianId, from, to);
+        return dailyMileageRepository
+                .findByTechnicianIdAndMileageDateBetweenOrderByMileageDate(technicianId, from, to).stream()
+                .map(DailyMileageResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Unflushed distance for one technician-day
+     */
+    private static final class Pending {
+        private double distanceKm;
+        private int points;
+    }
+
+    /**
+     * Running odometer for a single technician
+     */
+    private static final class Odometer {
+        private Double lastLatitude;
+        private Double lastLongitude;
+        private double lastAccuracy;
+        private Map<LocalDate, Pending> pending = new HashMap<>();
+
+        synchronized void record(double latitude, double longitude, Double accuracy, LocalDate date) {
+            double currentAccuracy = accuracy != null ? accuracy : 0.0;
+            Pending today = pending.computeIfAbsent(date, d -> new Pending());
+            today.points++;
+
+            if (lastLatitude == null) {
+                moveTo(latitude, longitude, currentAccuracy);
+                return;
+            }
+
+            double distanceKm = GeoUtils.distanceKm(lastLatitude, lastLongitude, latitude, longitude);
+            double jitterMeters = Math.max(lastAccuracy, currentAccuracy);
+            if (distanceKm * 1000 <= jitterMeters) {
+                // Keep the anchor so slow real movement still adds up once it exceeds the accuracy
+                return;
+            }
+
+            today.distanceKm += distanceKm;
+            moveTo(latitude, longitude, currentAccuracy);
+        }
+
+        synchronized Map<LocalDate, Pending> drain() {
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<LocalDate, Pending> drained = pending;
+            pending = new HashMap<>();
+            return drained;
+        }
+
+        synchronized void restore(LocalDate date, Pending restored) {
+            Pending current = pending.computeIfAbsent(date, d -> new Pending());
+            current.distanceKm += restored.distanceKm;
+            current.points += restored.points;
+        }
+
+        private void moveTo(double latitude, double longitude, double accuracy) {
+            lastLatitude = latitude;
+            lastLongitude = longitude;
+            lastAccuracy = accuracy;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.fieldservices.service;
+
+import com.fieldservices.config.ReplicaRoutingDataSource;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.event.TaskEscalatedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.util.AppliedVersions;
+import com.fieldservices.util.TimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Escalates HIGH-priority tasks left unassigned too long after creation, or assigned but not started
+ * too long after assignment. Deadlines live on a timing wheel fed by committed task changes and loaded
+ * from the database once the application is ready, so the tasks table is never polled.
+ * Escalations are published as {@link TaskEscalatedEvent} and broadcast on {@code /topic/escalations};
+ * each deadline escalates once, though tasks already overdue at startup are escalated again.
+ * After-commit listeners of concurrent transactions can run in any order, so changes older than the
+ * task's last applied version are ignored rather than bringing back a deadline that was cancelled.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlaEscalationService {
+
+    public static final String TOPIC = "/topic/escalations";
+    static final long TICK_MILLIS = 1000;
+    static final long VERSION_GRACE_MILLIS = 60_000;
+    // 64 slots over 4 levels of one-second ticks covers about 194 days before deadlines are parked
+    private static final int SLOT_BITS = 6;
+    private static final int LEVELS = 4;
+    private static final Set<Task.TaskStatus> WATCHED_STATUSES =
+            EnumSet.of(Task.TaskStatus.UNASSIGNED, Task.TaskStatus.ASSIGNED);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${sla.high.unassigned-minutes:30}")
+    private long unassignedMinutes;
+
+    @Value("${sla.high.assigned-minutes:60}")
+    private long assignedMinutes;
+
+    private final TimingWheel<Long, Deadline> wheel =
+            new TimingWheel<>(TICK_MILLIS, SLOT_BITS, LEVELS, System.currentTimeMillis());
+    // Deadlines that already fired, so unrelated edits to a late task do not escalate it again
+    private final Map<Long, LocalDateTime> escalated = new HashMap<>();
+    private final AppliedVersions<Long> appliedVersions = new AppliedVersions<>(VERSION_GRACE_MILLIS);
+    private final Object lock = new Object();
+
+    /**
+     * Register deadlines for all HIGH-priority tasks still waiting.
+     * The lock is held during the query so changes committed meanwhile are applied after the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // A lagging replica could miss changes whose events were already delivered
+        ReplicaRoutingDataSource.runOnPrimary(() -> {
+            synchronized (lock) {
+                List<Task> tasks = taskRepository.findByStatusInAndPriorityRank(
+                        WATCHED_STATUSES, Task.Priority.HIGH.getRank());
+                long nowMillis = System.currentTimeMillis();
+                for (Task task : tasks) {
+                    appliedVersions.record(task.getId(), task.getVersion(), nowMillis);
+                    Long technicianId = task.getAssignedTechnician() != null
+                            ? task.getAssignedTechnician().getId() : null;
+                    track(task.getId(), task.getStatus(), technicianId, task.getCreatedAt(), task.getAssignedAt());
+                }
+                log.info("SLA escalation tracking {} HIGH-priority tasks", wheel.size());
+            }
+        });
+    }
+
+    /**
+     * Apply a committed task change: track the task while it is HIGH priority and waiting, drop it otherwise
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponse task = event.getTask();
+        synchronized (lock) {
+            if (!appliedVersions.record(task.getId(), task.getVersion(), System.currentTimeMillis())) {
+                log.debug("Ignoring stale change {} of task {} at version {}", event.getType(), task.getId(),
+                        task.getVersion());
+                return;
+            }
+            if (task.getPriority() != Task.Priority.HIGH || !WATCHED_STATUSES.contains(task.getStatus())) {
+                wheel.cancel(task.getId());
+                escalated.remove(task.getId());
+                return;
+            }
+            track(task.getId(), task.getStatus(), task.getAssignedTechnicianId(),
+                    task.getCreatedAt(), task.getAssignedAt());
+        }
+    }
+
+    /**
+     * Advance the wheel to the current time and escalate whatever expired
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        advanceTo(System.currentTimeMillis());
+    }
+
+    void advanceTo(long nowMillis) {
+        List<Deadline> expired;
+        synchronized (lock) {
+            expired = wheel.advance(nowMillis);
+            expired.forEach(deadline -> escalated.put(deadline.taskId, deadline.at));
+        }
+        expired.forEach(this::escalate);
+    }
+
+    /**
+     * Forget the versions of tasks that are no longer tracked once the grace period has passed
+     */
+    @Scheduled(fixedDelay = VERSION_GRACE_MILLIS)
+    public void purgeAppliedVersions() {
+        synchronized (lock) {
+            appliedVersions.purge(System.currentTimeMillis(),
+                    taskId -> wheel.get(taskId) != null || escalated.containsKey(taskId));
+        }
+    }
+
+    /**
+     * Number of tasks with a pending deadline
+     */
+    public int pendingCount() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Schedule the deadline for the status a task is waiting in, unless it is already scheduled or has fired
+     */
+    private void track(Long taskId, Task.TaskStatus status, Long technicianId,
+                       LocalDateTime createdAt, LocalDateTime assignedAt) {
+        LocalDateTime at = status == Task.TaskStatus.ASSIGNED
+                ? (assignedAt != null ? assignedAt : createdAt).plusMinutes(assignedMinutes)
+                : createdAt.plusMinutes(unassignedMinutes);
+
+        Deadline current = wheel.get(taskId);
+        if ((current != null && current.status == status && current.at.equals(at))
+                || at.equals(escalated.get(taskId))) {
+            return;
+        }
+        escalated.remove(taskId);
+        wheel.schedule(taskId, new Deadline(taskId, status, technicianId, at),
+                at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void escalate(Deadline deadline) {
+        TaskEscalatedEvent event = new TaskEscalatedEvent(deadline.taskId, deadline.status,
+                deadline.technicianId, deadline.at, LocalDateTime.now());
+        log.warn("HIGH-priority task {} still {} past its SLA deadline {}",
+                deadline.taskId, deadline.status, deadline.at);
+        eventPublisher.publishEvent(event);
+        try {
+            messagingTemplate.convertAndSend(TOPIC, event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast escalation of task {}: {}", deadline.taskId, e.getMessage());
+        }
+    }
+
+    private static final class Deadline {
+        private final Long taskId;
+        private final Task.TaskStatus status;
+        private final Long technicianId;
+        private final LocalDateTime at;
+
+        private Deadline(Long taskId, Task.TaskStatus status, Long technicianId, LocalDateTime at) {
+            this.taskId = taskId;
+            this.status = status;
+            this.technicianId = technicianId;
+            this.at = at;
+        }
+    }
+}
@@ -2,22 +2,42 @@ package com.fieldservices.service;
 
 import com.fieldservices.dto.TaskCompleteRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskTransitionBatchResponse;
+import com.fieldservices.dto.TaskTransitionRequest;
+import com.fieldservices.dto.TaskTransitionResult;
+import com.fieldservices.event.TaskChangedEvent;
 import com.fieldservices.model.Task;
 import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.util.ETags;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StatusService {
 
+    static final int MAX_TRANSITION_BATCH_SIZE = 200;
+    // Client clocks may run slightly ahead; transitions further in the future are rejected
+    static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Mark task as in progress
@@ -30,22 +50,16 @@ public class StatusService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
 
-        // Validate status transition
-        if (task.getStatus() != Task.TaskStatus.ASSIGNED) {
-            throw new IllegalStateException(
-                String.format("Cannot start task with status %s. Only ASSIGNED tasks can be started.", 
-                    task.getStatus())
-            );
-        }
-
-        // Update task status
-        task.setStatus(Task.TaskStatus.IN_PROGRESS);
-        task.setStartedAt(LocalDateTime.now());
+        start(task, LocalDateTime.now());
 
-        Task updatedTask = taskRepository.save(task);
+        // Flush so the response carries the new version and updatedAt
+        Task updatedTask = taskRepository.saveAndFlush(task);
         log.info("Task {} marked as IN_PROGRESS", taskId);
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.STARTED, response,
+                Task.TaskStatus.ASSIGNED, response.getPriority()));
+        return response;
     }
 
     /**
@@ -59,28 +73,54 @@ public class StatusService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
 
-        // Validate status transition
-        if (task.getStatus() != Task.TaskStatus.IN_PROGRESS) {
-            throw new IllegalStateException(
-                String.format("Cannot complete task with status %s. Only IN_PROGRESS tasks can be completed.", 
-                    task.getStatus())
-            );
-        }
+        complete(task, request.getWorkSummary(), LocalDateTime.now());
 
-        // Validate work summary is provided
-        if (request.getWorkSummary() == null || request.getWorkSummary().trim().isEmpty()) {
-            throw new IllegalArgumentException("Work summary is required for task completion");
+        // Flush so the response carries the new version and updatedAt
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        log.info("Task {} marked as COMPLETED", taskId);
+
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.COMPLETED, response,
+                Task.TaskStatus.IN_PROGRESS, response.getPriority()));
+        return response;
+    }
+
+    /**
+     * Apply an ordered batch of start and complete transitions in one transaction.
+     * All referenced tasks are loaded in a single query. Each transition is checked against the
+     * task as left by the earlier ones, so a start followed by a complete of the same task works.
+     * Invalid transitions are rejected individually without affecting the rest, and transitions the
+     * task has already gone through are reported as such so a batch can be replayed safely.
+     */
+    @Transactional
+    public TaskTransitionBatchResponse applyTransitions(List<TaskTransitionRequest> transitions) {
+        if (transitions == null || transitions.isEmpty() || transitions.size() > MAX_TRANSITION_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "Transition batch must contain between 1 and " + MAX_TRANSITION_BATCH_SIZE + " transitions");
         }
+        log.info("Applying {} task transitions", transitions.size());
 
-        // Update task status
-        task.setStatus(Task.TaskStatus.COMPLETED);
-        task.setCompletedAt(LocalDateTime.now());
-        task.setWorkSummary(request.getWorkSummary());
+        Set<Long> ids = transitions.stream()
+                .map(TaskTransitionRequest::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = ids.isEmpty() ? Map.of() : taskRepository.findWithAssigneesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
 
-        Task updatedTask = taskRepository.save(task);
-        log.info("Task {} marked as COMPLETED", taskId);
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTransitionResult> results = new ArrayList<>(transitions.size());
+        int applied = 0;
+        for (int i = 0; i < transitions.size(); i++) {
+            TaskTransitionRequest transition = transitions.get(i);
+            TaskTransitionResult result = applyTransition(i, transition, tasks.get(transition.getTaskId()), now);
+            if (result.getOutcome() == TaskTransitionResult.Outcome.APPLIED) {
+                applied++;
+            }
+            results.add(result);
+        }
 
-        return TaskResponse.fromEntity(updatedTask);
+        log.info("Applied {} of {} task transitions", applied, transitions.size());
+        return new TaskTransitionBatchResponse(applied, results);
     }
 
     /**
@@ -90,12 +130,121 @@ public class StatusService {
     public TaskResponse getTaskStatus(Long taskId) {
         log.info("Fetching status for task with id: {}", taskId);
 
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneesById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
 
         return TaskResponse.fromEntity(task);
     }
 
+    /**
+     * Current ETag of a task, read without loading the entity; empty if the task does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getTaskETag(Long taskId) {
+        return taskRepository.findUpdatedAtById(taskId).map(updatedAt -> ETags.forResource(taskId, updatedAt));
+    }
+
+    private TaskTransitionResult applyTransition(int index, TaskTransitionRequest transition, Task task,
+                                                 LocalDateTime now) {
+        Long taskId = transition.getTaskId();
+        if (taskId == null || transition.getAction() == null) {
+            return rejected(index, taskId, null, "taskId and action are required");
+        }
+        if (task == null) {
+            return rejected(index, taskId, null, "Task not found with id: " + taskId);
+        }
+
+        LocalDateTime occurredAt = transition.getOccurredAt() != null ? transition.getOccurredAt() : now;
+        if (occurredAt.isAfter(now.plus(MAX_CLOCK_SKEW))) {
+            return rejected(index, taskId, task, "occurredAt is in the future");
+        }
+
+        Task.TaskStatus previousStatus = task.getStatus();
+        TaskChangedEvent.Type type;
+        try {
+            if (transition.getAction() == TaskTransitionRequest.Action.START) {
+                if (previousStatus == Task.TaskStatus.IN_PROGRESS || previousStatus == Task.TaskStatus.COMPLETED) {
+                    return alreadyApplied(index, task);
+                }
+                start(task, occurredAt);
+                type = TaskChangedEvent.Type.STARTED;
+            } else {
+                if (previousStatus == Task.TaskStatus.COMPLETED) {
+                    return alreadyApplied(index, task);
+                }
+                if (task.getStartedAt() != null && occurredAt.isBefore(task.getStartedAt())) {
+                    throw new IllegalArgumentException("occurredAt is before the task was started");
+                }
+                String workSummary = transition.getWorkSummary();
+                // Same limits as TaskCompleteRequest, which the single-task endpoint validates
+                if (workSummary != null && !workSummary.isBlank()
+                        && (workSummary.length() < 10 || workSummary.length() > 2000)) {
+                    throw new IllegalArgumentException("Work summary must be between 10 and 2000 characters");
+                }
+                complete(task, workSummary, occurredAt);
+                type = TaskChangedEvent.Type.COMPLETED;
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return rejected(index, taskId, task, e.getMessage());
+        }
+
+        // Flush each applied transition so its result and event carry the version it produced
+        taskRepository.flush();
+        TaskResponse response = TaskResponse.fromEntity(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(type, response, previousStatus, response.getPriority()));
+        return new TaskTransitionResult(index, taskId, TaskTransitionResult.Outcome.APPLIED, null, response);
+    }
+
+    private static TaskTransitionResult alreadyApplied(int index, Task task) {
+        return new TaskTransitionResult(index, task.getId(), TaskTransitionResult.Outcome.ALREADY_APPLIED, null,
+                TaskResponse.fromEntity(task));
+    }
+
+    private static TaskTransitionResult rejected(int index, Long taskId, Task task, String message) {
+        return new TaskTransitionResult(index, taskId, TaskTransitionResult.Outcome.REJECTED, message,
+                task != null ? TaskResponse.fromEntity(task) : null);
+    }
+
+    /**
+     * Move an assigned task to IN_PROGRESS
+     */
+    private void start(Task task, LocalDateTime startedAt) {
+        // Validate status transition
+        if (task.getStatus() != Task.TaskStatus.ASSIGNED) {
+            throw new IllegalStateException(
+                String.format("Cannot start task with status %s. Only ASSIGNED tasks can be started.", 
+                    task.getStatus())
+            );
+        }
+
+        // Update task status
+        task.setStatus(Task.TaskStatus.IN_PROGRESS);
+        task.setStartedAt(startedAt);
+    }
+
+    /**
+     * Move an in-progress task to COMPLETED with its work summary
+     */
+    private void complete(Task task, String workSummary, LocalDateTime completedAt) {
+        // Validate status transition
+        if (task.getStatus() != Task.TaskStatus.IN_PROGRESS) {
+            throw new IllegalStateException(
+                String.format("Cannot complete task with status %s. Only IN_PROGRESS tasks can be completed.", 
+                    task.getStatus())
+            );
+        }
+
+        // Validate work summary is provided
+        if (workSummary == null || workSummary.trim().isEmpty()) {
+            throw new IllegalArgumentException("Work summary is required for task completion");
+        }
+
+        // Update task status
+        task.setStatus(Task.TaskStatus.COMPLETED);
+        task.setCompletedAt(completedAt);
+        task.setWorkSummary(workSummary);
+    }
+
     /**
      * Validate if a task can transition to a new status
      */
@@ -0,0 +1,103 @@
+package com.fieldservices.service;
+
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.ArchivedTaskRepository;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves completed and cancelled tasks that have not changed for a while from the tasks table into
+ * archived_tasks, so dispatch queries and indexes only cover live work.
+ * Each batch is copied and deleted in its own short transaction; a batch in which any task changed
+ * between the two statements is rolled back and picked up again on the next run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveService {
+
+    static final Set<Task.TaskStatus> ARCHIVABLE_STATUSES = EnumSet.of(Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskCountersService taskCountersService;
+    private final TaskListVersionService taskListVersionService;
+
+    @Value("${task-archive.min-age-days:90}")
+    private int minAgeDays;
+
+    @Value("${task-archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${task-archive.cron:0 30 2 * * *}")
+    public void archiveOnSchedule() {
+        try {
+            archiveTasks();
+        } catch (RuntimeException e) {
+            log.error("Task archiving stopped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive all eligible tasks in batches
+     *
+     * @return number of tasks moved to the archive
+     */
+    public int archiveTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        log.info("Archiving completed and cancelled tasks last modified before {}", cutoff);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int archived = 0;
+        int found;
+        try {
+            do {
+                List<Long> ids = taskRepository.findArchivableIds(ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+                found = ids.size();
+                if (found > 0) {
+                    Integer moved = transactionTemplate.execute(status -> archiveBatch(ids, cutoff));
+                    archived += moved != null ? moved : 0;
+                }
+            } while (found == batchSize);
+        } finally {
+            // Archived rows leave the tasks table without a change event, so recount even after a failed batch
+            if (archived > 0) {
+                taskCountersService.reconcile();
+                taskListVersionService.bump();
+            }
+        }
+
+        log.info("Archived {} tasks", archived);
+        return archived;
+    }
+
+    private int archiveBatch(List<Long> ids, LocalDateTime cutoff) {
+        List<String> statuses = ARCHIVABLE_STATUSES.stream().map(Enum::name).toList();
+        LocalDateTime archivedAt = LocalDateTime.now();
+        // Let technicians' synced task lists drop the archived tasks
+        taskTombstoneRepository.recordArchived(ids, statuses, cutoff, archivedAt);
+        int copied = archivedTaskRepository.copyFromTasks(ids, statuses, cutoff, archivedAt);
+        int deleted = taskRepository.deleteArchived(ids, ARCHIVABLE_STATUSES, cutoff);
+        if (copied != deleted) {
+            // A task changed between copy and delete; roll back so it is neither lost nor duplicated
+            throw new IllegalStateException(
+                    String.format("Archive batch copied %d tasks but deleted %d", copied, deleted));
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,215 @@
+package com.fieldservices.service;
+
+import com.fieldservices.config.ReplicaRoutingDataSource;
+import com.fieldservices.dto.TaskCount;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSummaryResponse;
+import com.fieldservices.dto.TaskVersion;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live task totals by status and priority for dashboards.
+ * Counts are kept per status/priority combination in LongAdders and moved from committed task
+ * changes, so concurrent transitions do not contend on a single counter. They are reset from a
+ * GROUP BY query on startup and periodically, which also picks up rows changed outside the services.
+ * A change committed just before the query can reach its listener only after the reset, when the
+ * count already includes it. The versions of recently modified tasks are read in the same snapshot as
+ * the counts, and changes at or below those versions are skipped, so each change is counted once.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCountersService {
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+    private static final Task.Priority[] PRIORITIES = Task.Priority.values();
+
+    private final TaskRepository taskRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${task-counters.reconcile-interval-ms:300000}")
+    private long reconcileIntervalMs;
+
+    // One cell per status/priority combination, indexed by cellIndex
+    private final LongAdder[] cells = newCells();
+    // Changes take the read lock so they proceed in parallel; swapping in reconciled counts takes the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes reconciliations without blocking changes
+    private final Object reconcileLock = new Object();
+    private volatile LocalDateTime reconciledAt;
+    // Version each recently modified task had in the last reconciled snapshot, by task id
+    private Map<Long, Long> reconciledVersions = Map.of();
+    // Changes that arrive while a reconciliation is querying, applied once its counts are swapped in
+    private Queue<TaskChangedEvent> pendingChanges;
+
+    /**
+     * Reset the counters from the database.
+     * The queries run without the lock, since committing threads wait on it while still holding their
+     * connections; changes arriving meanwhile are buffered and applied after the new counts are swapped in.
+     * Counts and versions come from one repeatable-read transaction so they describe the same snapshot;
+     * versions cover tasks modified within one reconcile interval, far longer than any commit takes to
+     * reach its listener.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${task-counters.reconcile-interval-ms:300000}",
+               initialDelayString = "${task-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            Queue<TaskChangedEvent> pending = new ConcurrentLinkedQueue<>();
+            lock.writeLock().lock();
+            try {
+                pendingChanges = pending;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long[] actual = new long[cells.length];
+            Map<Long, Long> versions = new HashMap<>();
+            try {
+                TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                transactionTemplate.setReadOnly(true);
+                transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+                // A lagging replica could miss changes whose events were already delivered
+                ReplicaRoutingDataSource.runOnPrimary(() -> transactionTemplate.executeWithoutResult(status -> {
+                    for (TaskCount count : taskRepository.countByStatusAndPriority()) {
+                        actual[cellIndex(count.getStatus(), count.getPriority())] = count.getCount();
+                    }
+                    LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(reconcileIntervalMs));
+                    for (TaskVersion version : taskRepository.findVersionsUpdatedSince(since)) {
+                        versions.put(version.getId(), version.getVersion());
+                    }
+                }));
+            } catch (RuntimeException e) {
+                // Keep the current counts and apply what arrived meanwhile
+                swapIn(null, null, pending);
+                throw e;
+            }
+            swapIn(actual, versions, pending);
+        }
+    }
+
+    /**
+     * Replace the counts with a reconciled snapshot, if any, then apply the changes buffered while it was read.
+     * Buffered changes the snapshot already includes are skipped by their version.
+     */
+    private void swapIn(long[] actual, Map<Long, Long> versions, Queue<TaskChangedEvent> pending) {
+        lock.writeLock().lock();
+        try {
+            if (actual != null) {
+                long drift = 0;
+                for (int i = 0; i < cells.length; i++) {
+                    drift += Math.abs(cells[i].sumThenReset() - actual[i]);
+                    cells[i].add(actual[i]);
+                }
+                if (reconciledAt != null && drift > 0) {
+                    log.info("Task counters were off by {} and have been reconciled", drift);
+                }
+                reconciledVersions = versions;
+                reconciledAt = LocalDateTime.now();
+            }
+            pendingChanges = null;
+            pending.forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move a committed task change from its previous status and priority to its current ones,
+     * unless the last reconciliation already counted it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            Queue<TaskChangedEvent> pending = pendingChanges;
+            if (pending != null) {
+                pending.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply one change to the cells; callers hold either lock
+     */
+    private void apply(TaskChangedEvent event) {
+        TaskResponse task = event.getTask();
+        int current = cellIndex(task.getStatus(), task.getPriority());
+        int previous = event.getPreviousStatus() != null
+                ? cellIndex(event.getPreviousStatus(), event.getPreviousPriority())
+                : -1;
+        if (previous == current) {
+            return;
+        }
+        Long countedVersion = reconciledVersions.get(task.getId());
+        if (countedVersion != null && task.getVersion() != null && task.getVersion() <= countedVersion) {
+            return;
+        }
+        if (previous >= 0) {
+            cells[previous].decrement();
+        }
+        cells[current].increment();
+    }
+
+    /**
+     * Current totals, without querying the database once the counters have been loaded
+     */
+    public TaskSummaryResponse getSummary() {
+        if (reconciledAt == null) {
+            reconcile();
+        }
+
+        Map<Task.TaskStatus, Long> byStatus = new EnumMap<>(Task.TaskStatus.class);
+        Map<Task.Priority, Long> byPriority = new EnumMap<>(Task.Priority.class);
+        long total = 0;
+        for (Task.TaskStatus status : STATUSES) {
+            for (Task.Priority priority : PRIORITIES) {
+                long count = cells[cellIndex(status, priority)].sum();
+                byStatus.merge(status, count, Long::sum);
+                byPriority.merge(priority, count, Long::sum);
+                total += count;
+            }
+        }
+        return new TaskSummaryResponse(total, byStatus, byPriority, reconciledAt);
+    }
+
+    private static int cellIndex(Task.TaskStatus status, Task.Priority priority) {
+        return status.ordinal() * PRIORITIES.length + priority.ordinal();
+    }
+
+    private static LongAdder[] newCells() {
+        LongAdder[] cells = new LongAdder[STATUSES.length * PRIORITIES.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+        }
+        return cells;
+    }
+}
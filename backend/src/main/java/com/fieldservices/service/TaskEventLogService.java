@@ -0,0 +1,129 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskBoardEntry;
+import com.fieldservices.dto.TaskBoardResponse;
+import com.fieldservices.dto.TaskEventResponse;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.TaskEvent;
+import com.fieldservices.model.TaskSnapshot;
+import com.fieldservices.repository.TaskEventRepository;
+import com.fieldservices.repository.TaskSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only log of task changes, with periodic snapshots of the open tasks so the board at any
+ * point in time can be rebuilt from the latest snapshot plus the events after it.
+ * Events are written in the transaction that made the change, just before it commits, so they are
+ * flushed together with the change in one JDBC batch and are rolled back with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventLogService {
+
+    // Events are replayed from slightly before a snapshot, so changes committed while it was taken are not lost.
+    // Every event carries the full dispatch state, so replaying one the snapshot already reflects is harmless.
+    static final Duration SNAPSHOT_OVERLAP = Duration.ofMinutes(1);
+    static final LocalDateTime LOG_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskEventRepository taskEventRepository;
+    private final TaskSnapshotRepository taskSnapshotRepository;
+
+    /**
+     * Record a task change in the publishing transaction
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskResponse task = event.getTask();
+        TaskEvent taskEvent = new TaskEvent();
+        taskEvent.setTaskId(task.getId());
+        taskEvent.setType(event.getType());
+        taskEvent.setStatus(task.getStatus());
+        taskEvent.setPriority(task.getPriority());
+        taskEvent.setAssignedTechnicianId(task.getAssignedTechnicianId());
+        taskEvent.setActor(currentUsername());
+        taskEvent.setOccurredAt(LocalDateTime.now());
+        taskEventRepository.save(taskEvent);
+    }
+
+    /**
+     * Snapshot the dispatch state of all open tasks
+     */
+    @Scheduled(cron = "${task-events.snapshot-cron:0 0 * * * *}")
+    @Transactional
+    public int takeSnapshot() {
+        LocalDateTime takenAt = LocalDateTime.now();
+        List<String> statuses = TaskService.OPEN_STATUSES.stream().map(Enum::name).toList();
+        int recorded = taskSnapshotRepository.recordSnapshot(takenAt, statuses);
+        log.info("Recorded task snapshot at {} with {} open tasks", takenAt, recorded);
+        return recorded;
+    }
+
+    /**
+     * Every recorded change of one task, oldest first; history outlives archiving of the task
+     */
+    @Transactional(readOnly = true)
+    public List<TaskEventResponse> getTaskHistory(Long taskId) {
+        log.info("Fetching event history of task {}", taskId);
+        return taskEventRepository.findByTaskIdOrderByOccurredAtAscIdAsc(taskId).stream()
+                .map(TaskEventResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The open tasks as they stood at the given time, or now when no time is given
+     */
+    @Transactional(readOnly = true)
+    public TaskBoardResponse getBoardAt(LocalDateTime at) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime boardAt = at != null ? at : now;
+        if (boardAt.isAfter(now)) {
+            throw new IllegalArgumentException("Board time must not be in the future");
+        }
+
+        Map<Long, TaskBoardEntry> board = new TreeMap<>();
+        LocalDateTime snapshotAt = taskSnapshotRepository.findLatestTakenAt(boardAt).orElse(null);
+        LocalDateTime replayFrom = LOG_EPOCH;
+        if (snapshotAt != null) {
+            for (TaskSnapshot snapshot : taskSnapshotRepository.findByTakenAt(snapshotAt)) {
+                board.put(snapshot.getTaskId(), new TaskBoardEntry(snapshot.getTaskId(), snapshot.getStatus(),
+                        snapshot.getPriority(), snapshot.getAssignedTechnicianId()));
+            }
+            replayFrom = snapshotAt.minus(SNAPSHOT_OVERLAP);
+        }
+
+        List<TaskEvent> tail = taskEventRepository.findBetween(replayFrom, boardAt);
+        for (TaskEvent event : tail) {
+            if (TaskService.OPEN_STATUSES.contains(event.getStatus())) {
+                board.put(event.getTaskId(), new TaskBoardEntry(event.getTaskId(), event.getStatus(),
+                        event.getPriority(), event.getAssignedTechnicianId()));
+            } else {
+                board.remove(event.getTaskId());
+            }
+        }
+        log.info("Rebuilt board at {} from snapshot {} and {} events", boardAt, snapshotAt, tail.size());
+        return new TaskBoardResponse(boardAt, snapshotAt, tail.size(), new ArrayList<>(board.values()));
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
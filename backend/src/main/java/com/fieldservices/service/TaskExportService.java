@@ -0,0 +1,77 @@
+package com.fieldservices.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task as newline-delimited JSON.
+ * Tasks are read through a database cursor and the persistence context is cleared periodically,
+ * so memory use stays flat regardless of table size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+    // Matches the fetch size of TaskRepository.streamAllForExport
+    static final int CLEAR_INTERVAL = 500;
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write all tasks to the output stream, one JSON object per line.
+     * Runs in its own read-only transaction because it is called from the response-writing thread.
+     */
+    public long exportTasks(OutputStream out) {
+        log.info("Exporting all tasks as NDJSON");
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        Long exported = transactionTemplate.execute(status -> {
+            long count = 0;
+            try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    out.write(writer.writeValueAsBytes(TaskResponse.fromEntity(iterator.next())));
+                    out.write('\n');
+                    count++;
+                    if (count % CLEAR_INTERVAL == 0) {
+                        // Detach the rows already written so the persistence context does not grow
+                        entityManager.clear();
+                        out.flush();
+                    }
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Task export failed after " + count + " tasks", e);
+            }
+            return count;
+        });
+
+        log.info("Exported {} tasks", exported);
+        return exported != null ? exported : 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskChangesResponse;
+import com.fieldservices.dto.TaskDelta;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.util.ReplayBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Broadcasts committed task changes on {@code /topic/tasks} and keeps the most recent ones for replay,
+ * so dashboards can stay current without polling and catch up after a reconnect.
+ * A sequence from before a restart is older than anything retained and forces a reload.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskFeedService {
+
+    public static final String TOPIC = "/topic/tasks";
+    static final int REPLAY_CAPACITY = 10_000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ReplayBuffer<TaskDelta> recentChanges =
+            new ReplayBuffer<>(REPLAY_CAPACITY, ReplayBuffer.restartSafeInitialSequence());
+    private final Object publishLock = new Object();
+
+    /**
+     * Sequence and broadcast a committed change.
+     * Sending under the lock keeps messages on the broker channel in sequence order.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (publishLock) {
+            TaskDelta delta = recentChanges.append(sequence -> TaskDelta.of(sequence, event));
+            try {
+                messagingTemplate.convertAndSend(TOPIC, delta);
+            } catch (RuntimeException e) {
+                // The change is still replayable, so a failed broadcast only delays clients
+                log.warn("Failed to broadcast task change {}: {}", delta.getSequence(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Changes after the given sequence number; with no sequence, only the current position is returned
+     */
+    public TaskChangesResponse getChangesSince(Long afterSequence) {
+        if (afterSequence == null) {
+            return new TaskChangesResponse(List.of(), recentChanges.lastSequence(), true);
+        }
+        Optional<List<TaskDelta>> changes = recentChanges.since(afterSequence);
+        if (changes.isEmpty()) {
+            return new TaskChangesResponse(List.of(), recentChanges.lastSequence(), false);
+        }
+        List<TaskDelta> replay = changes.get();
+        // Report the position reached by this replay, not the live one, so nothing appended meanwhile is skipped
+        long lastSequence = replay.isEmpty() ? afterSequence : replay.get(replay.size() - 1).getSequence();
+        return new TaskChangesResponse(replay, lastSequence, true);
+    }
+}
@@ -0,0 +1,38 @@
+package com.fieldservices.service;
+
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.util.ReplayBuffer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version of the task list, so conditional list requests are answered without a query.
+ * Bumped after every committed task change and after archive runs, which move rows without change events.
+ * List ETags are taken before the page is read, and pages are read from the primary, so a response is
+ * never tagged newer than its content.
+ * The version lives in this JVM and only sees changes committed through it, so, like the dispatch backlog
+ * and the task counters, it assumes a single backend instance (see "Single Backend Instance" in the README).
+ */
+@Service
+public class TaskListVersionService {
+
+    private final AtomicLong version = new AtomicLong(ReplayBuffer.restartSafeInitialSequence());
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Record a committed change to the task tables that published no task change event
+     */
+    public void bump() {
+        version.incrementAndGet();
+    }
+
+    public long current() {
+        return version.get();
+    }
+}
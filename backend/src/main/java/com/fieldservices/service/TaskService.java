@@ -1,16 +1,48 @@
 package com.fieldservices.service;
 
+import com.fieldservices.config.ReplicaRoutingDataSource;
+import com.fieldservices.dto.BulkTaskError;
+import com.fieldservices.dto.BulkTaskResponse;
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFieldsPageResponse;
+import com.fieldservices.dto.TaskFieldsResponse;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.dto.TaskPageResponse;
 import com.fieldservices.dto.TaskRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSearchResponse;
+import com.fieldservices.event.TaskChangedEvent;
 import com.fieldservices.model.Task;
+import com.fieldservices.repository.ArchivedTaskRepository;
 import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.util.AddressNormalizer;
+import com.fieldservices.util.ETags;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +51,33 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final DispatchBacklogService dispatchBacklogService;
+    private final TaskListVersionService taskListVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BULK_SIZE = 5000;
+    static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    // Matches hibernate.jdbc.batch_size so each flush sends full batches
+    static final int BULK_BATCH_SIZE = 50;
+
+    // Tasks that still need work; a new task at the same address as one of these is flagged as a possible duplicate
+    static final Set<Task.TaskStatus> OPEN_STATUSES = EnumSet.of(
+            Task.TaskStatus.UNASSIGNED, Task.TaskStatus.ASSIGNED, Task.TaskStatus.IN_PROGRESS);
+
+    // Order of the task list: createdAt, then id, newest first
+    private static final Comparator<TaskResponse> NEWEST_FIRST = Comparator
+            .comparing(TaskResponse::getCreatedAt)
+            .thenComparing(TaskResponse::getId)
+            .reversed();
 
     /**
      * Create a new task
@@ -28,31 +87,149 @@ public class TaskService {
         log.info("Creating new task with title: {}", request.getTitle());
 
         // Validate address
-        validateAddress(request.getClientAddress());
+        String normalizedAddress = validateAddress(request.getClientAddress());
 
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setClientAddress(request.getClientAddress());
-        task.setPriority(request.getPriority());
-        task.setEstimatedDuration(request.getEstimatedDuration());
-        task.setStatus(Task.TaskStatus.UNASSIGNED);
+        // Flag open tasks at the same address; the caller decides whether the new one is a duplicate
+        List<Long> duplicateIds = taskRepository.findIdsByNormalizedAddress(normalizedAddress, OPEN_STATUSES);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskRepository.save(toNewTask(request, normalizedAddress));
         log.info("Task created successfully with id: {}", savedTask.getId());
+        if (!duplicateIds.isEmpty()) {
+            log.warn("Task {} has the same address as open tasks {}", savedTask.getId(), duplicateIds);
+        }
 
-        return TaskResponse.fromEntity(savedTask);
+        TaskResponse response = TaskResponse.fromEntity(savedTask);
+        response.setPossibleDuplicateIds(duplicateIds);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, response));
+        return response;
     }
 
     /**
-     * Get all tasks
+     * Create many tasks in one transaction.
+     * Every item is validated first; if any is invalid nothing is created and the per-item errors are returned.
+     * Inserts go out in JDBC batches and the persistence context is cleared after each batch.
+     */
+    @Transactional
+    public BulkTaskResponse createTasks(List<TaskRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk request must contain between 1 and " + MAX_BULK_SIZE + " tasks");
+        }
+        log.info("Creating {} tasks in bulk", requests.size());
+
+        List<BulkTaskError> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> messages = validateForCreate(requests.get(i));
+            if (!messages.isEmpty()) {
+                errors.add(new BulkTaskError(i, messages));
+            }
+        }
+        if (!errors.isEmpty()) {
+            log.warn("Rejected bulk task request: {} of {} items invalid", errors.size(), requests.size());
+            return new BulkTaskResponse(0, List.of(), errors);
+        }
+
+        List<Long> ids = new ArrayList<>(requests.size());
+        List<TaskResponse> created = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            Task task = taskRepository.save(toNewTask(request, validateAddress(request.getClientAddress())));
+            ids.add(task.getId());
+            created.add(TaskResponse.fromEntity(task));
+            if ((i + 1) % BULK_BATCH_SIZE == 0) {
+                taskRepository.flush();
+                entityManager.clear();
+            }
+        }
+        taskRepository.flush();
+        entityManager.clear();
+
+        created.forEach(task -> eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, task)));
+        log.info("Created {} tasks in bulk", ids.size());
+        return new BulkTaskResponse(ids.size(), ids, List.of());
+    }
+
+    /**
+     * Get a page of tasks matching the filter, newest first.
+     * Uses keyset pagination so every page costs the same regardless of how deep the client pages.
+     * List pages are read from the primary: their ETag is the in-memory list version, already advanced
+     * past every committed change, so a lagging replica would tag a stale page as current.
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks() {
-        log.info("Fetching all tasks");
-        return taskRepository.findAll().stream()
+    public TaskPageResponse getTasks(TaskFilter filter, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        TaskCursor after = decodeCursor(cursor);
+        log.info("Fetching tasks with filter {} after cursor {}", filter, after);
+
+        // Fetch one extra row to know whether there is a next page
+        List<Task> tasks = ReplicaRoutingDataSource.callOnPrimary(
+                () -> taskRepository.findPage(filter, after, pageSize + 1));
+        boolean hasMore = tasks.size() > pageSize;
+        List<Task> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<TaskResponse> items = page.stream()
                 .map(TaskResponse::fromEntity)
                 .collect(Collectors.toList());
+        return new TaskPageResponse(items, nextCursor);
+    }
+
+    /**
+     * Get a page of tasks including archived ones, newest first.
+     * Both tables are read with the same keyset condition and the two pages merged, so the cursor
+     * works across them exactly as it does for {@link #getTasks}.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTaskHistory(TaskFilter filter, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        TaskCursor after = decodeCursor(cursor);
+        log.info("Fetching task history with filter {} after cursor {}", filter, after);
+
+        List<TaskResponse> merged = new ArrayList<>(2 * (pageSize + 1));
+        ReplicaRoutingDataSource.runOnPrimary(() -> {
+            taskRepository.findPage(filter, after, pageSize + 1).forEach(task -> merged.add(TaskResponse.fromEntity(task)));
+            archivedTaskRepository.findPage(filter, after, pageSize + 1)
+                    .forEach(task -> merged.add(TaskResponse.fromArchive(task)));
+        });
+        merged.sort(NEWEST_FIRST);
+
+        boolean hasMore = merged.size() > pageSize;
+        List<TaskResponse> page = hasMore ? merged.subList(0, pageSize) : merged;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskResponse last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TaskPageResponse(new ArrayList<>(page), nextCursor);
+    }
+
+    /**
+     * Same page as {@link #getTasks}, reading and returning only the requested fields
+     */
+    @Transactional(readOnly = true)
+    public TaskFieldsPageResponse getTaskFields(TaskFilter filter, String cursor, Integer limit, Set<TaskField> fields) {
+        int pageSize = pageSize(limit);
+        TaskCursor after = decodeCursor(cursor);
+        log.info("Fetching task fields {} with filter {} after cursor {}", fields, filter, after);
+
+        List<TaskFieldsResponse> tasks = ReplicaRoutingDataSource.callOnPrimary(
+                        () -> taskRepository.findPageFields(filter, after, pageSize + 1, fields)).stream()
+                .map(tuple -> toFieldsResponse(tuple, fields))
+                .collect(Collectors.toList());
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskFieldsResponse> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskFieldsResponse last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TaskFieldsPageResponse(page, nextCursor);
     }
 
     /**
@@ -61,22 +238,136 @@ public class TaskService {
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
         log.info("Fetching task with id: {}", id);
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findWithAssigneesById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
         return TaskResponse.fromEntity(task);
     }
 
     /**
-     * Get all unassigned tasks sorted by priority
+     * Get task by ID, looking in the archive if it is no longer active
      */
     @Transactional(readOnly = true)
-    public List<TaskResponse> getUnassignedTasks() {
-        log.info("Fetching unassigned tasks sorted by priority");
-        return taskRepository.findUnassignedTasksSortedByPriority().stream()
+    public TaskResponse getTaskByIdIncludingArchive(Long id) {
+        log.info("Fetching task with id {} including archive", id);
+        return taskRepository.findWithAssigneesById(id)
+                .map(TaskResponse::fromEntity)
+                .or(() -> archivedTaskRepository.findWithAssigneesById(id).map(TaskResponse::fromArchive))
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+    }
+
+    /**
+     * Get only the requested fields of a task
+     */
+    @Transactional(readOnly = true)
+    public TaskFieldsResponse getTaskFieldsById(Long id, Set<TaskField> fields) {
+        log.info("Fetching fields {} of task with id: {}", fields, id);
+        return taskRepository.findFieldsByIdIn(List.of(id), fields).stream()
+                .findFirst()
+                .map(tuple -> toFieldsResponse(tuple, fields))
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+    }
+
+    /**
+     * Full-text search over title, description and client address, best match first
+     */
+    @Transactional(readOnly = true)
+    public TaskSearchResponse searchTasks(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : DEFAULT_SEARCH_PAGE_SIZE;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (pageSize < 1 || pageSize > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        int offset;
+        try {
+            offset = Math.multiplyExact(pageNumber, pageSize);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("page is too large");
+        }
+        log.info("Searching tasks for '{}' (page {}, size {})", query, pageNumber, pageSize);
+
+        // Fetch one extra id to know whether another page exists
+        List<Long> ids = taskRepository.searchIds(query.trim(), offset, pageSize + 1);
+        boolean hasMore = ids.size() > pageSize;
+        if (hasMore) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        Map<Long, Task> tasksById = taskRepository.findWithAssigneesByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskResponse> items = ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .map(TaskResponse::fromEntity)
+                .collect(Collectors.toList());
+
+        return new TaskSearchResponse(items, pageNumber, pageSize, hasMore);
+    }
+
+    /**
+     * Current ETag of a task, read without loading the entity; empty if the task does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getTaskETag(Long id) {
+        return taskRepository.findUpdatedAtById(id).map(updatedAt -> ETags.forResource(id, updatedAt));
+    }
+
+    /**
+     * Current ETag of a sparse representation of a task; empty if the task does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getTaskETag(Long id, Set<TaskField> fields) {
+        return taskRepository.findUpdatedAtById(id)
+                .map(updatedAt -> ETags.forResource(id, updatedAt, TaskField.format(fields)));
+    }
+
+    /**
+     * Current ETag of a task list response for the given query parameters, taken from the in-memory list version
+     */
+    public String getTaskListETag(Object... query) {
+        return ETags.forCollection(taskListVersionService.current(), query);
+    }
+
+    /**
+     * Get unassigned tasks sorted by priority, optionally limited to the first {@code limit} tasks.
+     * Served from the in-memory dispatch backlog once it is loaded, from the database before that.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getUnassignedTasks(Integer limit) {
+        log.info("Fetching unassigned tasks sorted by priority (limit: {})", limit);
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        if (dispatchBacklogService.isReady()) {
+            return limit != null ? dispatchBacklogService.top(limit) : dispatchBacklogService.all();
+        }
+
+        Pageable pageable = limit != null ? PageRequest.of(0, limit) : Pageable.unpaged();
+        return taskRepository.findUnassignedTasksSortedByPriority(pageable).stream()
                 .map(TaskResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the most urgent unassigned task
+     */
+    @Transactional(readOnly = true)
+    public Optional<TaskResponse> getNextUnassignedTask() {
+        log.info("Fetching next unassigned task");
+        if (dispatchBacklogService.isReady()) {
+            return dispatchBacklogService.next();
+        }
+        return taskRepository.findUnassignedTasksSortedByPriority(PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(TaskResponse::fromEntity);
+    }
+
     /**
      * Update task
      */
@@ -86,10 +377,11 @@ public class TaskService {
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        Task.Priority previousPriority = task.getPriority();
 
         // Validate address if it's being updated
         if (request.getClientAddress() != null && !request.getClientAddress().equals(task.getClientAddress())) {
-            validateAddress(request.getClientAddress());
+            task.setNormalizedAddress(validateAddress(request.getClientAddress()));
         }
 
         if (request.getTitle() != null) {
@@ -101,6 +393,10 @@ public class TaskService {
         if (request.getClientAddress() != null) {
             task.setClientAddress(request.getClientAddress());
         }
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            task.setLatitude(request.getLatitude());
+            task.setLongitude(request.getLongitude());
+        }
         if (request.getPriority() != null) {
             task.setPriority(request.getPriority());
         }
@@ -108,36 +404,83 @@ public class TaskService {
             task.setEstimatedDuration(request.getEstimatedDuration());
         }
 
-        Task updatedTask = taskRepository.save(task);
+        // Flush so the response carries the new version and updatedAt
+        Task updatedTask = taskRepository.saveAndFlush(task);
         log.info("Task updated successfully with id: {}", updatedTask.getId());
 
-        return TaskResponse.fromEntity(updatedTask);
+        TaskResponse response = TaskResponse.fromEntity(updatedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, response,
+                response.getStatus(), previousPriority));
+        return response;
     }
 
-    /**
-     * Validate address format
-     * Basic validation: address should contain letters, numbers, and common address characters
-     */
-    private void validateAddress(String address) {
-        if (address == null || address.trim().isEmpty()) {
-            throw new IllegalArgumentException("Address cannot be empty");
+    private int pageSize(Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
         }
+        return pageSize;
+    }
 
-        // Basic address validation - must contain at least one digit (house/building number)
-        // and one letter (street name)
-        boolean hasDigit = address.chars().anyMatch(Character::isDigit);
-        boolean hasLetter = address.chars().anyMatch(Character::isLetter);
+    private TaskCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor) : null;
+    }
 
-        if (!hasDigit || !hasLetter) {
-            throw new IllegalArgumentException("Invalid address format. Address must contain both letters and numbers.");
+    private TaskFieldsResponse toFieldsResponse(Tuple tuple, Set<TaskField> fields) {
+        // EnumSet iteration follows declaration order, so fields come out in the same order as TaskResponse
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            values.put(field.getName(), tuple.get(field.getName()));
         }
+        return new TaskFieldsResponse(
+                tuple.get(TaskField.ID.getName(), Long.class),
+                tuple.get(TaskField.CREATED_AT.getName(), LocalDateTime.class),
+                tuple.get(TaskField.UPDATED_AT.getName(), LocalDateTime.class),
+                values);
+    }
+
+    private Task toNewTask(TaskRequest request, String normalizedAddress) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setClientAddress(request.getClientAddress());
+        task.setNormalizedAddress(normalizedAddress);
+        task.setLatitude(request.getLatitude());
+        task.setLongitude(request.getLongitude());
+        task.setPriority(request.getPriority());
+        task.setEstimatedDuration(request.getEstimatedDuration());
+        task.setStatus(Task.TaskStatus.UNASSIGNED);
+        return task;
+    }
 
-        // Check for minimum meaningful content (not just special characters)
-        String cleaned = address.replaceAll("[^a-zA-Z0-9]", "");
-        if (cleaned.length() < 3) {
-            throw new IllegalArgumentException("Address must contain meaningful content");
+    /**
+     * Bean validation plus address validation for one bulk item, collected instead of thrown
+     */
+    private List<String> validateForCreate(TaskRequest request) {
+        if (request == null) {
+            return List.of("Task is required");
+        }
+        List<String> messages = new ArrayList<>();
+        for (ConstraintViolation<TaskRequest> violation : validator.validate(request)) {
+            messages.add(violation.getMessage());
         }
+        if (messages.isEmpty()) {
+            try {
+                validateAddress(request.getClientAddress());
+            } catch (IllegalArgumentException e) {
+                messages.add(e.getMessage());
+            }
+        }
+        return messages;
+    }
 
+    /**
+     * Validate address format and return its normalized form
+     * Basic validation: address should contain letters, numbers, and common address characters
+     */
+    private String validateAddress(String address) {
+        String normalizedAddress = AddressNormalizer.normalize(address);
         log.debug("Address validation passed for: {}", address);
+        return normalizedAddress;
     }
 }
@@ -0,0 +1,250 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskDelta;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.util.ReplayBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams committed task status transitions to Server-Sent Events subscribers.
+ * Recent transitions are kept for replay so a reconnecting client resumes from its Last-Event-ID.
+ * Each subscriber has a bounded queue drained by at most one dispatcher thread at a time, so request
+ * threads never block on clients, a slow client only delays itself, and every subscriber receives
+ * events in sequence order. A subscriber whose queue fills up loses what it has not received and gets
+ * a reset event instead, telling it to reload.
+ */
+@Service
+@Slf4j
+public class TaskStatusStreamService {
+
+    public static final String STATUS_EVENT = "task-status";
+    public static final String RESET_EVENT = "reset";
+    static final int REPLAY_CAPACITY = 10_000;
+    static final long STREAM_TIMEOUT_MS = 30 * 60 * 1000L;
+    static final int QUEUE_CAPACITY = 1_000;
+
+    private static final Set<TaskChangedEvent.Type> STATUS_TRANSITIONS =
+            EnumSet.of(TaskChangedEvent.Type.ASSIGNED, TaskChangedEvent.Type.UNASSIGNED,
+                    TaskChangedEvent.Type.STARTED, TaskChangedEvent.Type.COMPLETED);
+
+    private final ReplayBuffer<TaskDelta> recentTransitions =
+            new ReplayBuffer<>(REPLAY_CAPACITY, ReplayBuffer.restartSafeInitialSequence());
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object publishLock = new Object();
+    // Threads are only held by subscribers with queued events, so a stalled client cannot starve the others
+    private final Executor dispatcher;
+
+    public TaskStatusStreamService() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "task-status-stream");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    TaskStatusStreamService(Executor dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Open a stream of status transitions, optionally limited to one technician and/or one resulting status.
+     * With a Last-Event-ID, missed transitions are sent first; if they are no longer retained a reset
+     * event tells the client to reload before relying on the stream.
+     */
+    public SseEmitter subscribe(Long technicianId, Task.TaskStatus status, String lastEventId) {
+        Long afterSequence = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                afterSequence = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Last-Event-ID must be a sequence number");
+            }
+        }
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        register(emitter, technicianId, status, afterSequence);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, Long technicianId, Task.TaskStatus status, Long afterSequence) {
+        Subscription subscription = new Subscription(emitter, technicianId, status);
+        emitter.onCompletion(() -> close(subscription));
+        emitter.onTimeout(() -> close(subscription));
+        emitter.onError(error -> close(subscription));
+
+        // Replay and registration happen under the publish lock, so no transition is missed or sent twice
+        synchronized (publishLock) {
+            if (afterSequence != null) {
+                List<TaskDelta> missed = recentTransitions.since(afterSequence)
+                        .map(transitions -> transitions.stream().filter(subscription::matches).toList())
+                        .orElse(null);
+                if (missed == null || missed.size() > QUEUE_CAPACITY) {
+                    enqueue(subscription, toReset(recentTransitions.lastSequence()));
+                } else {
+                    missed.forEach(transition -> enqueue(subscription, toEvent(transition)));
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        log.debug("Task status stream opened ({} subscribers)", subscriptions.size());
+    }
+
+    /**
+     * Sequence a committed status transition and queue it for every matching subscriber
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!STATUS_TRANSITIONS.contains(event.getType())) {
+            return;
+        }
+        synchronized (publishLock) {
+            TaskDelta transition = recentTransitions.append(sequence -> TaskDelta.of(sequence, event));
+            subscriptions.stream()
+                    .filter(subscription -> subscription.matches(transition))
+                    .forEach(subscription -> enqueue(subscription, toEvent(transition)));
+        }
+    }
+
+    /**
+     * Send a comment to every idle subscriber so idle connections survive proxies and dead ones are detected
+     */
+    @Scheduled(fixedDelayString = "${task-status-stream.heartbeat-ms:25000}")
+    public void sendHeartbeat() {
+        for (Subscription subscription : subscriptions) {
+            synchronized (subscription) {
+                if (!subscription.queue.isEmpty()) {
+                    continue;
+                }
+            }
+            enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        subscriptions.clear();
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queue an event for one subscriber and start draining its queue if no thread is doing so.
+     * Called under the publish lock for transitions, so each queue receives them in sequence order.
+     */
+    private void enqueue(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        synchronized (subscription) {
+            if (subscription.closed) {
+                return;
+            }
+            if (subscription.queue.size() >= QUEUE_CAPACITY) {
+                // The client reloads from the reset; transitions after its sequence are queued as usual
+                log.warn("Task status subscriber fell {} events behind; sending a reset", QUEUE_CAPACITY);
+                subscription.queue.clear();
+                subscription.queue.add(toReset(recentTransitions.lastSequence()));
+            } else {
+                subscription.queue.add(event);
+            }
+            if (subscription.draining) {
+                return;
+            }
+            subscription.draining = true;
+        }
+        dispatcher.execute(() -> drain(subscription));
+    }
+
+    /**
+     * Send queued events to one subscriber until its queue is empty
+     */
+    private void drain(Subscription subscription) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (subscription) {
+                event = subscription.queue.poll();
+                if (event == null) {
+                    subscription.draining = false;
+                    return;
+                }
+            }
+            send(subscription, event);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toReset(long lastSequence) {
+        return SseEmitter.event()
+                .id(String.valueOf(lastSequence))
+                .name(RESET_EVENT)
+                .data(lastSequence);
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(TaskDelta transition) {
+        return SseEmitter.event()
+                .id(String.valueOf(transition.getSequence()))
+                .name(STATUS_EVENT)
+                .data(transition, MediaType.APPLICATION_JSON);
+    }
+
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop it and let the container clean up the response
+            close(subscription);
+            subscription.emitter.completeWithError(e);
+        }
+    }
+
+    private void close(Subscription subscription) {
+        subscriptions.remove(subscription);
+        synchronized (subscription) {
+            subscription.closed = true;
+            subscription.queue.clear();
+        }
+    }
+
+    /**
+     * One open stream, its filter and the events waiting to be written to it
+     */
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private final Long technicianId;
+        private final Task.TaskStatus status;
+        // Guarded by the subscription itself
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscription(SseEmitter emitter, Long technicianId, Task.TaskStatus status) {
+            this.emitter = emitter;
+            this.technicianId = technicianId;
+            this.status = status;
+        }
+
+        boolean matches(TaskDelta transition) {
+            return (technicianId == null || technicianId.equals(transition.getAssignedTechnicianId()))
+                    && (status == null || status == transition.getStatus());
+        }
+    }
+}
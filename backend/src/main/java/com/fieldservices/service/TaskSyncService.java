@@ -0,0 +1,138 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSyncCursor;
+import com.fieldservices.dto.TaskSyncResponse;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskTombstone;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
+import com.fieldservices.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync of a technician's task list.
+ * Changes are read along (assigned_technician_id, updated_at, id) and removals from tombstones,
+ * so a refresh costs in proportion to what changed rather than to the size of the list.
+ * <p>
+ * A transaction can commit after a later one, so a change may carry an updatedAt slightly older
+ * than one already sent. Once a client has caught up its cursor is therefore held back by
+ * {@link #OVERLAP}; changes inside that window are sent again and clients apply them idempotently.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncService {
+
+    static final int DEFAULT_SYNC_PAGE_SIZE = 200;
+    static final int MAX_SYNC_PAGE_SIZE = 500;
+    static final Duration OVERLAP = Duration.ofSeconds(30);
+    // Start of a full sync; any real updatedAt is later
+    static final LocalDateTime SYNC_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final UserRepository userRepository;
+
+    @Value("${task-sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    /**
+     * Changes to the current technician's tasks since the cursor.
+     * Without a cursor, or with one older than the tombstone retention, the full list is sent
+     * (across as many pages as needed) and the response asks the client to reset.
+     */
+    @Transactional(readOnly = true)
+    public TaskSyncResponse sync(String cursorToken, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_SYNC_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_SYNC_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SYNC_PAGE_SIZE);
+        }
+        TaskSyncCursor cursor = cursorToken != null ? TaskSyncCursor.decode(cursorToken) : null;
+        Long technicianId = currentTechnicianId();
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(OVERLAP);
+        boolean reset = cursor == null || cursor.getRemovedAt().isBefore(now.minusDays(tombstoneRetentionDays));
+        if (reset) {
+            // Removals before now are irrelevant to a client that starts from scratch
+            cursor = new TaskSyncCursor(SYNC_EPOCH, 0L, horizon, 0L);
+        }
+        log.info("Syncing tasks of technician {} (reset: {})", technicianId, reset);
+
+        List<Task> tasks = taskRepository.findSyncPage(technicianId, cursor.getUpdatedAt(), cursor.getTaskId(),
+                PageRequest.of(0, pageSize));
+        List<TaskTombstone> tombstones = taskTombstoneRepository.findSyncPage(technicianId, cursor.getRemovedAt(),
+                cursor.getTombstoneId(), PageRequest.of(0, pageSize));
+        boolean tasksFull = tasks.size() == pageSize;
+        boolean tombstonesFull = tombstones.size() == pageSize;
+
+        List<TaskResponse> changed = tasks.stream().map(TaskResponse::fromEntity).collect(Collectors.toList());
+        Set<Long> removed = tombstones.stream()
+                .map(TaskTombstone::getTaskId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!removed.isEmpty()) {
+            // A task assigned back to the technician since is sent as a change instead
+            removed.removeAll(new HashSet<>(taskRepository.findIdsAssignedTo(removed, technicianId)));
+        }
+
+        TaskSyncCursor next = new TaskSyncCursor(cursor.getUpdatedAt(), cursor.getTaskId(),
+                cursor.getRemovedAt(), cursor.getTombstoneId());
+        if (!tasks.isEmpty()) {
+            Task last = tasks.get(tasks.size() - 1);
+            next.setUpdatedAt(last.getUpdatedAt());
+            next.setTaskId(last.getId());
+        }
+        if (!tombstones.isEmpty()) {
+            TaskTombstone last = tombstones.get(tombstones.size() - 1);
+            next.setRemovedAt(last.getRemovedAt());
+            next.setTombstoneId(last.getId());
+        }
+        // Hold caught-up positions back to the horizon; full pages always move forward
+        if (!tasksFull && next.getUpdatedAt().isAfter(horizon)) {
+            next.setUpdatedAt(horizon);
+            next.setTaskId(0L);
+        }
+        if (!tombstonesFull && next.getRemovedAt().isAfter(horizon)) {
+            next.setRemovedAt(horizon);
+            next.setTombstoneId(0L);
+        }
+
+        return new TaskSyncResponse(changed, List.copyOf(removed), next.encode(), tasksFull || tombstonesFull, reset);
+    }
+
+    /**
+     * Delete tombstones past the retention period; clients with older cursors get a full sync instead
+     */
+    @Scheduled(cron = "${task-sync.tombstone-purge-cron:0 45 2 * * *}")
+    public void purgeTombstones() {
+        int deleted = taskTombstoneRepository.deleteRemovedBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} task tombstones", deleted);
+        }
+    }
+
+    private Long currentTechnicianId() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("Current user not found"));
+        return user.getId();
+    }
+}
@@ -0,0 +1,106 @@
+package com.fieldservices.util;
+
+/**
+ * Validates client addresses and reduces them to a canonical key for duplicate detection.
+ * The key keeps letters and digits in lower case, collapses every run of other characters into a
+ * single space and shortens common street words, so "12 Main Street, Springfield" and
+ * "12 main st. springfield" share a key. The address is read in a single pass without regexes.
+ */
+public final class AddressNormalizer {
+
+    // Full word and its abbreviation; only whole tokens are replaced
+    private static final String[][] ABBREVIATIONS = {
+        {"street", "st"},
+        {"avenue", "ave"},
+        {"road", "rd"},
+        {"drive", "dr"},
+        {"boulevard", "blvd"},
+        {"lane", "ln"},
+        {"court", "ct"},
+        {"place", "pl"},
+        {"highway", "hwy"},
+        {"apartment", "apt"},
+        {"suite", "ste"},
+        {"north", "n"},
+        {"south", "s"},
+        {"east", "e"},
+        {"west", "w"}
+    };
+
+    private static final int MIN_ALPHANUMERIC = 3;
+
+    private AddressNormalizer() {
+    }
+
+    /**
+     * Validate an address and return its canonical key.
+     * An address must contain at least one digit (house/building number), one letter (street name)
+     * and three letters or digits overall.
+     *
+     * @throws IllegalArgumentException if the address is empty or invalid
+     */
+    public static String normalize(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Address cannot be empty");
+        }
+
+        StringBuilder key = new StringBuilder(address.length());
+        boolean hasDigit = false;
+        boolean hasLetter = false;
+        int alphanumeric = 0;
+        int tokenStart = 0;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (Character.isDigit(c)) {
+                hasDigit = true;
+                alphanumeric++;
+                key.append(c);
+            } else if (Character.isLetter(c)) {
+                hasLetter = true;
+                alphanumeric++;
+                key.append(Character.toLowerCase(c));
+            } else if (key.length() > tokenStart) {
+                abbreviate(key, tokenStart);
+                key.append(' ');
+                tokenStart = key.length();
+            }
+        }
+        if (key.length() > tokenStart) {
+            abbreviate(key, tokenStart);
+        } else if (key.length() > 0) {
+            key.setLength(key.length() - 1);
+        }
+
+        if (!hasDigit || !hasLetter) {
+            throw new IllegalArgumentException("Invalid address format. Address must contain both letters and numbers.");
+        }
+        if (alphanumeric < MIN_ALPHANUMERIC) {
+            throw new IllegalArgumentException("Address must contain meaningful content");
+        }
+        return key.toString();
+    }
+
+    /**
+     * Replace the token from start to the end of the key with its abbreviation, if it has one
+     */
+    private static void abbreviate(StringBuilder key, int start) {
+        int length = key.length() - start;
+        for (String[] abbreviation : ABBREVIATIONS) {
+            String word = abbreviation[0];
+            if (word.length() == length && regionMatches(key, start, word)) {
+                key.setLength(start);
+                key.append(abbreviation[1]);
+                return;
+            }
+        }
+    }
+
+    private static boolean regionMatches(StringBuilder key, int start, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (key.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
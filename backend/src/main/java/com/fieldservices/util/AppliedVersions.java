@@ -0,0 +1,74 @@
+package com.fieldservices.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Last applied version per key, so changes delivered out of order can be recognised as stale.
+ * Each entry remembers when it was applied, and owners purge the keys they no longer hold once
+ * the grace period has passed; reordering only spans milliseconds, so older entries are not needed.
+ * Not thread-safe; callers guard it with their own lock.
+ */
+public class AppliedVersions<K> {
+
+    private final long graceMillis;
+    private final Map<K, Entry> entries = new HashMap<>();
+
+    /**
+     * @param graceMillis how long a version is kept after it was applied once its key is no longer retained
+     */
+    public AppliedVersions(long graceMillis) {
+        if (graceMillis < 0) {
+            throw new IllegalArgumentException("Grace period must not be negative");
+        }
+        this.graceMillis = graceMillis;
+    }
+
+    /**
+     * Remember the version unless a newer one was already applied; returns whether it is newer.
+     * A null version is always applied and not remembered.
+     */
+    public boolean record(K key, Long version, long nowMillis) {
+        if (version == null) {
+            return true;
+        }
+        Entry applied = entries.get(key);
+        if (applied != null && applied.version >= version) {
+            return false;
+        }
+        entries.put(key, new Entry(version, nowMillis));
+        return true;
+    }
+
+    /**
+     * Forget the keys that are not retained and were applied at least the grace period ago; returns how many
+     */
+    public int purge(long nowMillis, Predicate<K> retained) {
+        int purged = 0;
+        Iterator<Map.Entry<K, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry> entry = iterator.next();
+            if (nowMillis - entry.getValue().appliedAtMillis >= graceMillis && !retained.test(entry.getKey())) {
+                iterator.remove();
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final long appliedAtMillis;
+
+        private Entry(long version, long appliedAtMillis) {
+            this.version = version;
+            this.appliedAtMillis = appliedAtMillis;
+        }
+    }
+}
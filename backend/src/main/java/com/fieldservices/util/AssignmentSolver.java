@@ -0,0 +1,133 @@
+package com.fieldservices.util;
+
+import java.util.Arrays;
+
+/**
+ * Minimum-cost assignment (Hungarian algorithm in its shortest augmenting path form with dual potentials).
+ * Every row is matched to a distinct column; with more columns than rows the cheapest subset of
+ * columns is used. O(rows^2 * cols) in the worst case, but each row's search stops at the first free
+ * column it reaches, so typical dispatch matrices solve far faster.
+ */
+public final class AssignmentSolver {
+
+    private AssignmentSolver() {
+    }
+
+    /**
+     * Solve a rows x cols cost matrix stored row-major, returning the column assigned to each row
+     *
+     * @throws IllegalArgumentException if there are more rows than columns or the matrix size does not match
+     */
+    public static int[] solve(double[] cost, int rows, int cols) {
+        if (rows > cols || cost.length != rows * cols) {
+            throw new IllegalArgumentException("Cost matrix must be rows x cols with rows <= cols");
+        }
+        double[] rowPotential = new double[rows];
+        double[] colPotential = new double[cols];
+        int[] colOfRow = new int[rows];
+        int[] rowOfCol = new int[cols];
+        Arrays.fill(colOfRow, -1);
+        Arrays.fill(rowOfCol, -1);
+        // Start each row's potential at its cheapest entry and take that column when no earlier row has;
+        // such pairs have zero reduced cost, so only rows that collided need a search below
+        for (int row = 0; row < rows; row++) {
+            int offset = row * cols;
+            int cheapest = 0;
+            for (int col = 1; col < cols; col++) {
+                if (cost[offset + col] < cost[offset + cheapest]) {
+                    cheapest = col;
+                }
+            }
+            rowPotential[row] = cost[offset + cheapest];
+            if (rowOfCol[cheapest] == -1) {
+                rowOfCol[cheapest] = row;
+                colOfRow[row] = cheapest;
+            }
+        }
+
+        double[] pathCost = new double[cols];
+        int[] previousRow = new int[cols];
+        int[] remaining = new int[cols];
+        boolean[] rowVisited = new boolean[rows];
+        boolean[] colVisited = new boolean[cols];
+
+        for (int startRow = 0; startRow < rows; startRow++) {
+            if (colOfRow[startRow] != -1) {
+                continue;
+            }
+            Arrays.fill(pathCost, Double.POSITIVE_INFINITY);
+            Arrays.fill(rowVisited, false);
+            Arrays.fill(colVisited, false);
+            for (int col = 0; col < cols; col++) {
+                remaining[col] = cols - col - 1;
+            }
+            int remainingCount = cols;
+
+            // Dijkstra over reduced costs until a free column is reached
+            double shortest = 0;
+            int row = startRow;
+            int sink = -1;
+            while (sink == -1) {
+                rowVisited[row] = true;
+                int offset = row * cols;
+                double base = shortest - rowPotential[row];
+                double lowest = Double.POSITIVE_INFINITY;
+                int lowestIndex = -1;
+                for (int i = 0; i < remainingCount; i++) {
+                    int col = remaining[i];
+                    double reduced = base + cost[offset + col] - colPotential[col];
+                    double best = pathCost[col];
+                    if (reduced < best) {
+                        best = reduced;
+                        pathCost[col] = reduced;
+                        previousRow[col] = row;
+                    }
+                    // Prefer a free column on ties so the search ends sooner
+                    if (best < lowest || (best == lowest && rowOfCol[col] == -1)) {
+                        lowest = best;
+                        lowestIndex = i;
+                    }
+                }
+                if (lowestIndex == -1) {
+                    throw new IllegalArgumentException("Cost matrix has no feasible assignment");
+                }
+                shortest = lowest;
+                int col = remaining[lowestIndex];
+                colVisited[col] = true;
+                remaining[lowestIndex] = remaining[--remainingCount];
+                if (rowOfCol[col] == -1) {
+                    sink = col;
+                } else {
+                    row = rowOfCol[col];
+                }
+            }
+
+            // Update potentials so reduced costs stay non-negative
+            rowPotential[startRow] += shortest;
+            for (int r = 0; r < rows; r++) {
+                if (rowVisited[r] && r != startRow) {
+                    rowPotential[r] += shortest - pathCost[colOfRow[r]];
+                }
+            }
+            for (int col = 0; col < cols; col++) {
+                if (colVisited[col]) {
+                    colPotential[col] -= shortest - pathCost[col];
+                }
+            }
+
+            // Flip the matching along the augmenting path
+            int col = sink;
+            while (true) {
+                int r = previousRow[col];
+                rowOfCol[col] = r;
+                int next = colOfRow[r];
+                colOfRow[r] = col;
+                if (r == startRow) {
+                    break;
+                }
+                col = next;
+            }
+        }
+        return colOfRow;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fieldservices.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Builds and compares strong entity tags for conditional GET requests
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Tag for a single resource, derived from its id and last modification time
+     */
+    public static String forResource(Long id, LocalDateTime updatedAt) {
+        return quote(id + "-" + stamp(updatedAt));
+    }
+
+    /**
+     * Tag for one representation of a resource, such as a sparse fieldset, so it never matches another representation
+     */
+    public static String forResource(Long id, LocalDateTime updatedAt, String variant) {
+        return quote(id + "-" + stamp(updatedAt) + "-" + digest(variant));
+    }
+
+    /**
+     * Tag for a collection response, derived from the collection version and the query that produced it
+     */
+    public static String forCollection(long version, Object... query) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object part : query) {
+            // Length-prefixed so no two different queries share a canonical form
+            if (part == null) {
+                canonical.append('-');
+            } else {
+                String value = part.toString();
+                canonical.append(value.length()).append(':').append(value);
+            }
+            canonical.append(';');
+        }
+        return quote(Long.toHexString(version) + "-" + digest(canonical.toString()));
+    }
+
+    /**
+     * Whether an If-None-Match header value matches the current tag
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stamp(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return "0";
+        }
+        return Long.toHexString(timestamp.toEpochSecond(ZoneOffset.UTC)) + "." + Integer.toHexString(timestamp.getNano());
+    }
+
+    /**
+     * First 128 bits of the SHA-256 of the value, in hex
+     */
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,51 @@
+package com.fieldservices.util;
+
+/**
+ * Geographic helper functions shared by the location and mileage services
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Calculate distance between two coordinates using Haversine formula
+     * Returns distance in kilometers
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * Position on the unit sphere, for computing many distances from the same coordinates
+     * without repeating the trigonometry
+     */
+    public static double[] toUnitVector(double lat, double lon) {
+        double latRad = Math.toRadians(lat);
+        double lonRad = Math.toRadians(lon);
+        double cosLat = Math.cos(latRad);
+        return new double[] {cosLat * Math.cos(lonRad), cosLat * Math.sin(lonRad), Math.sin(latRad)};
+    }
+
+    /**
+     * Great-circle distance between two points from toUnitVector, in kilometers
+     */
+    public static double distanceKm(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        double halfChord = Math.sqrt(dx * dx + dy * dy + dz * dz) / 2;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, halfChord));
+    }
+}
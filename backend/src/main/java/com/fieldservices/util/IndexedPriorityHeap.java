@@ -0,0 +1,176 @@
+package com.fieldservices.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Binary min-heap with a key index, so entries can be updated or removed by key in O(log n).
+ * Not thread-safe; callers must synchronize access.
+ */
+public class IndexedPriorityHeap<K, V> {
+
+    private final Comparator<? super V> comparator;
+    private final List<K> keys = new ArrayList<>();
+    private final List<V> values = new ArrayList<>();
+    private final Map<K, Integer> positions = new HashMap<>();
+
+    public IndexedPriorityHeap(Comparator<? super V> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean contains(K key) {
+        return positions.containsKey(key);
+    }
+
+    /**
+     * Insert an entry, or replace the value of an existing key and restore heap order
+     */
+    public void put(K key, V value) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            keys.add(key);
+            values.add(value);
+            positions.put(key, values.size() - 1);
+            siftUp(values.size() - 1);
+            return;
+        }
+        values.set(position, value);
+        if (!siftUp(position)) {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * Remove an entry by key, returning its value or null if absent
+     */
+    public V remove(K key) {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            return null;
+        }
+        V removed = values.get(position);
+        int last = values.size() - 1;
+        if (position != last) {
+            move(last, position);
+        }
+        keys.remove(last);
+        values.remove(last);
+        if (position != last && !siftUp(position)) {
+            siftDown(position);
+        }
+        return removed;
+    }
+
+    /**
+     * Smallest value, or null if the heap is empty
+     */
+    public V peek() {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * The k smallest values in order, without modifying the heap.
+     * Walks the heap with an auxiliary queue of candidate positions, so it costs O(k log k).
+     */
+    public List<V> top(int k) {
+        int limit = Math.min(k, values.size());
+        List<V> result = new ArrayList<>(limit);
+        if (limit == 0) {
+            return result;
+        }
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(
+                (a, b) -> comparator.compare(values.get(a), values.get(b)));
+        candidates.add(0);
+        while (result.size() < limit) {
+            int position = candidates.poll();
+            result.add(values.get(position));
+            int left = 2 * position + 1;
+            if (left < values.size()) {
+                candidates.add(left);
+            }
+            if (left + 1 < values.size()) {
+                candidates.add(left + 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replace the whole content, building the heap bottom-up in O(n)
+     */
+    public void rebuild(Map<K, V> entries) {
+        clear();
+        entries.forEach((key, value) -> {
+            keys.add(key);
+            values.add(value);
+            positions.put(key, values.size() - 1);
+        });
+        for (int i = values.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    public void clear() {
+        keys.clear();
+        values.clear();
+        positions.clear();
+    }
+
+    private boolean siftUp(int position) {
+        int start = position;
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (comparator.compare(values.get(position), values.get(parent)) >= 0) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position != start;
+    }
+
+    private void siftDown(int position) {
+        int size = values.size();
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && comparator.compare(values.get(left), values.get(smallest)) < 0) {
+                smallest = left;
+            }
+            if (right < size && comparator.compare(values.get(right), values.get(smallest)) < 0) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        K keyA = keys.get(a);
+        V valueA = values.get(a);
+        keys.set(a, keys.get(b));
+        values.set(a, values.get(b));
+        keys.set(b, keyA);
+        values.set(b, valueA);
+        positions.put(keys.get(a), a);
+        positions.put(keys.get(b), b);
+    }
+
+    private void move(int from, int to) {
+        keys.set(to, keys.get(from));
+        values.set(to, values.get(from));
+        positions.put(keys.get(to), to);
+    }
+}
@@ -0,0 +1,78 @@
+package com.fieldservices.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+/**
+ * Fixed-size ring of the most recent entries, each stamped with a consecutive sequence number,
+ * so consumers that fell behind can catch up from the last sequence they saw.
+ * Thread-safe.
+ */
+public class ReplayBuffer<T> {
+
+    private final Object[] entries;
+    private final long initialSequence;
+    private long lastSequence;
+
+    /**
+     * @param capacity        number of entries kept for replay
+     * @param initialSequence sequence reported before anything is appended; the first entry gets the next one
+     */
+    public ReplayBuffer(int capacity, long initialSequence) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.entries = new Object[capacity];
+        this.initialSequence = initialSequence;
+        this.lastSequence = initialSequence;
+    }
+
+    /**
+     * Initial sequence for counters that clients keep across restarts: the current time in microseconds.
+     * Seeded once per process, a counter starts ahead of anything the previous run handed out (unless it
+     * issued more than a million per second), so a sequence or tag from before a restart is always older
+     * than anything retained and never matches a current one.
+     */
+    public static long restartSafeInitialSequence() {
+        return System.currentTimeMillis() * 1000;
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Assign the next sequence number, build the entry for it and store it, evicting the oldest entry when full
+     */
+    public synchronized T append(LongFunction<T> factory) {
+        long sequence = lastSequence + 1;
+        T entry = factory.apply(sequence);
+        entries[slot(sequence)] = entry;
+        lastSequence = sequence;
+        return entry;
+    }
+
+    /**
+     * Entries appended after the given sequence, oldest first.
+     * Empty if some of them have already been evicted or the sequence was never issued by this buffer,
+     * in which case the caller has to reload its state instead of replaying.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Optional<List<T>> since(long afterSequence) {
+        long oldestRetained = Math.max(initialSequence + 1, lastSequence - entries.length + 1);
+        if (afterSequence < oldestRetained - 1 || afterSequence > lastSequence) {
+            return Optional.empty();
+        }
+        List<T> replay = new ArrayList<>((int) (lastSequence - afterSequence));
+        for (long sequence = afterSequence + 1; sequence <= lastSequence; sequence++) {
+            replay.add((T) entries[slot(sequence)]);
+        }
+        return Optional.of(replay);
+    }
+
+    private int slot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) entries.length);
+    }
+}
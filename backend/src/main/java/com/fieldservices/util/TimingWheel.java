@@ -0,0 +1,190 @@
+package com.fieldservices.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel keyed by K, with deadlines rounded up to whole ticks.
+ * Each level has the same number of slots and a tick span that many times the level below,
+ * so scheduling, cancelling and expiring an entry are O(1); an entry cascades down at most once per level.
+ * Deadlines beyond the top level are parked in its furthest slot and re-placed when it comes round.
+ * Not thread-safe; callers must synchronize access.
+ */
+public class TimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int slotBits;
+    private final int slotMask;
+    private final int levels;
+    private final Entry<K, V>[][] slots;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * @param slotBits slots per level as a power of two
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, int slotBits, int levels, long startMillis) {
+        if (tickMillis <= 0 || slotBits <= 0 || levels <= 0 || (long) slotBits * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.slotBits = slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.levels = levels;
+        this.slots = new Entry[levels][1 << slotBits];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * The value scheduled for a key, or null if absent
+     */
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Schedule a value to expire at the given time, replacing any existing entry for the key.
+     * A deadline that has already passed expires on the next advance.
+     */
+    public void schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.floorDiv(deadlineMillis, tickMillis);
+        if (Math.floorMod(deadlineMillis, tickMillis) != 0) {
+            deadlineTick++;
+        }
+        Entry<K, V> entry = new Entry<>(key, value, Math.max(deadlineTick, currentTick + 1));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    /**
+     * Remove a key, returning its value or null if absent
+     */
+    public V cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        unlink(entry);
+        return entry.value;
+    }
+
+    /**
+     * Move the wheel forward to the given time and return the values that expired.
+     * Each tick passed costs O(1) plus the entries expiring or cascading in it.
+     */
+    public List<V> advance(long nowMillis) {
+        List<V> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Entry<K, V> entry = detach(0, (int) (currentTick & slotMask));
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+                entry.next = null;
+                entry.prev = null;
+                if (entry.deadlineTick <= currentTick) {
+                    entries.remove(entry.key);
+                    expired.add(entry.value);
+                } else {
+                    place(entry);
+                }
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * When a level wraps to slot zero, redistribute the current slot of the level above it into the lower levels
+     */
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (level * slotBits)) - 1)) != 0) {
+                return;
+            }
+            Entry<K, V> entry = detach(level, (int) ((currentTick >>> (level * slotBits)) & slotMask));
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+                entry.next = null;
+                entry.prev = null;
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delta = Math.max(entry.deadlineTick - currentTick, 0);
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << ((level + 1) * slotBits)) {
+                link(entry, level, (int) ((entry.deadlineTick >>> (level * slotBits)) & slotMask));
+                return;
+            }
+        }
+        // Too far out for the wheel: park it in the top slot that comes round last
+        int top = levels - 1;
+        long topSlot = (currentTick >>> (top * slotBits)) - 1;
+        link(entry, top, (int) (topSlot & slotMask));
+    }
+
+    private void link(Entry<K, V> entry, int level, int slot) {
+        Entry<K, V> head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private Entry<K, V> detach(int level, int slot) {
+        Entry<K, V> head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private int level;
+        private int slot;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
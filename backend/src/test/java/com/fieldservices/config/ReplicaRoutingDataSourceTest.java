@@ -0,0 +1,163 @@
+package com.fieldservices.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), 5000, 5000);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("dispatcher1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    private Object routeReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routingDataSource.determineCurrentLookupKey();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private void reportLag(DataSource replica, Double lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet result = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(result);
+        when(result.getDouble(1)).thenReturn(lagMillis != null ? lagMillis : 0.0);
+        when(result.wasNull()).thenReturn(lagMillis == null);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReadOnlyTransactionsAlternateBetweenReplicas() {
+        // Act
+        Object first = routeReadOnly();
+        Object second = routeReadOnly();
+        Object third = routeReadOnly();
+
+        // Assert
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-1", "replica-2");
+        assertThat(third).isEqualTo(first);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReadWriteTransactionUsesPrimary() {
+        // Act
+        Object key = routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ReadsOwnWritesFromPrimaryAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        routingDataSource.determineCurrentLookupKey();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Act
+        Object beforeCommit = routeReadOnly();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        Object afterCommit = routeReadOnly();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("dispatcher2", null, List.of()));
+        Object otherUser = routeReadOnly();
+
+        // Assert
+        assertThat(beforeCommit).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(afterCommit).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(otherUser).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void runOnPrimary_RoutesReadOnlyTransactionsToPrimaryUntilItReturns() {
+        // Arrange
+        List<Object> keys = new ArrayList<>();
+
+        // Act
+        ReplicaRoutingDataSource.runOnPrimary(() -> {
+            keys.add(routeReadOnly());
+            keys.add(ReplicaRoutingDataSource.callOnPrimary(this::routeReadOnly));
+            keys.add(routeReadOnly());
+        });
+        Object afterwards = routeReadOnly();
+
+        // Assert
+        assertThat(keys).containsOnly(ReplicaRoutingDataSource.PRIMARY).hasSize(3);
+        assertThat(afterwards).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void checkReplicas_SkipsLaggingReplica() throws SQLException {
+        // Arrange
+        reportLag(replica1, 12000.0);
+        reportLag(replica2, 0.0);
+
+        // Act
+        routingDataSource.checkReplicas();
+
+        // Assert
+        assertThat(routeReadOnly()).isEqualTo("replica-2");
+        assertThat(routeReadOnly()).isEqualTo("replica-2");
+    }
+
+    @Test
+    void checkReplicas_FallsBackToPrimaryWhenNoReplicaIsUsable() throws SQLException {
+        // Arrange
+        reportLag(replica1, null);
+        when(replica2.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        routingDataSource.checkReplicas();
+
+        // Assert
+        assertThat(routeReadOnly()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+}
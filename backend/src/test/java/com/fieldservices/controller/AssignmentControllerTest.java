@@ -1,11 +1,15 @@
 package com.fieldservices.controller;
 
 import com.fieldservices.dto.AssignmentRequest;
+import com.fieldservices.dto.AutoDispatchAssignment;
+import com.fieldservices.dto.AutoDispatchResponse;
 import com.fieldservices.dto.TaskResponse;
 import com.fieldservices.dto.TechnicianResponse;
 import com.fieldservices.model.Task;
 import com.fieldservices.model.User;
 import com.fieldservices.service.AssignmentService;
+import com.fieldservices.service.AutoDispatchService;
+import com.fieldservices.service.TaskService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,6 +37,12 @@ class AssignmentControllerTest {
     @Mock
     private AssignmentService assignmentService;
 
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private AutoDispatchService autoDispatchService;
+
     @InjectMocks
     private AssignmentController assignmentController;
 
@@ -85,6 +96,21 @@ class AssignmentControllerTest {
         verify(assignmentService, times(1)).assignTask(eq(1L), any(AssignmentRequest.class));
     }
 
+    @Test
+    void assignTask_ConcurrentModification_ReturnsConflictWithCurrentTask() {
+        // Arrange
+        when(assignmentService.assignTask(eq(1L), any(AssignmentRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+
+        // Act
+        ResponseEntity<TaskResponse> response = assignmentController.assignTask(1L, assignmentRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isEqualTo(taskResponse);
+    }
+
     @Test
     void assignTask_TaskNotFound_ThrowsException() {
         // Arrange
@@ -134,6 +160,35 @@ class AssignmentControllerTest {
         verify(assignmentService, times(1)).assignTask(eq(1L), any(AssignmentRequest.class));
     }
 
+    @Test
+    void unassignTask_ReturnsUnassignedTask() {
+        // Arrange
+        taskResponse.setStatus(Task.TaskStatus.UNASSIGNED);
+        taskResponse.setAssignedTechnicianId(null);
+        when(assignmentService.unassignTask(1L)).thenReturn(taskResponse);
+
+        // Act
+        ResponseEntity<TaskResponse> response = assignmentController.unassignTask(1L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getStatus()).isEqualTo(Task.TaskStatus.UNASSIGNED);
+    }
+
+    @Test
+    void unassignTask_ConcurrentModification_ReturnsConflictWithCurrentTask() {
+        // Arrange
+        when(assignmentService.unassignTask(1L)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+
+        // Act
+        ResponseEntity<TaskResponse> response = assignmentController.unassignTask(1L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isEqualTo(taskResponse);
+    }
+
     @Test
     void getAvailableTechnicians_ReturnsList() {
         // Arrange
@@ -176,4 +231,38 @@ class AssignmentControllerTest {
         assertThat(response.getBody()).isEmpty();
         verify(assignmentService, times(1)).getAvailableTechnicians();
     }
+
+    @Test
+    void suggestAutoDispatch_ReturnsPlanWithoutApplying() {
+        // Arrange
+        AutoDispatchResponse plan = AutoDispatchResponse.builder()
+                .assignments(List.of(AutoDispatchAssignment.builder().taskId(1L).technicianId(1L).cost(3.5).build()))
+                .tasksConsidered(1)
+                .techniciansConsidered(1)
+                .totalCost(3.5)
+                .skippedTaskIds(List.of())
+                .build();
+        when(autoDispatchService.suggest()).thenReturn(plan);
+
+        // Act
+        ResponseEntity<AutoDispatchResponse> response = assignmentController.suggestAutoDispatch();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(plan);
+        verify(autoDispatchService, never()).apply();
+    }
+
+    @Test
+    void applyAutoDispatch_ConcurrentModification_ReturnsConflict() {
+        // Arrange
+        when(autoDispatchService.apply()).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // Act
+        ResponseEntity<AutoDispatchResponse> response = assignmentController.applyAutoDispatch();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNull();
+    }
 }
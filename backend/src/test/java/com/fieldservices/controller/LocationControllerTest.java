@@ -66,6 +66,24 @@ class LocationControllerTest {
         assertThat(response.getBody().getLongitude()).isEqualTo(-74.0060);
     }
 
+    @Test
+    void testUpdateLocation_AcceptedWithoutPersisting() {
+        // Given
+        LocationResponse notPersisted = LocationResponse.builder()
+                .userId(1L)
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .build();
+        when(locationService.updateLocation(any(LocationUpdateRequest.class))).thenReturn(notPersisted);
+
+        // When
+        ResponseEntity<LocationResponse> response = locationController.updateLocation(testRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getId()).isNull();
+    }
+
     @Test
     void testUpdateLocation_Throttled() {
         // Given
@@ -0,0 +1,61 @@
+package com.fieldservices.controller;
+
+import com.fieldservices.dto.LocationImportRequest;
+import com.fieldservices.dto.LocationImportResponse;
+import com.fieldservices.service.LocationImportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationImportControllerTest {
+
+    @Mock
+    private LocationImportService locationImportService;
+
+    @InjectMocks
+    private LocationImportController locationImportController;
+
+    private final LocationImportRequest request =
+            new LocationImportRequest("history.csv", LocationImportRequest.Format.CSV);
+
+    @Test
+    void testImportLocations_Success() {
+        // Given
+        LocationImportResponse importResponse = LocationImportResponse.builder()
+                .fileName("history.csv")
+                .format(LocationImportRequest.Format.CSV)
+                .rowsImported(1_000_000L)
+                .elapsedMillis(4_000L)
+                .rowsPerSecond(250_000.0)
+                .build();
+        when(locationImportService.importLocations(request)).thenReturn(importResponse);
+
+        // When
+        ResponseEntity<LocationImportResponse> response = locationImportController.importLocations(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getRowsImported()).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void testImportLocations_InvalidFile() {
+        // Given
+        when(locationImportService.importLocations(request))
+                .thenThrow(new IllegalArgumentException("Import file not found: history.csv"));
+
+        // When
+        ResponseEntity<LocationImportResponse> response = locationImportController.importLocations(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,76 @@
+package com.fieldservices.controller;
+
+import com.fieldservices.dto.DailyMileageResponse;
+import com.fieldservices.service.MileageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MileageControllerTest {
+
+    @Mock
+    private MileageService mileageService;
+
+    @InjectMocks
+    private MileageController mileageController;
+
+    @Test
+    void testGetDailyMileage_ForDate() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 11, 18);
+        DailyMileageResponse mileage = DailyMileageResponse.builder()
+                .technicianId(1L)
+                .date(date)
+                .distanceKm(35.2)
+                .pointCount(90)
+                .build();
+        when(mileageService.getDailyMileage(date)).thenReturn(List.of(mileage));
+
+        // When
+        ResponseEntity<List<DailyMileageResponse>> response = mileageController.getDailyMileage(date);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(mileage);
+    }
+
+    @Test
+    void testGetDailyMileage_DefaultsToToday() {
+        // Given
+        when(mileageService.getDailyMileage(LocalDate.now())).thenReturn(List.of());
+
+        // When
+        ResponseEntity<List<DailyMileageResponse>> response = mileageController.getDailyMileage(null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(mileageService).getDailyMileage(LocalDate.now());
+    }
+
+    @Test
+    void testGetTechnicianMileage_InvalidRange() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 11, 20);
+        LocalDate to = LocalDate.of(2025, 11, 18);
+        when(mileageService.getTechnicianMileage(1L, from, to))
+                .thenThrow(new IllegalArgumentException("'from' date must not be after 'to' date"));
+
+        // When
+        ResponseEntity<List<DailyMileageResponse>> response = mileageController.getTechnicianMileage(1L, from, to);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
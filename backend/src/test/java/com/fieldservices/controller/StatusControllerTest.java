@@ -2,8 +2,12 @@ package com.fieldservices.controller;
 
 import com.fieldservices.dto.TaskCompleteRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskTransitionBatchResponse;
+import com.fieldservices.dto.TaskTransitionRequest;
+import com.fieldservices.dto.TaskTransitionResult;
 import com.fieldservices.model.Task;
 import com.fieldservices.service.StatusService;
+import com.fieldservices.service.TaskStatusStreamService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,13 +17,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +38,9 @@ class StatusControllerTest {
     @Mock
     private StatusService statusService;
 
+    @Mock
+    private TaskStatusStreamService taskStatusStreamService;
+
     @InjectMocks
     private StatusController statusController;
 
@@ -83,6 +96,20 @@ class StatusControllerTest {
                 .hasMessageContaining("Cannot start task");
     }
 
+    @Test
+    void testStartTask_ConcurrentModification_ReturnsConflictWithCurrentTask() {
+        // Given
+        when(statusService.startTask(1L)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+        when(statusService.getTaskStatus(1L)).thenReturn(testResponse);
+
+        // When
+        ResponseEntity<TaskResponse> response = statusController.startTask(1L);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isEqualTo(testResponse);
+    }
+
     @Test
     void testCompleteTask_Success() {
         // Given
@@ -148,7 +175,7 @@ class StatusControllerTest {
         when(statusService.getTaskStatus(1L)).thenReturn(testResponse);
 
         // When
-        ResponseEntity<TaskResponse> response = statusController.getTaskStatus(1L);
+        ResponseEntity<TaskResponse> response = statusController.getTaskStatus(1L, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -164,8 +191,109 @@ class StatusControllerTest {
                 .thenThrow(new EntityNotFoundException("Task not found with id: 999"));
 
         // When/Then
-        assertThatThrownBy(() -> statusController.getTaskStatus(999L))
+        assertThatThrownBy(() -> statusController.getTaskStatus(999L, null))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Task not found");
     }
+
+    @Test
+    void testGetTaskStatus_MatchingETag_ReturnsNotModified() {
+        // Given
+        String etag = "\"1-65a4f2c0.0\"";
+        when(statusService.getTaskETag(1L)).thenReturn(Optional.of(etag));
+
+        // When
+        ResponseEntity<TaskResponse> response = statusController.getTaskStatus(1L, etag);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(statusService, never()).getTaskStatus(any());
+    }
+
+    @Test
+    void testGetTaskStatus_StaleETag_ReturnsTask() {
+        // Given
+        when(statusService.getTaskETag(1L)).thenReturn(Optional.of("\"1-65a4f2c1.0\""));
+        when(statusService.getTaskStatus(1L)).thenReturn(testResponse);
+
+        // When
+        ResponseEntity<TaskResponse> response = statusController.getTaskStatus(1L, "\"1-65a4f2c0.0\"");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(testResponse);
+    }
+
+    @Test
+    void testStreamStatusChanges_ReturnsEmitter() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        when(taskStatusStreamService.subscribe(5L, Task.TaskStatus.COMPLETED, "42")).thenReturn(emitter);
+
+        // When
+        ResponseEntity<SseEmitter> response =
+                statusController.streamStatusChanges(5L, Task.TaskStatus.COMPLETED, "42");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(emitter);
+    }
+
+    @Test
+    void testStreamStatusChanges_InvalidLastEventId() {
+        // Given
+        when(taskStatusStreamService.subscribe(null, null, "abc"))
+                .thenThrow(new IllegalArgumentException("Last-Event-ID must be a sequence number"));
+
+        // When
+        ResponseEntity<SseEmitter> response = statusController.streamStatusChanges(null, null, "abc");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testApplyTransitions_ReturnsPerItemResults() {
+        // Given
+        List<TaskTransitionRequest> transitions = List.of(
+                new TaskTransitionRequest(1L, TaskTransitionRequest.Action.START, LocalDateTime.now(), null));
+        TaskTransitionBatchResponse batch = new TaskTransitionBatchResponse(1, List.of(new TaskTransitionResult(
+                0, 1L, TaskTransitionResult.Outcome.APPLIED, null, testResponse)));
+        when(statusService.applyTransitions(transitions)).thenReturn(batch);
+
+        // When
+        ResponseEntity<TaskTransitionBatchResponse> response = statusController.applyTransitions(transitions);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(batch);
+    }
+
+    @Test
+    void testApplyTransitions_InvalidBatch() {
+        // Given
+        when(statusService.applyTransitions(List.of())).thenThrow(new IllegalArgumentException("empty"));
+
+        // When
+        ResponseEntity<TaskTransitionBatchResponse> response = statusController.applyTransitions(List.of());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testApplyTransitions_ConcurrentModification_ReturnsConflict() {
+        // Given
+        List<TaskTransitionRequest> transitions = List.of(
+                new TaskTransitionRequest(1L, TaskTransitionRequest.Action.START, null, null));
+        when(statusService.applyTransitions(transitions))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // When
+        ResponseEntity<TaskTransitionBatchResponse> response = statusController.applyTransitions(transitions);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
 }
@@ -1,9 +1,31 @@
 package com.fieldservices.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fieldservices.dto.BulkTaskError;
+import com.fieldservices.dto.BulkTaskResponse;
+import com.fieldservices.dto.TaskBoardEntry;
+import com.fieldservices.dto.TaskBoardResponse;
+import com.fieldservices.dto.TaskChangesResponse;
+import com.fieldservices.dto.TaskDelta;
+import com.fieldservices.dto.TaskEventResponse;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFieldsPageResponse;
+import com.fieldservices.dto.TaskFieldsResponse;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.dto.TaskPageResponse;
 import com.fieldservices.dto.TaskRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSearchResponse;
+import com.fieldservices.dto.TaskSummaryResponse;
+import com.fieldservices.dto.TaskSyncResponse;
 import com.fieldservices.model.Task;
+import com.fieldservices.service.TaskCountersService;
+import com.fieldservices.service.TaskEventLogService;
+import com.fieldservices.service.TaskExportService;
+import com.fieldservices.service.TaskFeedService;
 import com.fieldservices.service.TaskService;
+import com.fieldservices.service.TaskSyncService;
+import com.fieldservices.util.ETags;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,15 +34,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +61,21 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskFeedService taskFeedService;
+
+    @Mock
+    private TaskCountersService taskCountersService;
+
+    @Mock
+    private TaskSyncService taskSyncService;
+
+    @Mock
+    private TaskEventLogService taskEventLogService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -77,7 +123,7 @@ class TaskControllerTest {
     }
 
     @Test
-    void getAllTasks_ReturnsTaskList() {
+    void getTasks_ReturnsTaskListWithNextCursorHeader() {
         // Arrange
         TaskResponse task2 = TaskResponse.builder()
                 .id(2L)
@@ -90,10 +136,12 @@ class TaskControllerTest {
                 .build();
 
         List<TaskResponse> tasks = Arrays.asList(testResponse, task2);
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        TaskFilter filter = TaskFilter.builder().priority(Task.Priority.HIGH).build();
+        when(taskService.getTasks(filter, null, 2)).thenReturn(new TaskPageResponse(tasks, "next-page"));
 
         // Act
-        ResponseEntity<List<TaskResponse>> response = taskController.getAllTasks();
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, Task.Priority.HIGH, null, null, null, null, 2, false, null);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -101,24 +149,383 @@ class TaskControllerTest {
         assertThat(response.getBody()).hasSize(2);
         assertThat(response.getBody().get(0).getId()).isEqualTo(1L);
         assertThat(response.getBody().get(1).getId()).isEqualTo(2L);
-        verify(taskService, times(1)).getAllTasks();
+        assertThat(response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER)).isEqualTo("next-page");
+        verify(taskService, times(1)).getTasks(filter, null, 2);
+    }
+
+    @Test
+    void getTasks_LastPage_NoCursorHeader() {
+        // Arrange
+        when(taskService.getTasks(any(TaskFilter.class), eq("abc"), eq(null)))
+                .thenReturn(new TaskPageResponse(List.of(testResponse), null));
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, null, null, null, null, "abc", null, false, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey(TaskController.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    void getTasks_InvalidCursor_ReturnsBadRequest() {
+        // Arrange
+        when(taskService.getTasks(any(TaskFilter.class), eq("bad"), eq(null)))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, null, null, null, null, "bad", null, false, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getTasks_WithHistory_IncludesArchivedTasks() {
+        // Arrange
+        TaskResponse archived = TaskResponse.builder()
+                .id(9L)
+                .title("Archived Task")
+                .status(Task.TaskStatus.COMPLETED)
+                .build();
+        when(taskService.getTaskListETag(null, null, null, null, null, null, null, true)).thenReturn("\"6-abe-2\"");
+        when(taskService.getTaskHistory(any(TaskFilter.class), eq(null), eq(null)))
+                .thenReturn(new TaskPageResponse(List.of(testResponse, archived), null));
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, null, null, null, null, null, null, true, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(testResponse, archived);
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+
+    @Test
+    void getTaskFields_ReturnsSparseTasksWithNextCursorHeader() {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.TITLE, TaskField.STATUS);
+        TaskFieldsResponse sparse = new TaskFieldsResponse(1L, LocalDateTime.now(), LocalDateTime.now(),
+                Map.of("title", "Test Task", "status", Task.TaskStatus.UNASSIGNED));
+        when(taskService.getTaskFields(any(TaskFilter.class), eq(null), eq(20), eq(fields)))
+                .thenReturn(new TaskFieldsPageResponse(List.of(sparse), "next-page"));
+
+        // Act
+        ResponseEntity<List<TaskFieldsResponse>> response =
+                taskController.getTaskFields(null, null, null, null, null, null, 20, "title, status", false, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(sparse);
+        assertThat(response.getHeaders().getFirst(TaskController.NEXT_CURSOR_HEADER)).isEqualTo("next-page");
+    }
+
+    @Test
+    void taskFieldsResponse_SerializesOnlySelectedFields() throws Exception {
+        // Arrange
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", "Test Task");
+        fields.put("assignedTechnicianId", null);
+        TaskFieldsResponse sparse = new TaskFieldsResponse(1L, LocalDateTime.now(), LocalDateTime.now(), fields);
+
+        // Act
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(sparse);
+
+        // Assert
+        assertThat(json).isEqualTo("{\"title\":\"Test Task\",\"assignedTechnicianId\":null}");
+    }
+
+    @Test
+    void getTaskFields_UnknownField_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<List<TaskFieldsResponse>> response =
+                taskController.getTaskFields(null, null, null, null, null, null, null, "title,secret", false, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskFields_WithHistory_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<List<TaskFieldsResponse>> response =
+                taskController.getTaskFields(null, null, null, null, null, null, null, "title", true, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskFieldsById_ReturnsSparseTaskWithFieldSpecificETag() {
+        // Arrange
+        Set<TaskField> fields = EnumSet.of(TaskField.STATUS);
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 11, 18, 10, 0);
+        TaskFieldsResponse sparse = new TaskFieldsResponse(1L, updatedAt, updatedAt,
+                Map.of("status", Task.TaskStatus.ASSIGNED));
+        when(taskService.getTaskFieldsById(1L, fields)).thenReturn(sparse);
+
+        // Act
+        ResponseEntity<TaskFieldsResponse> response = taskController.getTaskFieldsById(1L, "status", null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(sparse);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETags.forResource(1L, updatedAt, "status"));
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(ETags.forResource(1L, updatedAt));
+    }
+
+    @Test
+    void createTasks_AllValid_ReturnsCreated() {
+        // Arrange
+        BulkTaskResponse bulkResponse = new BulkTaskResponse(2, List.of(1L, 2L), List.of());
+        when(taskService.createTasks(anyList())).thenReturn(bulkResponse);
+
+        // Act
+        ResponseEntity<BulkTaskResponse> response = taskController.createTasks(List.of(testRequest, testRequest));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(bulkResponse);
+    }
+
+    @Test
+    void createTasks_InvalidItems_ReturnsBadRequestWithErrors() {
+        // Arrange
+        BulkTaskResponse bulkResponse = new BulkTaskResponse(0, List.of(),
+                List.of(new BulkTaskError(0, List.of("Title is required"))));
+        when(taskService.createTasks(anyList())).thenReturn(bulkResponse);
+
+        // Act
+        ResponseEntity<BulkTaskResponse> response = taskController.createTasks(List.of(testRequest));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getErrors()).hasSize(1);
+    }
+
+    @Test
+    void searchTasks_ReturnsResults() {
+        // Arrange
+        TaskSearchResponse searchResponse = new TaskSearchResponse(List.of(testResponse), 0, 20, false);
+        when(taskService.searchTasks("hvac", null, null)).thenReturn(searchResponse);
+
+        // Act
+        ResponseEntity<TaskSearchResponse> response = taskController.searchTasks("hvac", null, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(searchResponse);
+    }
+
+    @Test
+    void searchTasks_InvalidQuery_ReturnsBadRequest() {
+        // Arrange
+        when(taskService.searchTasks(" ", null, null)).thenThrow(new IllegalArgumentException("q is required"));
+
+        // Act
+        ResponseEntity<TaskSearchResponse> response = taskController.searchTasks(" ", null, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getTasks_MatchingETag_ReturnsNotModifiedWithoutQuery() {
+        // Arrange
+        when(taskService.getTaskListETag(null, null, null, null, null, null, 10, false)).thenReturn("\"4-abc-1\"");
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, null, null, null, null, null, 10, false, "\"4-abc-1\"");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4-abc-1\"");
+        assertThat(response.getBody()).isNull();
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+
+    @Test
+    void getTasks_StaleETag_ReturnsPageWithCurrentETag() {
+        // Arrange
+        when(taskService.getTaskListETag(null, null, null, null, null, null, null, false)).thenReturn("\"5-abd-1\"");
+        when(taskService.getTasks(any(TaskFilter.class), eq(null), eq(null)))
+                .thenReturn(new TaskPageResponse(List.of(testResponse), null));
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response =
+                taskController.getTasks(null, null, null, null, null, null, null, false, "\"4-abc-1\"");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"5-abd-1\"");
+        assertThat(response.getBody()).hasSize(1);
     }
 
     @Test
     void getUnassignedTasks_ReturnsSortedList() {
         // Arrange
         List<TaskResponse> tasks = Arrays.asList(testResponse);
-        when(taskService.getUnassignedTasks()).thenReturn(tasks);
+        when(taskService.getUnassignedTasks(null)).thenReturn(tasks);
 
         // Act
-        ResponseEntity<List<TaskResponse>> response = taskController.getUnassignedTasks();
+        ResponseEntity<List<TaskResponse>> response = taskController.getUnassignedTasks(null);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody().get(0).getPriority()).isEqualTo(Task.Priority.HIGH);
-        verify(taskService, times(1)).getUnassignedTasks();
+        verify(taskService, times(1)).getUnassignedTasks(null);
+    }
+
+    @Test
+    void getNextUnassignedTask_Queued_ReturnsTask() {
+        // Arrange
+        when(taskService.getNextUnassignedTask()).thenReturn(Optional.of(testResponse));
+
+        // Act
+        ResponseEntity<TaskResponse> response = taskController.getNextUnassignedTask();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(testResponse);
+    }
+
+    @Test
+    void getNextUnassignedTask_EmptyBacklog_ReturnsNoContent() {
+        // Arrange
+        when(taskService.getNextUnassignedTask()).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<TaskResponse> response = taskController.getNextUnassignedTask();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void getTaskChanges_ReturnsChangesSinceSequence() {
+        // Arrange
+        TaskDelta delta = TaskDelta.builder().sequence(42L).taskId(1L).status(Task.TaskStatus.ASSIGNED).build();
+        TaskChangesResponse changes = new TaskChangesResponse(List.of(delta), 42L, true);
+        when(taskFeedService.getChangesSince(41L)).thenReturn(changes);
+
+        // Act
+        ResponseEntity<TaskChangesResponse> response = taskController.getTaskChanges(41L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(changes);
+    }
+
+    @Test
+    void getTaskSummary_ReturnsCounters() {
+        // Arrange
+        TaskSummaryResponse summary = new TaskSummaryResponse(3L,
+                Map.of(Task.TaskStatus.UNASSIGNED, 2L, Task.TaskStatus.COMPLETED, 1L),
+                Map.of(Task.Priority.HIGH, 3L), LocalDateTime.now());
+        when(taskCountersService.getSummary()).thenReturn(summary);
+
+        // Act
+        ResponseEntity<TaskSummaryResponse> response = taskController.getTaskSummary();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(summary);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskBoard_ReturnsReconstructedBoard() {
+        // Arrange
+        LocalDateTime at = LocalDateTime.of(2024, 3, 1, 10, 0);
+        TaskBoardResponse board = new TaskBoardResponse(at, at.minusMinutes(20), 4,
+                List.of(new TaskBoardEntry(1L, Task.TaskStatus.ASSIGNED, Task.Priority.HIGH, 5L)));
+        when(taskEventLogService.getBoardAt(at)).thenReturn(board);
+
+        // Act
+        ResponseEntity<TaskBoardResponse> response = taskController.getTaskBoard(at);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(board);
+    }
+
+    @Test
+    void getTaskBoard_FutureTime_ReturnsBadRequest() {
+        // Arrange
+        LocalDateTime at = LocalDateTime.now().plusDays(1);
+        when(taskEventLogService.getBoardAt(at))
+                .thenThrow(new IllegalArgumentException("Board time must not be in the future"));
+
+        // Act
+        ResponseEntity<TaskBoardResponse> response = taskController.getTaskBoard(at);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getTaskEvents_ReturnsHistory() {
+        // Arrange
+        TaskEventResponse created = TaskEventResponse.builder()
+                .id(1L)
+                .taskId(1L)
+                .status(Task.TaskStatus.UNASSIGNED)
+                .build();
+        when(taskEventLogService.getTaskHistory(1L)).thenReturn(List.of(created));
+
+        // Act
+        ResponseEntity<List<TaskEventResponse>> response = taskController.getTaskEvents(1L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(created);
+    }
+
+    @Test
+    void syncTasks_ReturnsChangesSinceCursor() {
+        // Arrange
+        TaskSyncResponse sync = new TaskSyncResponse(List.of(testResponse), List.of(7L), "next", false, false);
+        when(taskSyncService.sync("abc", 100)).thenReturn(sync);
+
+        // Act
+        ResponseEntity<TaskSyncResponse> response = taskController.syncTasks("abc", 100);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(sync);
+    }
+
+    @Test
+    void syncTasks_InvalidCursor_ReturnsBadRequest() {
+        // Arrange
+        when(taskSyncService.sync("garbage", null)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // Act
+        ResponseEntity<TaskSyncResponse> response = taskController.syncTasks("garbage", null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getUnassignedTasks_InvalidLimit_ReturnsBadRequest() {
+        // Arrange
+        when(taskService.getUnassignedTasks(0)).thenThrow(new IllegalArgumentException("limit must be between 1 and 500"));
+
+        // Act
+        ResponseEntity<List<TaskResponse>> response = taskController.getUnassignedTasks(0);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
@@ -127,7 +534,7 @@ class TaskControllerTest {
         when(taskService.getTaskById(1L)).thenReturn(testResponse);
 
         // Act
-        ResponseEntity<TaskResponse> response = taskController.getTaskById(1L);
+        ResponseEntity<TaskResponse> response = taskController.getTaskById(1L, false, null);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -137,6 +544,34 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void getTaskById_MatchingETag_ReturnsNotModifiedWithoutLoadingTask() {
+        // Arrange
+        String etag = ETags.forResource(1L, testResponse.getUpdatedAt());
+        when(taskService.getTaskETag(1L)).thenReturn(Optional.of(etag));
+
+        // Act
+        ResponseEntity<TaskResponse> response = taskController.getTaskById(1L, false, etag);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    void getTaskById_ReturnsETagFromUpdatedAt() {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testResponse);
+
+        // Act
+        ResponseEntity<TaskResponse> response = taskController.getTaskById(1L, false, null);
+
+        // Assert
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETags.forResource(1L, testResponse.getUpdatedAt()));
+        verify(taskService, never()).getTaskETag(any());
+    }
+
     @Test
     void getTaskById_NonExistingId_ThrowsException() {
         // Arrange
@@ -144,10 +579,24 @@ class TaskControllerTest {
                 .thenThrow(new EntityNotFoundException("Task not found"));
 
         // Act & Assert
-        assertThrows(EntityNotFoundException.class, () -> taskController.getTaskById(999L));
+        assertThrows(EntityNotFoundException.class, () -> taskController.getTaskById(999L, false, null));
         verify(taskService, times(1)).getTaskById(999L);
     }
 
+    @Test
+    void getTaskById_WithHistory_LooksInArchive() {
+        // Arrange
+        when(taskService.getTaskByIdIncludingArchive(1L)).thenReturn(testResponse);
+
+        // Act
+        ResponseEntity<TaskResponse> response = taskController.getTaskById(1L, true, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(testResponse);
+        verify(taskService, never()).getTaskById(any());
+    }
+
     @Test
     void updateTask_ValidRequest_ReturnsUpdated() {
         // Arrange
@@ -190,4 +639,19 @@ class TaskControllerTest {
         assertThrows(EntityNotFoundException.class, () -> taskController.updateTask(999L, testRequest));
         verify(taskService, times(1)).updateTask(eq(999L), any(TaskRequest.class));
     }
+
+    @Test
+    void exportTasks_ReturnsNdjsonStreamBackedByExportService() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = taskController.exportTasks();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), response.getHeaders().getContentType());
+        verify(taskExportService).exportTasks(out);
+    }
 }
@@ -0,0 +1,146 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.model.ArchivedTask;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.User;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ArchivedTaskRepositoryTest {
+
+    private static final Set<Task.TaskStatus> TERMINAL = EnumSet.of(Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED);
+    private static final List<String> TERMINAL_NAMES = List.of("COMPLETED", "CANCELLED");
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User technician;
+    private Task oldCompleted;
+    private Task oldCancelled;
+    private Task recentCompleted;
+    private Task oldInProgress;
+    private LocalDateTime cutoff;
+
+    @BeforeEach
+    void setUp() {
+        technician = new User();
+        technician.setUsername("tech1");
+        technician.setPassword("password");
+        technician.setEmail("tech1@example.com");
+        technician.setRole(User.Role.TECHNICIAN);
+        technician.setActive(true);
+        entityManager.persist(technician);
+
+        oldCompleted = persistTask("Old completed", Task.TaskStatus.COMPLETED, technician);
+        oldCancelled = persistTask("Old cancelled", Task.TaskStatus.CANCELLED, null);
+        recentCompleted = persistTask("Recent completed", Task.TaskStatus.COMPLETED, technician);
+        oldInProgress = persistTask("Old in progress", Task.TaskStatus.IN_PROGRESS, technician);
+        entityManager.flush();
+
+        // updated_at is set on every write, so age the rows directly
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(200);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :longAgo, t.createdAt = :longAgo WHERE t.id IN :ids")
+                .setParameter("longAgo", longAgo)
+                .setParameter("ids", List.of(oldCompleted.getId(), oldCancelled.getId(), oldInProgress.getId()))
+                .executeUpdate();
+        entityManager.clear();
+        cutoff = LocalDateTime.now().minusDays(90);
+    }
+
+    private Task persistTask(String title, Task.TaskStatus status, User assignedTechnician) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description for " + title);
+        task.setClientAddress("123 Test St, City");
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(status);
+        task.setAssignedTechnician(assignedTechnician);
+        return entityManager.persist(task);
+    }
+
+    private int archive(List<Long> ids) {
+        int copied = archivedTaskRepository.copyFromTasks(ids, TERMINAL_NAMES, cutoff, LocalDateTime.now());
+        int deleted = taskRepository.deleteArchived(ids, TERMINAL, cutoff);
+        assertEquals(copied, deleted);
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Test
+    void findArchivableIds_ReturnsOnlyOldTerminalTasks() {
+        // Act
+        List<Long> ids = taskRepository.findArchivableIds(TERMINAL, cutoff, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(Set.of(oldCompleted.getId(), oldCancelled.getId()), Set.copyOf(ids));
+    }
+
+    @Test
+    void copyFromTasksAndDeleteArchived_MoveTasksToArchive() {
+        // Act
+        int moved = archive(List.of(oldCompleted.getId(), oldCancelled.getId()));
+
+        // Assert
+        assertEquals(2, moved);
+        assertFalse(taskRepository.existsById(oldCompleted.getId()));
+        assertTrue(taskRepository.existsById(recentCompleted.getId()));
+        ArchivedTask archived = archivedTaskRepository.findWithAssigneesById(oldCompleted.getId()).orElseThrow();
+        assertEquals("Old completed", archived.getTitle());
+        assertEquals(Task.TaskStatus.COMPLETED, archived.getStatus());
+        assertNotNull(archived.getArchivedAt());
+        assertTrue(Hibernate.isInitialized(archived.getAssignedTechnician()));
+        assertEquals("tech1", archived.getAssignedTechnician().getUsername());
+    }
+
+    @Test
+    void copyFromTasksAndDeleteArchived_SkipIneligibleTasks() {
+        // Act
+        int moved = archive(List.of(recentCompleted.getId(), oldInProgress.getId()));
+
+        // Assert
+        assertEquals(0, moved);
+        assertEquals(0, archivedTaskRepository.count());
+        assertTrue(taskRepository.existsById(oldInProgress.getId()));
+    }
+
+    @Test
+    void findPage_FiltersAndPagesArchivedTasks() {
+        // Arrange
+        archive(List.of(oldCompleted.getId(), oldCancelled.getId()));
+
+        // Act
+        List<ArchivedTask> byTechnician = archivedTaskRepository.findPage(
+                TaskFilter.builder().technicianId(technician.getId()).build(), null, 10);
+        List<ArchivedTask> firstPage = archivedTaskRepository.findPage(null, null, 1);
+        ArchivedTask first = firstPage.get(0);
+        List<ArchivedTask> secondPage = archivedTaskRepository.findPage(null,
+                new TaskCursor(first.getCreatedAt(), first.getId()), 10);
+
+        // Assert
+        assertEquals(List.of(oldCompleted.getId()), byTechnician.stream().map(ArchivedTask::getId).toList());
+        assertEquals(1, secondPage.size());
+        assertNotEquals(first.getId(), secondPage.get(0).getId());
+    }
+}
@@ -0,0 +1,71 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.DailyMileage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DailyMileageRepositoryTest {
+
+    @Autowired
+    private DailyMileageRepository dailyMileageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDate day = LocalDate.of(2025, 11, 18);
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(mileage(2L, day, 12.5));
+        entityManager.persist(mileage(1L, day, 30.0));
+        entityManager.persist(mileage(1L, day.minusDays(1), 8.0));
+        entityManager.persist(mileage(1L, day.minusDays(10), 3.0));
+        entityManager.flush();
+    }
+
+    private DailyMileage mileage(Long technicianId, LocalDate date, double distanceKm) {
+        DailyMileage mileage = new DailyMileage();
+        mileage.setTechnicianId(technicianId);
+        mileage.setMileageDate(date);
+        mileage.setDistanceKm(distanceKm);
+        mileage.setPointCount(10);
+        return mileage;
+    }
+
+    @Test
+    void testFindByMileageDateOrderByTechnicianId() {
+        List<DailyMileage> result = dailyMileageRepository.findByMileageDateOrderByTechnicianId(day);
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getTechnicianId());
+        assertEquals(2L, result.get(1).getTechnicianId());
+        assertNotNull(result.get(0).getUpdatedAt());
+    }
+
+    @Test
+    void testFindByMileageDateAndTechnicianIdIn() {
+        List<DailyMileage> result = dailyMileageRepository.findByMileageDateAndTechnicianIdIn(day, List.of(2L));
+
+        assertEquals(1, result.size());
+        assertEquals(12.5, result.get(0).getDistanceKm());
+    }
+
+    @Test
+    void testFindByTechnicianIdAndMileageDateBetween() {
+        List<DailyMileage> result = dailyMileageRepository
+                .findByTechnicianIdAndMileageDateBetweenOrderByMileageDate(1L, day.minusDays(7), day);
+
+        assertEquals(2, result.size());
+        assertEquals(day.minusDays(1), result.get(0).getMileageDate());
+        assertEquals(day, result.get(1).getMileageDate());
+    }
+}
@@ -0,0 +1,64 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskEventRepositoryTest {
+
+    @Autowired
+    private TaskEventRepository taskEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private TaskEvent persistEvent(long taskId, Task.TaskStatus status, LocalDateTime occurredAt) {
+        return entityManager.persist(new TaskEvent(null, taskId, TaskChangedEvent.Type.UPDATED, status,
+                Task.Priority.MEDIUM, null, "dispatcher1", occurredAt));
+    }
+
+    @Test
+    void findByTaskId_ReturnsHistoryOfOneTaskOldestFirst() {
+        // Arrange
+        TaskEvent assigned = persistEvent(1L, Task.TaskStatus.ASSIGNED, baseTime.plusMinutes(5));
+        TaskEvent created = persistEvent(1L, Task.TaskStatus.UNASSIGNED, baseTime);
+        persistEvent(2L, Task.TaskStatus.UNASSIGNED, baseTime.plusMinutes(1));
+        entityManager.flush();
+
+        // Act
+        List<TaskEvent> history = taskEventRepository.findByTaskIdOrderByOccurredAtAscIdAsc(1L);
+
+        // Assert
+        assertEquals(List.of(created.getId(), assigned.getId()), history.stream().map(TaskEvent::getId).toList());
+    }
+
+    @Test
+    void findBetween_ReturnsEventsInHalfOpenRangeInOrder() {
+        // Arrange
+        persistEvent(1L, Task.TaskStatus.UNASSIGNED, baseTime);
+        TaskEvent first = persistEvent(2L, Task.TaskStatus.UNASSIGNED, baseTime.plusMinutes(1));
+        TaskEvent sameTime = persistEvent(3L, Task.TaskStatus.UNASSIGNED, baseTime.plusMinutes(1));
+        TaskEvent last = persistEvent(1L, Task.TaskStatus.ASSIGNED, baseTime.plusMinutes(10));
+        persistEvent(1L, Task.TaskStatus.IN_PROGRESS, baseTime.plusMinutes(11));
+        entityManager.flush();
+
+        // Act
+        List<TaskEvent> events = taskEventRepository.findBetween(baseTime, baseTime.plusMinutes(10));
+
+        // Assert
+        assertEquals(List.of(first.getId(), sameTime.getId(), last.getId()),
+                events.stream().map(TaskEvent::getId).toList());
+    }
+}
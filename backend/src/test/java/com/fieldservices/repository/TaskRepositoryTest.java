@@ -1,15 +1,32 @@
 package com.fieldservices.repository;
 
+import com.fieldservices.dto.TaskCount;
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.dto.TaskVersion;
+import com.fieldservices.dto.TechnicianLoad;
 import com.fieldservices.model.Task;
 import com.fieldservices.model.User;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,7 +89,7 @@ class TaskRepositoryTest {
     @Test
     void findUnassignedTasksSortedByPriority_ReturnsOnlyUnassignedTasksSortedByPriority() {
         // Act
-        List<Task> tasks = taskRepository.findUnassignedTasksSortedByPriority();
+        List<Task> tasks = taskRepository.findUnassignedTasksSortedByPriority(Pageable.unpaged());
 
         // Assert
         assertNotNull(tasks);
@@ -90,6 +107,63 @@ class TaskRepositoryTest {
         });
     }
 
+    @Test
+    void findUnassignedTasksSortedByPriority_WithPage_ReturnsMostUrgentFirst() {
+        // Act
+        List<Task> tasks = taskRepository.findUnassignedTasksSortedByPriority(PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, tasks.size());
+        assertEquals(unassignedHighTask.getId(), tasks.get(0).getId());
+        assertEquals(unassignedMediumTask.getId(), tasks.get(1).getId());
+    }
+
+    @Test
+    void save_SetsPriorityRankFromPriority() {
+        // Act
+        unassignedLowTask.setPriority(Task.Priority.HIGH);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        Task reloaded = entityManager.find(Task.class, unassignedLowTask.getId());
+        assertEquals(Task.Priority.HIGH.getRank(), reloaded.getPriorityRank());
+    }
+
+    @Test
+    void save_StaleVersion_ThrowsOptimisticLockingFailure() {
+        // Arrange - another transaction updates the task after we read it
+        entityManager.clear();
+        Task stale = taskRepository.findById(unassignedHighTask.getId()).orElseThrow();
+        entityManager.clear();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE tasks SET version = version + 1 WHERE id = :id")
+                .setParameter("id", stale.getId())
+                .executeUpdate();
+
+        // Act & Assert
+        stale.setStatus(Task.TaskStatus.ASSIGNED);
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskRepository.saveAndFlush(stale));
+    }
+
+    @Test
+    void backfillPriorityRank_FillsMissingRanksOnly() {
+        // Arrange - simulate a row written before priority_rank existed
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE tasks SET priority_rank = NULL WHERE id = :id")
+                .setParameter("id", unassignedMediumTask.getId())
+                .executeUpdate();
+
+        // Act
+        int updated = taskRepository.backfillPriorityRank(Task.Priority.MEDIUM, Task.Priority.MEDIUM.getRank());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, updated);
+        assertEquals(Task.Priority.MEDIUM.getRank(),
+                entityManager.find(Task.class, unassignedMediumTask.getId()).getPriorityRank());
+    }
+
     @Test
     void findByStatus_UnassignedStatus_ReturnsUnassignedTasks() {
         // Act
@@ -159,6 +233,23 @@ class TaskRepositoryTest {
         assertEquals("New Task", foundTask.getTitle());
     }
 
+    @Test
+    void saveAll_AssignsDistinctSequenceIds() {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(createTask("Bulk Task " + i, Task.Priority.LOW, null));
+        }
+
+        // Act
+        List<Task> saved = taskRepository.saveAll(tasks);
+        taskRepository.flush();
+
+        // Assert
+        assertEquals(120, saved.stream().map(Task::getId).distinct().count());
+        assertEquals(124, taskRepository.count());
+    }
+
     @Test
     void findById_ExistingId_ReturnsTask() {
         // Act
@@ -178,4 +269,298 @@ class TaskRepositoryTest {
         // Assert
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findWithAssigneesById_LoadsTechnicianInSameQuery() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        Task foundTask = taskRepository.findWithAssigneesById(assignedTask.getId()).orElseThrow();
+
+        // Assert
+        assertTrue(Hibernate.isInitialized(foundTask.getAssignedTechnician()));
+        assertEquals("tech1", foundTask.getAssignedTechnician().getUsername());
+    }
+
+    @Test
+    void findPage_LoadsTechnicianWithTasks() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        List<Task> tasks = taskRepository.findPage(TaskFilter.builder()
+                .technicianId(technician.getId())
+                .build(), null, 10);
+
+        // Assert
+        assertEquals(1, tasks.size());
+        assertTrue(Hibernate.isInitialized(tasks.get(0).getAssignedTechnician()));
+    }
+
+    @Test
+    void findPageFields_SelectsRequestedAndKeyFieldsOnly() {
+        // Act
+        List<Tuple> rows = taskRepository.findPageFields(TaskFilter.builder()
+                .technicianId(technician.getId())
+                .build(), null, 10, EnumSet.of(TaskField.TITLE, TaskField.ASSIGNED_TECHNICIAN_NAME));
+
+        // Assert
+        assertEquals(1, rows.size());
+        Tuple row = rows.get(0);
+        assertEquals(Set.of("id", "createdAt", "updatedAt", "title", "assignedTechnicianName"),
+                row.getElements().stream().map(TupleElement::getAlias).collect(Collectors.toSet()));
+        assertEquals(assignedTask.getId(), row.get("id"));
+        assertEquals("Assigned Task", row.get("title"));
+        assertEquals("tech1", row.get("assignedTechnicianName"));
+    }
+
+    @Test
+    void findPageFields_KeepsUnassignedTasksWhenSelectingTechnician() {
+        // Act
+        List<Tuple> rows = taskRepository.findPageFields(null, null, 10, EnumSet.of(TaskField.ASSIGNED_TECHNICIAN_ID));
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertEquals(3, rows.stream().filter(row -> row.get("assignedTechnicianId") == null).count());
+    }
+
+    @Test
+    void findFieldsByIdIn_ReturnsRequestedTasks() {
+        // Act
+        List<Tuple> rows = taskRepository.findFieldsByIdIn(
+                List.of(unassignedHighTask.getId(), assignedTask.getId()), EnumSet.of(TaskField.STATUS));
+
+        // Assert
+        assertEquals(Set.of(Task.TaskStatus.UNASSIGNED, Task.TaskStatus.ASSIGNED),
+                rows.stream().map(row -> row.get("status")).collect(Collectors.toSet()));
+        assertTrue(taskRepository.findFieldsByIdIn(List.of(), EnumSet.of(TaskField.STATUS)).isEmpty());
+    }
+
+    @Test
+    void findUpdatedAtById_ReturnsTimestampOrEmpty() {
+        // Act & Assert
+        assertTrue(taskRepository.findUpdatedAtById(unassignedHighTask.getId()).isPresent());
+        assertTrue(taskRepository.findUpdatedAtById(999L).isEmpty());
+    }
+
+    @Test
+    void findIdsByNormalizedAddress_ReturnsTasksWithGivenStatuses() {
+        // Arrange
+        unassignedHighTask.setNormalizedAddress("12 elm st");
+        assignedTask.setNormalizedAddress("12 elm st");
+        unassignedLowTask.setNormalizedAddress("14 elm st");
+        entityManager.flush();
+
+        // Act
+        List<Long> open = taskRepository.findIdsByNormalizedAddress("12 elm st",
+                EnumSet.of(Task.TaskStatus.UNASSIGNED, Task.TaskStatus.ASSIGNED));
+        List<Long> unassignedOnly = taskRepository.findIdsByNormalizedAddress("12 elm st",
+                EnumSet.of(Task.TaskStatus.UNASSIGNED));
+
+        // Assert
+        assertEquals(Set.of(unassignedHighTask.getId(), assignedTask.getId()), Set.copyOf(open));
+        assertEquals(List.of(unassignedHighTask.getId()), unassignedOnly);
+    }
+
+    @Test
+    void findSyncPage_ReturnsTechnicianTasksInChangeOrder() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 0);
+        Task secondAssigned = createTask("Second Assigned Task", Task.Priority.LOW, technician);
+        secondAssigned.setStatus(Task.TaskStatus.ASSIGNED);
+        entityManager.persist(secondAssigned);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :updatedAt WHERE t.id = :id")
+                .setParameter("updatedAt", base.plusMinutes(10)).setParameter("id", assignedTask.getId())
+                .executeUpdate();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :updatedAt WHERE t.id = :id")
+                .setParameter("updatedAt", base).setParameter("id", secondAssigned.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        List<Task> all = taskRepository.findSyncPage(technician.getId(), base.minusDays(1), 0L, PageRequest.of(0, 10));
+        List<Task> afterFirst = taskRepository.findSyncPage(technician.getId(), base, secondAssigned.getId(),
+                PageRequest.of(0, 10));
+        List<Long> stillAssigned = taskRepository.findIdsAssignedTo(
+                List.of(assignedTask.getId(), unassignedHighTask.getId()), technician.getId());
+
+        // Assert
+        assertEquals(List.of(secondAssigned.getId(), assignedTask.getId()), all.stream().map(Task::getId).toList());
+        assertTrue(Hibernate.isInitialized(all.get(0).getAssignedTechnician()));
+        assertEquals(List.of(assignedTask.getId()), afterFirst.stream().map(Task::getId).toList());
+        assertEquals(List.of(assignedTask.getId()), stillAssigned);
+    }
+
+    @Test
+    void countByStatusAndPriority_GroupsNonEmptyCombinations() {
+        // Act
+        List<TaskCount> counts = taskRepository.countByStatusAndPriority();
+
+        // Assert
+        assertEquals(4, counts.size());
+        assertEquals(Set.of(
+                new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.HIGH, 1),
+                new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.MEDIUM, 1),
+                new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.LOW, 1),
+                new TaskCount(Task.TaskStatus.ASSIGNED, Task.Priority.HIGH, 1)), Set.copyOf(counts));
+    }
+
+    @Test
+    void findVersionsUpdatedSince_ReturnsOnlyRecentlyModifiedTasks() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 0);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :updatedAt")
+                .setParameter("updatedAt", base.minusHours(1))
+                .executeUpdate();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Task t SET t.updatedAt = :updatedAt WHERE t.id = :id")
+                .setParameter("updatedAt", base).setParameter("id", assignedTask.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act
+        List<TaskVersion> versions = taskRepository.findVersionsUpdatedSince(base);
+
+        // Assert
+        assertEquals(List.of(new TaskVersion(assignedTask.getId(), assignedTask.getVersion())), versions);
+    }
+
+    @Test
+    void countByAssignedTechnician_CountsOnlyTasksInGivenStatuses() {
+        // Arrange
+        Task inProgress = createTask("In Progress Task", Task.Priority.LOW, technician);
+        inProgress.setStatus(Task.TaskStatus.IN_PROGRESS);
+        Task completed = createTask("Completed Task", Task.Priority.LOW, technician);
+        completed.setStatus(Task.TaskStatus.COMPLETED);
+        entityManager.persist(inProgress);
+        entityManager.persist(completed);
+        entityManager.flush();
+
+        // Act
+        List<TechnicianLoad> loads = taskRepository.countByAssignedTechnician(
+                EnumSet.of(Task.TaskStatus.ASSIGNED, Task.TaskStatus.IN_PROGRESS));
+
+        // Assert
+        assertEquals(List.of(new TechnicianLoad(technician.getId(), 2)), loads);
+    }
+
+    @Test
+    void searchIds_MatchesAllTermsAcrossFieldsCaseInsensitively() {
+        // Arrange
+        unassignedMediumTask.setClientAddress("77 Maple Avenue, Springfield");
+        unassignedMediumTask.setDescription("Leaking boiler in basement");
+        entityManager.flush();
+
+        // Act
+        List<Long> byAddressAndDescription = taskRepository.searchIds("maple BOILER", 0, 10);
+        List<Long> noMatch = taskRepository.searchIds("maple furnace", 0, 10);
+        List<Long> allByAddress = taskRepository.searchIds("test st", 0, 10);
+        List<Long> secondPage = taskRepository.searchIds("test st", 2, 10);
+
+        // Assert
+        assertEquals(List.of(unassignedMediumTask.getId()), byAddressAndDescription);
+        assertTrue(noMatch.isEmpty());
+        assertEquals(3, allByAddress.size());
+        assertEquals(1, secondPage.size());
+    }
+
+    @Test
+    void searchIds_TreatsWildcardsLiterally() {
+        // Act
+        List<Long> ids = taskRepository.searchIds("%", 0, 10);
+
+        // Assert
+        assertTrue(ids.isEmpty());
+    }
+
+    @Test
+    void findPage_KeysetPagesCoverAllTasksWithoutOverlap() {
+        // Arrange - read timestamps back at database precision, as separate page requests would
+        entityManager.clear();
+
+        // Act
+        List<Task> firstPage = taskRepository.findPage(null, null, 2);
+        Task last = firstPage.get(firstPage.size() - 1);
+        List<Task> secondPage = taskRepository.findPage(null, new TaskCursor(last.getCreatedAt(), last.getId()), 2);
+        Task secondLast = secondPage.get(secondPage.size() - 1);
+        List<Task> thirdPage = taskRepository.findPage(null,
+                new TaskCursor(secondLast.getCreatedAt(), secondLast.getId()), 2);
+
+        // Assert
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertTrue(thirdPage.isEmpty());
+
+        List<Task> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+        assertEquals(4, all.stream().map(Task::getId).distinct().count());
+        for (int i = 1; i < all.size(); i++) {
+            Task previous = all.get(i - 1);
+            Task current = all.get(i);
+            assertTrue(previous.getCreatedAt().isAfter(current.getCreatedAt())
+                    || (previous.getCreatedAt().isEqual(current.getCreatedAt()) && previous.getId() > current.getId()));
+        }
+    }
+
+    @Test
+    void findPage_FiltersByStatusPriorityAndTechnician() {
+        // Act
+        List<Task> highUnassigned = taskRepository.findPage(TaskFilter.builder()
+                .status(Task.TaskStatus.UNASSIGNED)
+                .priority(Task.Priority.HIGH)
+                .build(), null, 10);
+        List<Task> technicianTasks = taskRepository.findPage(TaskFilter.builder()
+                .technicianId(technician.getId())
+                .build(), null, 10);
+
+        // Assert
+        assertEquals(1, highUnassigned.size());
+        assertEquals(unassignedHighTask.getId(), highUnassigned.get(0).getId());
+        assertEquals(1, technicianTasks.size());
+        assertEquals(assignedTask.getId(), technicianTasks.get(0).getId());
+    }
+
+    @Test
+    void findPage_FiltersByCreatedRange() {
+        // Act
+        List<Task> future = taskRepository.findPage(TaskFilter.builder()
+                .createdFrom(LocalDateTime.now().plusDays(1))
+                .build(), null, 10);
+        List<Task> past = taskRepository.findPage(TaskFilter.builder()
+                .createdFrom(LocalDateTime.now().minusDays(1))
+                .createdTo(LocalDateTime.now().plusDays(1))
+                .build(), null, 10);
+
+        // Assert
+        assertTrue(future.isEmpty());
+        assertEquals(4, past.size());
+    }
+
+    @Test
+    void streamAllForExport_ReturnsAllTasksOrderedByIdWithTechnicianLoaded() {
+        // Arrange
+        entityManager.clear();
+
+        // Act
+        List<Task> tasks;
+        try (Stream<Task> stream = taskRepository.streamAllForExport()) {
+            tasks = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(4, tasks.size());
+        for (int i = 1; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i - 1).getId() < tasks.get(i).getId());
+        }
+        Task exportedAssigned = tasks.stream()
+                .filter(task -> task.getId().equals(assignedTask.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("tech1", exportedAssigned.getAssignedTechnician().getUsername());
+    }
 }
@@ -0,0 +1,72 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskSnapshotRepositoryTest {
+
+    @Autowired
+    private TaskSnapshotRepository taskSnapshotRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private Task persistTask(String title, Task.TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setClientAddress("123 Test St, City");
+        task.setPriority(Task.Priority.HIGH);
+        task.setStatus(status);
+        return entityManager.persist(task);
+    }
+
+    @Test
+    void recordSnapshot_CopiesTasksInGivenStatuses() {
+        // Arrange
+        Task unassigned = persistTask("Waiting", Task.TaskStatus.UNASSIGNED);
+        Task inProgress = persistTask("Underway", Task.TaskStatus.IN_PROGRESS);
+        persistTask("Done", Task.TaskStatus.COMPLETED);
+        entityManager.flush();
+
+        // Act
+        int recorded = taskSnapshotRepository.recordSnapshot(baseTime,
+                List.of("UNASSIGNED", "ASSIGNED", "IN_PROGRESS"));
+
+        // Assert
+        assertEquals(2, recorded);
+        List<TaskSnapshot> snapshot = taskSnapshotRepository.findByTakenAt(baseTime);
+        assertEquals(Set.of(unassigned.getId(), inProgress.getId()),
+                Set.copyOf(snapshot.stream().map(TaskSnapshot::getTaskId).toList()));
+        assertTrue(snapshot.stream().allMatch(row -> row.getPriority() == Task.Priority.HIGH));
+    }
+
+    @Test
+    void findLatestTakenAt_ReturnsLatestSnapshotNotAfterTime() {
+        // Arrange
+        entityManager.persist(new TaskSnapshot(null, baseTime, 1L, Task.TaskStatus.UNASSIGNED,
+                Task.Priority.LOW, null));
+        entityManager.persist(new TaskSnapshot(null, baseTime.plusHours(1), 1L, Task.TaskStatus.ASSIGNED,
+                Task.Priority.LOW, 5L));
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(Optional.of(baseTime), taskSnapshotRepository.findLatestTakenAt(baseTime.plusMinutes(59)));
+        assertEquals(Optional.of(baseTime.plusHours(1)),
+                taskSnapshotRepository.findLatestTakenAt(baseTime.plusHours(1)));
+        assertEquals(Optional.empty(), taskSnapshotRepository.findLatestTakenAt(baseTime.minusMinutes(1)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.fieldservices.repository;
+
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskTombstone;
+import com.fieldservices.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TaskTombstoneRepositoryTest {
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User technician;
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        technician = new User();
+        technician.setUsername("tech1");
+        technician.setPassword("password");
+        technician.setEmail("tech1@example.com");
+        technician.setRole(User.Role.TECHNICIAN);
+        technician.setActive(true);
+        entityManager.persist(technician);
+        entityManager.flush();
+    }
+
+    private TaskTombstone persistTombstone(long taskId, Long technicianId, LocalDateTime removedAt) {
+        return entityManager.persist(new TaskTombstone(null, taskId, technicianId,
+                TaskTombstone.Reason.UNASSIGNED, removedAt));
+    }
+
+    private Task persistTask(String title, Task.TaskStatus status, User assignedTechnician) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setClientAddress("123 Test St, City");
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(status);
+        task.setAssignedTechnician(assignedTechnician);
+        return entityManager.persist(task);
+    }
+
+    @Test
+    void findSyncPage_ReturnsTechnicianTombstonesAfterPosition() {
+        // Arrange
+        TaskTombstone first = persistTombstone(10L, technician.getId(), baseTime);
+        TaskTombstone sameTime = persistTombstone(11L, technician.getId(), baseTime);
+        TaskTombstone later = persistTombstone(12L, technician.getId(), baseTime.plusMinutes(5));
+        persistTombstone(13L, technician.getId() + 1, baseTime.plusMinutes(1));
+        entityManager.flush();
+
+        // Act
+        List<TaskTombstone> all = taskTombstoneRepository.findSyncPage(technician.getId(),
+                baseTime.minusDays(1), 0L, PageRequest.of(0, 10));
+        List<TaskTombstone> afterFirst = taskTombstoneRepository.findSyncPage(technician.getId(),
+                first.getRemovedAt(), first.getId(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of(first.getId(), sameTime.getId(), later.getId()),
+                all.stream().map(TaskTombstone::getId).toList());
+        assertEquals(List.of(sameTime.getId(), later.getId()),
+                afterFirst.stream().map(TaskTombstone::getId).toList());
+    }
+
+    @Test
+    void recordArchived_AddsTombstonesForAssignedTasksOnly() {
+        // Arrange
+        Task assigned = persistTask("Completed assigned", Task.TaskStatus.COMPLETED, technician);
+        Task unassigned = persistTask("Cancelled unassigned", Task.TaskStatus.CANCELLED, null);
+        Task open = persistTask("Still in progress", Task.TaskStatus.IN_PROGRESS, technician);
+        entityManager.flush();
+        LocalDateTime archivedAt = LocalDateTime.now();
+
+        // Act
+        int recorded = taskTombstoneRepository.recordArchived(
+                List.of(assigned.getId(), unassigned.getId(), open.getId()),
+                List.of("COMPLETED", "CANCELLED"), LocalDateTime.now().plusMinutes(1), archivedAt);
+
+        // Assert
+        assertEquals(1, recorded);
+        TaskTombstone tombstone = taskTombstoneRepository.findAll().get(0);
+        assertEquals(assigned.getId(), tombstone.getTaskId());
+        assertEquals(technician.getId(), tombstone.getTechnicianId());
+        assertEquals(TaskTombstone.Reason.ARCHIVED, tombstone.getReason());
+    }
+
+    @Test
+    void deleteRemovedBefore_DeletesOnlyExpiredTombstones() {
+        // Arrange
+        persistTombstone(10L, technician.getId(), baseTime.minusDays(40));
+        TaskTombstone recent = persistTombstone(11L, technician.getId(), baseTime.minusDays(1));
+        entityManager.flush();
+
+        // Act
+        int deleted = taskTombstoneRepository.deleteRemovedBefore(baseTime.minusDays(30));
+
+        // Assert
+        assertEquals(1, deleted);
+        entityManager.clear();
+        assertEquals(List.of(recent.getId()),
+                taskTombstoneRepository.findAll().stream().map(TaskTombstone::getId).toList());
+    }
+}
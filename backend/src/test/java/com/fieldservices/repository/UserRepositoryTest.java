@@ -1,10 +1,14 @@
 package com.fieldservices.repository;
 
 import com.fieldservices.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.TestTransaction;
 
 import java.util.Optional;
 
@@ -17,6 +21,9 @@ public class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testSaveUser() {
         User user = new User();
@@ -104,4 +111,39 @@ public class UserRepositoryTest {
 
         assertThat(foundUser).isEmpty();
     }
+
+    @Test
+    public void testFindByUsernameServedFromSecondLevelCache() {
+        User user = new User();
+        user.setUsername("cached");
+        user.setPassword("password");
+        user.setEmail("cached@example.com");
+        user.setRole(User.Role.DISPATCHER);
+        user.setActive(true);
+        userRepository.saveAndFlush(user);
+        // Cache entries are only written once the inserting transaction commits
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        userRepository.findByUsername("cached");
+        // Read-write entries are only visible to sessions opened after they were cached
+        TestTransaction.end();
+        TestTransaction.start();
+        Optional<User> foundUser = userRepository.findByUsername("cached");
+
+        assertThat(foundUser).isPresent();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+
+        userRepository.delete(foundUser.get());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
 }
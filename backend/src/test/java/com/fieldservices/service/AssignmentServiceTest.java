@@ -3,9 +3,12 @@ package com.fieldservices.service;
 import com.fieldservices.dto.AssignmentRequest;
 import com.fieldservices.dto.TaskResponse;
 import com.fieldservices.dto.TechnicianResponse;
+import com.fieldservices.event.TaskChangedEvent;
 import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskTombstone;
 import com.fieldservices.model.User;
 import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
 import com.fieldservices.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -21,11 +25,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +44,15 @@ class AssignmentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private SecurityContext securityContext;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AssignmentService assignmentService;
 
@@ -98,7 +111,7 @@ class AssignmentServiceTest {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(unassignedTask));
         when(userRepository.findById(1L)).thenReturn(Optional.of(technician));
         when(userRepository.findByUsername("dispatcher1")).thenReturn(Optional.of(dispatcher));
-        when(taskRepository.save(any(Task.class))).thenReturn(unassignedTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(unassignedTask);
 
         // Act
         TaskResponse response = assignmentService.assignTask(1L, assignmentRequest);
@@ -111,7 +124,9 @@ class AssignmentServiceTest {
         assertEquals(dispatcher, unassignedTask.getAssignedBy());
         verify(taskRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.ASSIGNED && event.getTask().getId().equals(1L)));
     }
 
     @Test
@@ -124,7 +139,7 @@ class AssignmentServiceTest {
                 () -> assignmentService.assignTask(999L, assignmentRequest));
         verify(taskRepository, times(1)).findById(999L);
         verify(userRepository, never()).findById(any());
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -139,7 +154,7 @@ class AssignmentServiceTest {
                 () -> assignmentService.assignTask(1L, assignmentRequest));
         verify(taskRepository, times(1)).findById(1L);
         verify(userRepository, never()).findById(any());
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -155,7 +170,7 @@ class AssignmentServiceTest {
                 () -> assignmentService.assignTask(1L, assignmentRequest));
         verify(taskRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(999L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -177,7 +192,7 @@ class AssignmentServiceTest {
                 () -> assignmentService.assignTask(1L, assignmentRequest));
         verify(taskRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(3L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -192,7 +207,101 @@ class AssignmentServiceTest {
                 () -> assignmentService.assignTask(1L, assignmentRequest));
         verify(taskRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).findById(1L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void unassignTask_AssignedTask_ReturnsToBacklogAndRecordsTombstone() {
+        // Arrange
+        unassignedTask.setStatus(Task.TaskStatus.ASSIGNED);
+        unassignedTask.setAssignedTechnician(technician);
+        unassignedTask.setAssignedBy(dispatcher);
+        unassignedTask.setAssignedAt(LocalDateTime.now());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(unassignedTask));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(unassignedTask);
+
+        // Act
+        TaskResponse response = assignmentService.unassignTask(1L);
+
+        // Assert
+        assertEquals(Task.TaskStatus.UNASSIGNED, response.getStatus());
+        assertNull(unassignedTask.getAssignedTechnician());
+        assertNull(unassignedTask.getAssignedBy());
+        assertNull(unassignedTask.getAssignedAt());
+        verify(taskTombstoneRepository).save(argThat(tombstone -> tombstone.getTaskId().equals(1L)
+                && tombstone.getTechnicianId().equals(1L)
+                && tombstone.getReason() == TaskTombstone.Reason.UNASSIGNED));
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.UNASSIGNED
+                        && event.getPreviousStatus() == Task.TaskStatus.ASSIGNED));
+    }
+
+    @Test
+    void unassignTask_StartedTask_ThrowsException() {
+        // Arrange
+        unassignedTask.setStatus(Task.TaskStatus.IN_PROGRESS);
+        unassignedTask.setAssignedTechnician(technician);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(unassignedTask));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> assignmentService.unassignTask(1L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verifyNoInteractions(taskTombstoneRepository, eventPublisher);
+    }
+
+    @Test
+    void assignTasks_AssignsPlannedTasksAndSkipsStaleOnes() {
+        // Arrange
+        setupSecurityContext();
+        User inactiveTechnician = new User();
+        inactiveTechnician.setId(3L);
+        inactiveTechnician.setUsername("tech3");
+        inactiveTechnician.setRole(User.Role.TECHNICIAN);
+        inactiveTechnician.setActive(false);
+
+        Task alreadyAssigned = new Task();
+        alreadyAssigned.setId(2L);
+        alreadyAssigned.setPriority(Task.Priority.LOW);
+        alreadyAssigned.setStatus(Task.TaskStatus.ASSIGNED);
+        alreadyAssigned.setAssignedTechnician(dispatcher);
+
+        Task forInactiveTechnician = new Task();
+        forInactiveTechnician.setId(3L);
+        forInactiveTechnician.setPriority(Task.Priority.MEDIUM);
+        forInactiveTechnician.setStatus(Task.TaskStatus.UNASSIGNED);
+
+        Map<Long, Long> plan = new LinkedHashMap<>();
+        plan.put(1L, 1L);
+        plan.put(2L, 1L);
+        plan.put(3L, 3L);
+        when(userRepository.findAllById(any())).thenReturn(List.of(technician, inactiveTechnician));
+        when(userRepository.findByUsername("dispatcher1")).thenReturn(Optional.of(dispatcher));
+        when(taskRepository.findWithAssigneesByIdIn(plan.keySet()))
+                .thenReturn(List.of(unassignedTask, alreadyAssigned, forInactiveTechnician));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<TaskResponse> assigned = assignmentService.assignTasks(plan);
+
+        // Assert
+        assertEquals(List.of(1L), assigned.stream().map(TaskResponse::getId).toList());
+        assertEquals(Task.TaskStatus.ASSIGNED, unassignedTask.getStatus());
+        assertEquals(technician, unassignedTask.getAssignedTechnician());
+        assertEquals(dispatcher, unassignedTask.getAssignedBy());
+        assertEquals(Task.TaskStatus.UNASSIGNED, forInactiveTechnician.getStatus());
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.ASSIGNED && event.getTask().getId().equals(1L)));
+    }
+
+    @Test
+    void assignTasks_EmptyPlan_DoesNothing() {
+        // Act
+        List<TaskResponse> assigned = assignmentService.assignTasks(Map.of());
+
+        // Assert
+        assertTrue(assigned.isEmpty());
+        verifyNoInteractions(taskRepository, userRepository);
     }
 
     @Test
@@ -0,0 +1,61 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.LoginRequest;
+import com.fieldservices.dto.LoginResponse;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the full context without a test transaction, as a login request does
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class AuthServiceIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void findByUsername_OutsideTransaction_LoadsUser() {
+        // Act
+        Optional<User> user = userRepository.findByUsername("dispatcher");
+
+        // Assert
+        assertThat(user).isPresent();
+        assertThat(user.get().getRole()).isEqualTo(User.Role.DISPATCHER);
+    }
+
+    @Test
+    void authenticateUser_SeededCredentials_ReturnsToken() {
+        // Arrange
+        LoginRequest request = new LoginRequest();
+        request.setUsername("dispatcher");
+        request.setPassword("password123");
+
+        // Act
+        LoginResponse response = authService.authenticateUser(request);
+
+        // Assert
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getUsername()).isEqualTo("dispatcher");
+        assertThat(response.getRole()).isEqualTo("DISPATCHER");
+    }
+}
@@ -0,0 +1,243 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.AutoDispatchAssignment;
+import com.fieldservices.dto.AutoDispatchResponse;
+import com.fieldservices.dto.LocationResponse;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TechnicianLoad;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoDispatchServiceTest {
+
+    @Mock
+    private DispatchBacklogService dispatchBacklogService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private AssignmentService assignmentService;
+
+    @InjectMocks
+    private AutoDispatchService autoDispatchService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autoDispatchService, "maxOpenTasks", 3);
+        ReflectionTestUtils.setField(autoDispatchService, "maxTasks", 2000);
+        ReflectionTestUtils.setField(autoDispatchService, "priorityWeightKm", 25.0);
+        ReflectionTestUtils.setField(autoDispatchService, "loadWeightKm", 10.0);
+        ReflectionTestUtils.setField(autoDispatchService, "unknownDistanceKm", 50.0);
+    }
+
+    private TaskResponse task(long id, Task.Priority priority, Double latitude, Double longitude) {
+        return TaskResponse.builder()
+                .id(id)
+                .title("Task " + id)
+                .priority(priority)
+                .status(Task.TaskStatus.UNASSIGNED)
+                .latitude(latitude)
+                .longitude(longitude)
+                .createdAt(now)
+                .build();
+    }
+
+    private User technician(long id) {
+        User technician = new User();
+        technician.setId(id);
+        technician.setUsername("tech" + id);
+        technician.setRole(User.Role.TECHNICIAN);
+        technician.setActive(true);
+        return technician;
+    }
+
+    private LocationResponse location(long technicianId, double latitude, double longitude) {
+        return LocationResponse.builder()
+                .userId(technicianId)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    private void givenBacklog(List<TaskResponse> tasks, List<User> technicians, List<LocationResponse> locations,
+                              List<TechnicianLoad> loads) {
+        when(dispatchBacklogService.isReady()).thenReturn(true);
+        when(dispatchBacklogService.top(anyInt())).thenReturn(tasks);
+        when(userRepository.findByRoleAndActive(User.Role.TECHNICIAN, true)).thenReturn(technicians);
+        when(locationService.getAllTechnicianLocations()).thenReturn(locations);
+        when(taskRepository.countByAssignedTechnician(any())).thenReturn(loads);
+    }
+
+    private Map<Long, Long> technicianByTask(AutoDispatchResponse response) {
+        Map<Long, Long> pairs = new HashMap<>();
+        response.getAssignments().forEach(a -> pairs.put(a.getTaskId(), a.getTechnicianId()));
+        return pairs;
+    }
+
+    @Test
+    void suggest_MinimizesTotalDistanceWhereNearestFirstWouldNot() {
+        // Arrange: tech1 is nearest to task 10, but sending it there leaves tech2 a long trip to task 20
+        givenBacklog(
+                List.of(task(10L, Task.Priority.MEDIUM, 0.0, 0.1), task(20L, Task.Priority.MEDIUM, 0.0, -1.0)),
+                List.of(technician(1L), technician(2L)),
+                List.of(location(1L, 0.0, 0.0), location(2L, 0.0, 1.0)),
+                List.of());
+
+        // Act
+        AutoDispatchResponse response = autoDispatchService.suggest();
+
+        // Assert
+        assertThat(technicianByTask(response)).isEqualTo(Map.of(10L, 2L, 20L, 1L));
+        // 1.9 degrees of longitude on the equator, plus the MEDIUM priority penalty for each task
+        assertThat(response.getTotalCost()).isCloseTo(1.9 * 111.19 + 2 * 25, offset(0.5));
+        assertThat(response.isApplied()).isFalse();
+        verifyNoInteractions(assignmentService);
+    }
+
+    @Test
+    void suggest_ScarceTechnicians_PrefersHighPriorityOverCloserLowPriority() {
+        // Arrange
+        givenBacklog(
+                List.of(task(10L, Task.Priority.HIGH, 0.0, 0.3), task(20L, Task.Priority.LOW, 0.0, 0.1)),
+                List.of(technician(1L)),
+                List.of(location(1L, 0.0, 0.0)),
+                List.of());
+
+        // Act
+        AutoDispatchResponse response = autoDispatchService.suggest();
+
+        // Assert
+        assertThat(technicianByTask(response)).isEqualTo(Map.of(10L, 1L));
+        AutoDispatchAssignment assignment = response.getAssignments().get(0);
+        assertThat(assignment.getDistanceKm()).isCloseTo(33.4, offset(0.5));
+        assertThat(assignment.getTechnicianUsername()).isEqualTo("tech1");
+    }
+
+    @Test
+    void suggest_PrefersLessLoadedTechnicianAndSkipsFullOnes() {
+        // Arrange: locations unknown, so only load separates the technicians
+        givenBacklog(
+                List.of(task(10L, Task.Priority.MEDIUM, null, null)),
+                List.of(technician(1L), technician(2L), technician(3L)),
+                List.of(),
+                List.of(new TechnicianLoad(1L, 2), new TechnicianLoad(3L, 3)));
+
+        // Act
+        AutoDispatchResponse response = autoDispatchService.suggest();
+
+        // Assert
+        assertThat(response.getTechniciansConsidered()).isEqualTo(2);
+        assertThat(technicianByTask(response)).isEqualTo(Map.of(10L, 2L));
+        assertThat(response.getAssignments().get(0).getDistanceKm()).isNull();
+        assertThat(response.getAssignments().get(0).getCost()).isEqualTo(75.0);
+    }
+
+    @Test
+    void suggest_BacklogNotReady_ReadsUnassignedTasksFromRepository() {
+        // Arrange
+        Task unassigned = new Task();
+        unassigned.setId(10L);
+        unassigned.setTitle("Task 10");
+        unassigned.setPriority(Task.Priority.HIGH);
+        unassigned.setStatus(Task.TaskStatus.UNASSIGNED);
+        when(dispatchBacklogService.isReady()).thenReturn(false);
+        when(taskRepository.findUnassignedTasksSortedByPriority(any(Pageable.class))).thenReturn(List.of(unassigned));
+        when(userRepository.findByRoleAndActive(User.Role.TECHNICIAN, true)).thenReturn(List.of(technician(1L)));
+        when(locationService.getAllTechnicianLocations()).thenReturn(List.of());
+        when(taskRepository.countByAssignedTechnician(any())).thenReturn(List.of());
+
+        // Act
+        AutoDispatchResponse response = autoDispatchService.suggest();
+
+        // Assert
+        assertThat(technicianByTask(response)).isEqualTo(Map.of(10L, 1L));
+        verify(dispatchBacklogService, never()).top(anyInt());
+    }
+
+    @Test
+    void apply_AssignsPlanAndReportsSkippedTasks() {
+        // Arrange
+        givenBacklog(
+                List.of(task(10L, Task.Priority.HIGH, 0.0, 0.1), task(20L, Task.Priority.HIGH, 0.0, 1.1)),
+                List.of(technician(1L), technician(2L)),
+                List.of(location(1L, 0.0, 0.0), location(2L, 0.0, 1.0)),
+                List.of());
+        when(assignmentService.assignTasks(Map.of(10L, 1L, 20L, 2L)))
+                .thenReturn(List.of(task(10L, Task.Priority.HIGH, 0.0, 0.1)));
+
+        // Act
+        AutoDispatchResponse response = autoDispatchService.apply();
+
+        // Assert
+        assertThat(response.isApplied()).isTrue();
+        assertThat(technicianByTask(response)).isEqualTo(Map.of(10L, 1L));
+        assertThat(response.getSkippedTaskIds()).containsExactly(20L);
+        assertThat(response.getTotalCost()).isEqualTo(response.getAssignments().get(0).getCost());
+    }
+
+    @Test
+    void suggest_TwoThousandTasksForOneThousandTechnicians_SolvesQuickly() {
+        // Arrange: a metro area about 100 km across
+        Random random = new Random(42);
+        Task.Priority[] priorities = Task.Priority.values();
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            tasks.add(task(id, priorities[random.nextInt(priorities.length)],
+                    40.0 + random.nextDouble(), -74.0 + random.nextDouble()));
+        }
+        List<User> technicians = new ArrayList<>();
+        List<LocationResponse> locations = new ArrayList<>();
+        List<TechnicianLoad> loads = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            technicians.add(technician(id));
+            locations.add(location(id, 40.0 + random.nextDouble(), -74.0 + random.nextDouble()));
+            loads.add(new TechnicianLoad(id, random.nextInt(3)));
+        }
+        givenBacklog(tasks, technicians, locations, loads);
+
+        // Act: the first round only warms up the JIT, as a long-running server would be
+        autoDispatchService.suggest();
+        AutoDispatchResponse response = autoDispatchService.suggest();
+
+        // Assert
+        assertThat(response.getAssignments()).hasSize(1000);
+        assertThat(response.getAssignments().stream().map(AutoDispatchAssignment::getTechnicianId).distinct())
+                .hasSize(1000);
+        // A warm server solves this in a few hundred ms; the bound leaves room for coverage instrumentation
+        // while still failing if the solver degrades to a cubic scan of the whole matrix
+        assertThat(response.getSolveMillis()).isLessThan(5000);
+    }
+}
@@ -0,0 +1,203 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchBacklogServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private DispatchBacklogService dispatchBacklogService;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 1, 15, 8, 0);
+
+    private TaskResponse unassigned(long id, Task.Priority priority, int minutesAfterBase) {
+        return TaskResponse.builder()
+                .id(id)
+                .title("Task " + id)
+                .priority(priority)
+                .status(Task.TaskStatus.UNASSIGNED)
+                .createdAt(baseTime.plusMinutes(minutesAfterBase))
+                .build();
+    }
+
+    private void publish(TaskChangedEvent.Type type, TaskResponse task) {
+        dispatchBacklogService.onTaskChanged(new TaskChangedEvent(type, task));
+    }
+
+    @Test
+    void rebuild_LoadsUnassignedTasksFromDatabase() {
+        // Arrange
+        Task task = new Task();
+        task.setId(7L);
+        task.setTitle("Loaded");
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(Task.TaskStatus.UNASSIGNED);
+        task.setCreatedAt(baseTime);
+        when(taskRepository.findUnassignedTasksSortedByPriority(Pageable.unpaged())).thenReturn(List.of(task));
+
+        // Act
+        dispatchBacklogService.rebuild();
+
+        // Assert
+        assertThat(dispatchBacklogService.isReady()).isTrue();
+        assertThat(dispatchBacklogService.size()).isEqualTo(1);
+        assertThat(dispatchBacklogService.next()).get().extracting(TaskResponse::getId).isEqualTo(7L);
+    }
+
+    @Test
+    void top_OrdersByPriorityThenAge() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, unassigned(1L, Task.Priority.LOW, 0));
+        publish(TaskChangedEvent.Type.CREATED, unassigned(2L, Task.Priority.HIGH, 30));
+        publish(TaskChangedEvent.Type.CREATED, unassigned(3L, Task.Priority.HIGH, 10));
+        publish(TaskChangedEvent.Type.CREATED, unassigned(4L, Task.Priority.MEDIUM, 5));
+
+        // Act
+        List<TaskResponse> top = dispatchBacklogService.top(3);
+
+        // Assert
+        assertThat(top).extracting(TaskResponse::getId).containsExactly(3L, 2L, 4L);
+        assertThat(dispatchBacklogService.all()).extracting(TaskResponse::getId).containsExactly(3L, 2L, 4L, 1L);
+    }
+
+    @Test
+    void onTaskChanged_AssignedTask_LeavesBacklog() {
+        // Arrange
+        TaskResponse task = unassigned(1L, Task.Priority.HIGH, 0);
+        publish(TaskChangedEvent.Type.CREATED, task);
+        publish(TaskChangedEvent.Type.CREATED, unassigned(2L, Task.Priority.LOW, 0));
+
+        // Act
+        task.setStatus(Task.TaskStatus.ASSIGNED);
+        task.setAssignedTechnicianId(5L);
+        publish(TaskChangedEvent.Type.ASSIGNED, task);
+
+        // Assert
+        assertThat(dispatchBacklogService.size()).isEqualTo(1);
+        assertThat(dispatchBacklogService.next()).get().extracting(TaskResponse::getId).isEqualTo(2L);
+    }
+
+    @Test
+    void onTaskChanged_StaleChangeArrivesAfterNewer_IsIgnored() {
+        // Arrange: the assignment (version 2) commits and is delivered before the earlier update (version 1)
+        TaskResponse created = unassigned(1L, Task.Priority.LOW, 0);
+        created.setVersion(0L);
+        publish(TaskChangedEvent.Type.CREATED, created);
+        TaskResponse assigned = unassigned(1L, Task.Priority.LOW, 0);
+        assigned.setVersion(2L);
+        assigned.setStatus(Task.TaskStatus.ASSIGNED);
+        assigned.setAssignedTechnicianId(5L);
+        publish(TaskChangedEvent.Type.ASSIGNED, assigned);
+        TaskResponse updated = unassigned(1L, Task.Priority.HIGH, 0);
+        updated.setVersion(1L);
+
+        // Act
+        publish(TaskChangedEvent.Type.UPDATED, updated);
+
+        // Assert
+        assertThat(dispatchBacklogService.size()).isZero();
+    }
+
+    @Test
+    void purgeAppliedVersions_ForgetsTasksOutsideBacklogAfterGracePeriod() {
+        // Arrange
+        TaskResponse queued = unassigned(1L, Task.Priority.LOW, 0);
+        queued.setVersion(0L);
+        publish(TaskChangedEvent.Type.CREATED, queued);
+        TaskResponse assigned = unassigned(2L, Task.Priority.HIGH, 0);
+        assigned.setVersion(1L);
+        assigned.setStatus(Task.TaskStatus.ASSIGNED);
+        assigned.setAssignedTechnicianId(5L);
+        publish(TaskChangedEvent.Type.ASSIGNED, assigned);
+        long now = System.currentTimeMillis();
+
+        // Act
+        dispatchBacklogService.purgeAppliedVersions(now);
+        int withinGrace = dispatchBacklogService.trackedVersionCount();
+        dispatchBacklogService.purgeAppliedVersions(now + DispatchBacklogService.VERSION_GRACE_MILLIS);
+
+        // Assert
+        assertThat(withinGrace).isEqualTo(2);
+        assertThat(dispatchBacklogService.trackedVersionCount()).isEqualTo(1);
+        assertThat(dispatchBacklogService.next()).get().extracting(TaskResponse::getId).isEqualTo(1L);
+    }
+
+    @Test
+    void onTaskChanged_ChangeAlreadyInSnapshot_IsIgnored() {
+        // Arrange
+        Task task = new Task();
+        task.setId(7L);
+        task.setTitle("Loaded");
+        task.setPriority(Task.Priority.HIGH);
+        task.setStatus(Task.TaskStatus.UNASSIGNED);
+        task.setCreatedAt(baseTime);
+        task.setVersion(3L);
+        when(taskRepository.findUnassignedTasksSortedByPriority(Pageable.unpaged())).thenReturn(List.of(task));
+        dispatchBacklogService.rebuild();
+        TaskResponse older = unassigned(7L, Task.Priority.LOW, 0);
+        older.setVersion(3L);
+
+        // Act
+        publish(TaskChangedEvent.Type.UPDATED, older);
+
+        // Assert
+        assertThat(dispatchBacklogService.next()).get().extracting(TaskResponse::getPriority)
+                .isEqualTo(Task.Priority.HIGH);
+    }
+
+    @Test
+    void onTaskChanged_PriorityRaised_MovesTaskUp() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, unassigned(1L, Task.Priority.MEDIUM, 0));
+        publish(TaskChangedEvent.Type.CREATED, unassigned(2L, Task.Priority.LOW, 0));
+
+        // Act
+        publish(TaskChangedEvent.Type.UPDATED, unassigned(2L, Task.Priority.HIGH, 0));
+
+        // Assert
+        assertThat(dispatchBacklogService.all()).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void top_RandomChangesMatchFullSort() {
+        // Arrange
+        Random random = new Random(42);
+        List<TaskResponse> expected = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            TaskResponse task = unassigned(id, Task.Priority.values()[random.nextInt(3)], random.nextInt(1000));
+            publish(TaskChangedEvent.Type.CREATED, task);
+            expected.add(task);
+        }
+        for (int i = 0; i < 100; i++) {
+            TaskResponse task = expected.remove(random.nextInt(expected.size()));
+            TaskResponse assigned = unassigned(task.getId(), task.getPriority(), 0);
+            assigned.setStatus(Task.TaskStatus.ASSIGNED);
+            publish(TaskChangedEvent.Type.ASSIGNED, assigned);
+        }
+        expected.sort(DispatchBacklogService.DISPATCH_ORDER);
+
+        // Act & Assert
+        assertThat(dispatchBacklogService.top(25)).containsExactlyElementsOf(expected.subList(0, 25));
+        assertThat(dispatchBacklogService.all()).containsExactlyElementsOf(expected);
+    }
+}
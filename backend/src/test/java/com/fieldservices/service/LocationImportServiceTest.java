@@ -0,0 +1,216 @@
+package com.fieldservices.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fieldservices.dto.LocationImportRequest;
+import com.fieldservices.dto.LocationImportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocationImportServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @TempDir
+    Path importDirectory;
+
+    private LocationImportService locationImportService;
+
+    private final AtomicReference<String> copiedData = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        locationImportService = new LocationImportService(dataSource, new ObjectMapper());
+        ReflectionTestUtils.setField(locationImportService, "importDirectory", importDirectory.toString());
+    }
+
+    private void mockCopy() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(Reader.class))).thenAnswer(invocation -> {
+            StringWriter writer = new StringWriter();
+            invocation.<Reader>getArgument(1).transferTo(writer);
+            copiedData.set(writer.toString());
+            return copiedData.get().lines().count();
+        });
+    }
+
+    @Test
+    void testImportCsv_StreamsRowsWithoutHeader() throws Exception {
+        // Given
+        mockCopy();
+        Files.writeString(importDirectory.resolve("history.csv"),
+                "user_id,latitude,longitude,accuracy,timestamp\n"
+                        + "5,40.7128,-74.006,10.5,2025-06-01T08:00:00\n"
+                        + "5,40.7130,-74.007,,2025-06-01T08:00:30\n");
+
+        // When
+        LocationImportResponse response = locationImportService.importLocations(
+                new LocationImportRequest("history.csv", LocationImportRequest.Format.CSV));
+
+        // Then
+        assertThat(response.getRowsImported()).isEqualTo(2L);
+        assertThat(response.getRowsPerSecond()).isPositive();
+        assertThat(copiedData.get()).doesNotContain("user_id").startsWith("5,40.7128");
+        verify(copyManager).copyIn(org.mockito.ArgumentMatchers.startsWith("COPY locations"), any(Reader.class));
+        verify(connection).close();
+    }
+
+    @Test
+    void testImportNdjson_ConvertsToCsv() throws Exception {
+        // Given
+        mockCopy();
+        Files.writeString(importDirectory.resolve("history.ndjson"),
+                "{\"userId\":5,\"latitude\":40.7128,\"longitude\":-74.006,\"accuracy\":10.5,"
+                        + "\"timestamp\":\"2025-06-01T08:00:00\"}\n"
+                        + "\n"
+                        + "{\"userId\":6,\"latitude\":40.75,\"longitude\":-73.99,\"timestamp\":\"2025-06-01T08:01:00\"}\n");
+
+        // When
+        LocationImportResponse response = locationImportService.importLocations(
+                new LocationImportRequest("history.ndjson", LocationImportRequest.Format.NDJSON));
+
+        // Then
+        assertThat(response.getRowsImported()).isEqualTo(2L);
+        assertThat(copiedData.get()).isEqualTo(
+                "5,40.7128,-74.006,10.5,\"2025-06-01T08:00:00\"\n"
+                        + "6,40.75,-73.99,,\"2025-06-01T08:01:00\"\n");
+    }
+
+    @Test
+    void testImportNdjson_MissingFieldRejected() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(Reader.class))).thenAnswer(invocation -> {
+            invocation.<Reader>getArgument(1).transferTo(new StringWriter());
+            return 0L;
+        });
+        Files.writeString(importDirectory.resolve("broken.ndjson"), "{\"userId\":5,\"latitude\":40.7}\n");
+
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("broken.ndjson", LocationImportRequest.Format.NDJSON)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing 'longitude' on line 1");
+    }
+
+    @Test
+    void testImportNdjson_StringInNumericFieldRejected() throws Exception {
+        // Given
+        mockCopy();
+        Files.writeString(importDirectory.resolve("injected.ndjson"),
+                "{\"userId\":5,\"latitude\":40.7,\"longitude\":-74.0,\"timestamp\":\"2025-06-01T08:00:00\"}\n"
+                        + "{\"userId\":5,\"latitude\":\"40.7,-74.0,,2025-06-01T08:00:00\\n6\",\"longitude\":-74.0,"
+                        + "\"timestamp\":\"2025-06-01T08:00:00\"}\n");
+
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("injected.ndjson", LocationImportRequest.Format.NDJSON)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'latitude' must be a number on line 2");
+    }
+
+    @Test
+    void testImportNdjson_FractionalUserIdRejected() throws Exception {
+        // Given
+        mockCopy();
+        Files.writeString(importDirectory.resolve("fractional.ndjson"),
+                "{\"userId\":5.5,\"latitude\":40.7,\"longitude\":-74.0,\"timestamp\":\"2025-06-01T08:00:00\"}\n");
+
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("fractional.ndjson", LocationImportRequest.Format.NDJSON)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'userId' must be an integer on line 1");
+    }
+
+    @Test
+    void testImport_RejectedDataIsBadRequestButServerFailureIsNot() throws Exception {
+        // Given
+        Files.writeString(importDirectory.resolve("history.csv"),
+                "user_id,latitude,longitude,accuracy,timestamp\n99,40.7,-74.0,,2025-06-01T08:00:00\n");
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(Reader.class)))
+                .thenThrow(new SQLException("violates foreign key constraint", "23503"))
+                .thenThrow(new SQLException("terminating connection due to administrator command", "57P01"));
+        LocationImportRequest request = new LocationImportRequest("history.csv", LocationImportRequest.Format.CSV);
+
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> locationImportService.importLocations(request))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testImportCsv_WrongHeaderRejected() throws IOException {
+        // Given
+        Files.writeString(importDirectory.resolve("bad.csv"), "lat,lon\n1,2\n");
+
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("bad.csv", LocationImportRequest.Format.CSV)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CSV header must be");
+    }
+
+    @Test
+    void testImport_PathOutsideImportDirectoryRejected() {
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("../../etc/passwd", LocationImportRequest.Format.CSV)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("inside the import directory");
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void testImport_MissingFileRejected() {
+        // When/Then
+        assertThatThrownBy(() -> locationImportService.importLocations(
+                new LocationImportRequest("missing.csv", LocationImportRequest.Format.CSV)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Import file not found");
+    }
+}
@@ -15,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -24,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +44,9 @@ class LocationServiceTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private MileageService mileageService;
+
     @InjectMocks
     private LocationService locationService;
 
@@ -91,6 +96,7 @@ class LocationServiceTest {
         assertThat(response.getLongitude()).isEqualTo(-74.0060);
         verify(locationRepository).save(any(Location.class));
         verify(messagingTemplate).convertAndSend(eq("/topic/locations"), any(LocationResponse.class));
+        verify(mileageService).recordPoint(eq(1L), eq(40.7128), eq(-74.0060), eq(10.0), any(LocalDateTime.class));
     }
 
     @Test
@@ -176,6 +182,106 @@ class LocationServiceTest {
         assertThat(responses.get(0).getUserId()).isEqualTo(1L);
     }
 
+    private LocationUpdateRequest locationRequest(double latitude, double longitude, Double accuracy) {
+        LocationUpdateRequest request = new LocationUpdateRequest();
+        request.setUserId(1L);
+        request.setLatitude(latitude);
+        request.setLongitude(longitude);
+        request.setAccuracy(accuracy);
+        return request;
+    }
+
+    private void useMovementPolicy() {
+        ReflectionTestUtils.setField(locationService, "persistencePolicy", LocationService.PersistencePolicy.MOVEMENT);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(technicianUser));
+        when(locationRepository.save(any(Location.class))).thenAnswer(invocation -> {
+            Location location = invocation.getArgument(0);
+            location.setId(100L);
+            return location;
+        });
+    }
+
+    @Test
+    void testUpdateLocation_MovementPolicy_StationaryPointNotPersisted() {
+        // Given
+        useMovementPolicy();
+        locationService.updateLocation(locationRequest(40.71280, -74.0060, 10.0));
+
+        // When - about 5 m away
+        LocationResponse response = locationService.updateLocation(locationRequest(40.71285, -74.0060, 10.0));
+
+        // Then
+        assertThat(response.getId()).isNull();
+        assertThat(response.getLatitude()).isEqualTo(40.71285);
+        verify(locationRepository, times(1)).save(any(Location.class));
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/locations"), any(LocationResponse.class));
+        verify(mileageService, times(2)).recordPoint(eq(1L), anyDouble(), anyDouble(), eq(10.0),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void testUpdateLocation_MovementPolicy_MovedPointPersistedWithoutThrottle() {
+        // Given
+        useMovementPolicy();
+        locationService.updateLocation(locationRequest(40.7128, -74.0060, 10.0));
+
+        // When - about 1.1 km away, immediately after the previous point
+        LocationResponse response = locationService.updateLocation(locationRequest(40.7228, -74.0060, 10.0));
+
+        // Then
+        assertThat(response.getId()).isEqualTo(100L);
+        verify(locationRepository, times(2)).save(any(Location.class));
+    }
+
+    @Test
+    void testUpdateLocation_MovementPolicy_ThresholdScalesWithAccuracy() {
+        // Given - 80 m accuracy gives a 120 m dead band
+        useMovementPolicy();
+        locationService.updateLocation(locationRequest(40.7128, -74.0060, 80.0));
+
+        // When - about 100 m away
+        LocationResponse response = locationService.updateLocation(locationRequest(40.7137, -74.0060, 80.0));
+
+        // Then
+        assertThat(response.getId()).isNull();
+        verify(locationRepository, times(1)).save(any(Location.class));
+    }
+
+    @Test
+    void testUpdateLocation_MovementPolicy_HeartbeatPersistsStationaryPoint() {
+        // Given
+        useMovementPolicy();
+        ReflectionTestUtils.setField(locationService, "heartbeatSeconds", 0L);
+        locationService.updateLocation(locationRequest(40.7128, -74.0060, 10.0));
+
+        // When
+        LocationResponse response = locationService.updateLocation(locationRequest(40.7128, -74.0060, 10.0));
+
+        // Then
+        assertThat(response.getId()).isEqualTo(100L);
+        verify(locationRepository, times(2)).save(any(Location.class));
+    }
+
+    @Test
+    void testGetAllTechnicianLocations_IncludesInMemoryPosition() {
+        // Given
+        useMovementPolicy();
+        locationService.updateLocation(locationRequest(40.71280, -74.0060, 10.0));
+        locationService.updateLocation(locationRequest(40.71285, -74.0060, 10.0));
+
+        Location stored = new Location(100L, 1L, 40.71280, -74.0060, 10.0, LocalDateTime.now().minusMinutes(1));
+        when(userRepository.findAll()).thenReturn(List.of(technicianUser));
+        when(locationRepository.findLatestLocationForEachUserSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(stored));
+
+        // When
+        List<LocationResponse> responses = locationService.getAllTechnicianLocations();
+
+        // Then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getLatitude()).isEqualTo(40.71285);
+    }
+
     @Test
     void testGetAllTechnicianLocations_NoTechnicians() {
         // Given
@@ -0,0 +1,177 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.DailyMileageResponse;
+import com.fieldservices.model.DailyMileage;
+import com.fieldservices.repository.DailyMileageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MileageServiceTest {
+
+    @Mock
+    private DailyMileageRepository dailyMileageRepository;
+
+    @InjectMocks
+    private MileageService mileageService;
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 11, 18, 9, 0);
+
+    @SuppressWarnings("unchecked")
+    private List<DailyMileage> flushAndCaptureSaved() {
+        ArgumentCaptor<List<DailyMileage>> captor = ArgumentCaptor.forClass(List.class);
+        mileageService.flush();
+        verify(dailyMileageRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void testFlush_AccumulatesDistanceIntoNewSummary() {
+        // Given - two moves of roughly 1.11 km each along a meridian
+        when(dailyMileageRepository.findByMileageDateAndTechnicianIdIn(eq(MORNING.toLocalDate()), anyCollection()))
+                .thenReturn(List.of());
+        mileageService.recordPoint(1L, 40.0000, -74.0, 10.0, MORNING);
+        mileageService.recordPoint(1L, 40.0100, -74.0, 10.0, MORNING.plusMinutes(5));
+        mileageService.recordPoint(1L, 40.0200, -74.0, 10.0, MORNING.plusMinutes(10));
+
+        // When
+        List<DailyMileage> saved = flushAndCaptureSaved();
+
+        // Then
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getTechnicianId()).isEqualTo(1L);
+        assertThat(saved.get(0).getMileageDate()).isEqualTo(MORNING.toLocalDate());
+        assertThat(saved.get(0).getDistanceKm()).isCloseTo(2.22, within(0.05));
+        assertThat(saved.get(0).getPointCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testRecordPoint_IgnoresJumpsWithinAccuracy() {
+        // Given - 5 m of jitter reported with 20 m accuracy
+        when(dailyMileageRepository.findByMileageDateAndTechnicianIdIn(eq(MORNING.toLocalDate()), anyCollection()))
+                .thenReturn(List.of());
+        mileageService.recordPoint(1L, 40.00000, -74.0, 20.0, MORNING);
+        mileageService.recordPoint(1L, 40.00005, -74.0, 20.0, MORNING.plusMinutes(1));
+        mileageService.recordPoint(1L, 40.00000, -74.0, 20.0, MORNING.plusMinutes(2));
+
+        // When
+        List<DailyMileage> saved = flushAndCaptureSaved();
+
+        // Then
+        assertThat(saved.get(0).getDistanceKm()).isEqualTo(0.0);
+        assertThat(saved.get(0).getPointCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testFlush_AddsToExistingSummary() {
+        // Given
+        DailyMileage existing = new DailyMileage();
+        existing.setId(5L);
+        existing.setTechnicianId(1L);
+        existing.setMileageDate(MORNING.toLocalDate());
+        existing.setDistanceKm(10.0);
+        existing.setPointCount(40);
+        when(dailyMileageRepository.findByMileageDateAndTechnicianIdIn(eq(MORNING.toLocalDate()), anyCollection()))
+                .thenReturn(List.of(existing));
+        mileageService.recordPoint(1L, 40.0000, -74.0, 5.0, MORNING);
+        mileageService.recordPoint(1L, 40.0100, -74.0, 5.0, MORNING.plusMinutes(5));
+
+        // When
+        List<DailyMileage> saved = flushAndCaptureSaved();
+
+        // Then
+        assertThat(saved).containsExactly(existing);
+        assertThat(existing.getDistanceKm()).isCloseTo(11.11, within(0.05));
+        assertThat(existing.getPointCount()).isEqualTo(42);
+    }
+
+    @Test
+    void testFlush_NothingPending_SkipsDatabase() {
+        // When
+        mileageService.flush();
+
+        // Then
+        verifyNoInteractions(dailyMileageRepository);
+    }
+
+    @Test
+    void testFlush_DrainsPendingDistance() {
+        // Given
+        when(dailyMileageRepository.findByMileageDateAndTechnicianIdIn(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of());
+        mileageService.recordPoint(1L, 40.0, -74.0, 5.0, MORNING);
+
+        // When
+        mileageService.flush();
+        mileageService.flush();
+
+        // Then - the second flush has nothing left to write
+        verify(dailyMileageRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    void testFlush_FailureRestoresPendingDistance() {
+        // Given
+        List<DailyMileage> savedOnRetry = new ArrayList<>();
+        when(dailyMileageRepository.findByMileageDateAndTechnicianIdIn(any(LocalDate.class), anyCollection()))
+                .thenReturn(List.of());
+        when(dailyMileageRepository.saveAll(any()))
+                .thenThrow(new RuntimeException("Connection refused"))
+                .thenAnswer(invocation -> {
+                    invocation.<List<DailyMileage>>getArgument(0).forEach(savedOnRetry::add);
+                    return savedOnRetry;
+                });
+        mileageService.recordPoint(1L, 40.0000, -74.0, 5.0, MORNING);
+        mileageService.recordPoint(1L, 40.0100, -74.0, 5.0, MORNING.plusMinutes(5));
+
+        // When
+        assertThatThrownBy(() -> mileageService.flush()).hasMessageContaining("Connection refused");
+        mileageService.flush();
+
+        // Then
+        assertThat(savedOnRetry).hasSize(1);
+        assertThat(savedOnRetry.get(0).getDistanceKm()).isCloseTo(1.11, within(0.05));
+        assertThat(savedOnRetry.get(0).getPointCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetDailyMileage() {
+        // Given
+        DailyMileage mileage = new DailyMileage(1L, 3L, MORNING.toLocalDate(), 42.5, 120, MORNING);
+        when(dailyMileageRepository.findByMileageDateOrderByTechnicianId(MORNING.toLocalDate()))
+                .thenReturn(List.of(mileage));
+
+        // When
+        List<DailyMileageResponse> responses = mileageService.getDailyMileage(MORNING.toLocalDate());
+
+        // Then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getTechnicianId()).isEqualTo(3L);
+        assertThat(responses.get(0).getDistanceKm()).isEqualTo(42.5);
+    }
+
+    @Test
+    void testGetTechnicianMileage_InvalidRange() {
+        // When/Then
+        assertThatThrownBy(() -> mileageService.getTechnicianMileage(
+                1L, LocalDate.of(2025, 11, 20), LocalDate.of(2025, 11, 18)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
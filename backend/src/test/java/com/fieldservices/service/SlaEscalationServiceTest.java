@@ -0,0 +1,247 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.event.TaskEscalatedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlaEscalationServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private SlaEscalationService slaEscalationService;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(slaEscalationService, "unassignedMinutes", 30L);
+        ReflectionTestUtils.setField(slaEscalationService, "assignedMinutes", 60L);
+    }
+
+    private TaskResponse task(long id, Task.Priority priority, Task.TaskStatus status) {
+        return TaskResponse.builder()
+                .id(id)
+                .title("Task " + id)
+                .priority(priority)
+                .status(status)
+                .createdAt(now)
+                .build();
+    }
+
+    private void publish(TaskChangedEvent.Type type, TaskResponse task) {
+        slaEscalationService.onTaskChanged(new TaskChangedEvent(type, task));
+    }
+
+    private void advanceTo(LocalDateTime time) {
+        slaEscalationService.advanceTo(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private List<TaskEscalatedEvent> escalations() {
+        ArgumentCaptor<TaskEscalatedEvent> events = ArgumentCaptor.forClass(TaskEscalatedEvent.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+
+    @Test
+    void onTaskChanged_EscalatesUnassignedHighTaskAfterDeadline() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+
+        // Act
+        advanceTo(now.plusMinutes(29));
+        List<TaskEscalatedEvent> beforeDeadline = new ArrayList<>(escalations());
+        advanceTo(now.plusMinutes(30));
+
+        // Assert
+        assertThat(beforeDeadline).isEmpty();
+        List<TaskEscalatedEvent> events = escalations();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getTaskId()).isEqualTo(1L);
+        assertThat(events.get(0).getStatus()).isEqualTo(Task.TaskStatus.UNASSIGNED);
+        assertThat(events.get(0).getDeadline()).isEqualTo(now.plusMinutes(30));
+        verify(messagingTemplate).convertAndSend(eq(SlaEscalationService.TOPIC), any(TaskEscalatedEvent.class));
+        assertThat(slaEscalationService.pendingCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_AssignedTaskUsesAssignmentTime() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+        TaskResponse assigned = task(1L, Task.Priority.HIGH, Task.TaskStatus.ASSIGNED);
+        assigned.setAssignedTechnicianId(9L);
+        assigned.setAssignedAt(now.plusMinutes(10));
+
+        // Act
+        publish(TaskChangedEvent.Type.ASSIGNED, assigned);
+        advanceTo(now.plusMinutes(69));
+        List<TaskEscalatedEvent> beforeDeadline = new ArrayList<>(escalations());
+        advanceTo(now.plusMinutes(70));
+
+        // Assert
+        assertThat(beforeDeadline).isEmpty();
+        List<TaskEscalatedEvent> events = escalations();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getStatus()).isEqualTo(Task.TaskStatus.ASSIGNED);
+        assertThat(events.get(0).getAssignedTechnicianId()).isEqualTo(9L);
+        assertThat(events.get(0).getDeadline()).isEqualTo(now.plusMinutes(70));
+    }
+
+    @Test
+    void onTaskChanged_StartedOrDowngradedTaskIsNotEscalated() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+        publish(TaskChangedEvent.Type.CREATED, task(2L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+        publish(TaskChangedEvent.Type.CREATED, task(3L, Task.Priority.MEDIUM, Task.TaskStatus.UNASSIGNED));
+
+        // Act
+        publish(TaskChangedEvent.Type.STARTED, task(1L, Task.Priority.HIGH, Task.TaskStatus.IN_PROGRESS));
+        publish(TaskChangedEvent.Type.UPDATED, task(2L, Task.Priority.LOW, Task.TaskStatus.UNASSIGNED));
+        advanceTo(now.plusHours(3));
+
+        // Assert
+        assertThat(escalations()).isEmpty();
+        assertThat(slaEscalationService.pendingCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_StaleAssignmentAfterStart_IsIgnored() {
+        // Arrange: the start (version 2) is delivered before the assignment (version 1) it followed
+        TaskResponse created = task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED);
+        created.setVersion(0L);
+        publish(TaskChangedEvent.Type.CREATED, created);
+        TaskResponse started = task(1L, Task.Priority.HIGH, Task.TaskStatus.IN_PROGRESS);
+        started.setVersion(2L);
+        publish(TaskChangedEvent.Type.STARTED, started);
+        TaskResponse assigned = task(1L, Task.Priority.HIGH, Task.TaskStatus.ASSIGNED);
+        assigned.setVersion(1L);
+        assigned.setAssignedTechnicianId(5L);
+        assigned.setAssignedAt(now);
+
+        // Act
+        publish(TaskChangedEvent.Type.ASSIGNED, assigned);
+        advanceTo(now.plusHours(3));
+
+        // Assert
+        assertThat(escalations()).isEmpty();
+        assertThat(slaEscalationService.pendingCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_UnrelatedUpdateDoesNotEscalateAgain() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+        advanceTo(now.plusMinutes(31));
+
+        // Act
+        TaskResponse renamed = task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED);
+        renamed.setTitle("Renamed");
+        publish(TaskChangedEvent.Type.UPDATED, renamed);
+        advanceTo(now.plusMinutes(40));
+
+        // Assert
+        assertThat(escalations()).hasSize(1);
+        assertThat(slaEscalationService.pendingCount()).isZero();
+    }
+
+    @Test
+    void rebuild_LoadsWaitingHighTasksAndEscalatesOverdueOnNextTick() {
+        // Arrange
+        User technician = new User();
+        technician.setId(4L);
+        Task overdue = new Task();
+        overdue.setId(1L);
+        overdue.setStatus(Task.TaskStatus.ASSIGNED);
+        overdue.setAssignedTechnician(technician);
+        overdue.setCreatedAt(now.minusHours(3));
+        overdue.setAssignedAt(now.minusHours(2));
+        Task waiting = new Task();
+        waiting.setId(2L);
+        waiting.setStatus(Task.TaskStatus.UNASSIGNED);
+        waiting.setCreatedAt(now.minusMinutes(5));
+        when(taskRepository.findByStatusInAndPriorityRank(any(), eq(Task.Priority.HIGH.getRank())))
+                .thenReturn(List.of(overdue, waiting));
+
+        // Act
+        slaEscalationService.rebuild();
+        advanceTo(now.plusSeconds(5));
+
+        // Assert
+        List<TaskEscalatedEvent> events = escalations();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getTaskId()).isEqualTo(1L);
+        assertThat(events.get(0).getAssignedTechnicianId()).isEqualTo(4L);
+        assertThat(slaEscalationService.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void advanceTo_FiresEachDeadlineInItsOwnMinute() {
+        // Arrange
+        Random random = new Random(47);
+        List<LocalDateTime> deadlines = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            TaskResponse task = task(id, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED);
+            task.setCreatedAt(now.plusSeconds(random.nextInt(3 * 24 * 3600)));
+            deadlines.add(task.getCreatedAt().plusMinutes(30));
+            publish(TaskChangedEvent.Type.CREATED, task);
+        }
+
+        // Act & Assert
+        for (LocalDateTime time = now; time.isBefore(now.plusDays(4)); time = time.plusMinutes(1)) {
+            advanceTo(time);
+            LocalDateTime reached = time;
+            long due = deadlines.stream().filter(deadline -> !deadline.isAfter(reached)).count();
+            assertThat(slaEscalationService.pendingCount()).isEqualTo(deadlines.size() - due);
+        }
+        assertThat(escalations()).hasSize(deadlines.size());
+    }
+
+    @Test
+    void advanceTo_DeadlineBeyondWheelSpanFiresOnTime() {
+        // Arrange
+        ReflectionTestUtils.setField(slaEscalationService, "unassignedMinutes", 300L * 24 * 60);
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.Priority.HIGH, Task.TaskStatus.UNASSIGNED));
+
+        // Act
+        advanceTo(now.plusDays(300).minusSeconds(1));
+        List<TaskEscalatedEvent> beforeDeadline = new ArrayList<>(escalations());
+        advanceTo(now.plusDays(300));
+
+        // Assert
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(escalations()).hasSize(1);
+    }
+}
@@ -2,6 +2,10 @@ package com.fieldservices.service;
 
 import com.fieldservices.dto.TaskCompleteRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskTransitionBatchResponse;
+import com.fieldservices.dto.TaskTransitionRequest;
+import com.fieldservices.dto.TaskTransitionResult;
+import com.fieldservices.event.TaskChangedEvent;
 import com.fieldservices.model.Task;
 import com.fieldservices.model.User;
 import com.fieldservices.repository.TaskRepository;
@@ -12,13 +16,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +36,9 @@ class StatusServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StatusService statusService;
 
@@ -81,7 +93,7 @@ class StatusServiceTest {
     void testStartTask_Success() {
         // Given
         when(taskRepository.findById(1L)).thenReturn(Optional.of(assignedTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         TaskResponse response = statusService.startTask(1L);
@@ -90,7 +102,9 @@ class StatusServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
         assertThat(response.getStartedAt()).isNotNull();
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).saveAndFlush(any(Task.class));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.STARTED, response,
+                Task.TaskStatus.ASSIGNED, response.getPriority()));
     }
 
     @Test
@@ -133,7 +147,7 @@ class StatusServiceTest {
         request.setWorkSummary("Replaced the faulty component and tested the system. All working correctly now.");
 
         when(taskRepository.findById(2L)).thenReturn(Optional.of(inProgressTask));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         TaskResponse response = statusService.completeTask(2L, request);
@@ -143,7 +157,9 @@ class StatusServiceTest {
         assertThat(response.getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
         assertThat(response.getCompletedAt()).isNotNull();
         assertThat(response.getWorkSummary()).isEqualTo(request.getWorkSummary());
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).saveAndFlush(any(Task.class));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.COMPLETED, response,
+                Task.TaskStatus.IN_PROGRESS, response.getPriority()));
     }
 
     @Test
@@ -205,7 +221,7 @@ class StatusServiceTest {
     @Test
     void testGetTaskStatus_Success() {
         // Given
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(inProgressTask));
+        when(taskRepository.findWithAssigneesById(2L)).thenReturn(Optional.of(inProgressTask));
 
         // When
         TaskResponse response = statusService.getTaskStatus(2L);
@@ -219,7 +235,7 @@ class StatusServiceTest {
     @Test
     void testGetTaskStatus_TaskNotFound() {
         // Given
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithAssigneesById(999L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> statusService.getTaskStatus(999L))
@@ -227,6 +243,98 @@ class StatusServiceTest {
                 .hasMessageContaining("Task not found");
     }
 
+    @Test
+    void testApplyTransitions_StartThenComplete_UsesClientTimestamps() {
+        // Given
+        LocalDateTime startedAt = LocalDateTime.now().minusHours(2);
+        LocalDateTime completedAt = startedAt.plusMinutes(90);
+        when(taskRepository.findWithAssigneesByIdIn(Set.of(1L))).thenReturn(List.of(assignedTask));
+
+        // When
+        TaskTransitionBatchResponse response = statusService.applyTransitions(List.of(
+                new TaskTransitionRequest(1L, TaskTransitionRequest.Action.START, startedAt, null),
+                new TaskTransitionRequest(1L, TaskTransitionRequest.Action.COMPLETE, completedAt,
+                        "Replaced the compressor")));
+
+        // Then
+        assertThat(response.getApplied()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(TaskTransitionResult::getOutcome)
+                .containsExactly(TaskTransitionResult.Outcome.APPLIED, TaskTransitionResult.Outcome.APPLIED);
+        assertThat(response.getResults().get(0).getTask().getStatus()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
+        assertThat(assignedTask.getStatus()).isEqualTo(Task.TaskStatus.COMPLETED);
+        assertThat(assignedTask.getStartedAt()).isEqualTo(startedAt);
+        assertThat(assignedTask.getCompletedAt()).isEqualTo(completedAt);
+        verify(taskRepository, times(1)).findWithAssigneesByIdIn(any());
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.STARTED
+                        && event.getPreviousStatus() == Task.TaskStatus.ASSIGNED));
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.COMPLETED
+                        && event.getPreviousStatus() == Task.TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void testApplyTransitions_InvalidItemsRejectedIndividually() {
+        // Given
+        when(taskRepository.findWithAssigneesByIdIn(Set.of(2L, 4L, 99L)))
+                .thenReturn(List.of(inProgressTask, unassignedTask));
+
+        // When
+        TaskTransitionBatchResponse response = statusService.applyTransitions(List.of(
+                new TaskTransitionRequest(4L, TaskTransitionRequest.Action.START, null, null),
+                new TaskTransitionRequest(99L, TaskTransitionRequest.Action.START, null, null),
+                new TaskTransitionRequest(2L, TaskTransitionRequest.Action.COMPLETE, null, " "),
+                new TaskTransitionRequest(2L, TaskTransitionRequest.Action.COMPLETE, null, "Too short"),
+                new TaskTransitionRequest(2L, TaskTransitionRequest.Action.COMPLETE,
+                        LocalDateTime.now().plusHours(1), "Done in the future"),
+                new TaskTransitionRequest(2L, TaskTransitionRequest.Action.COMPLETE, null, "Fixed the leak")));
+
+        // Then
+        assertThat(response.getApplied()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(TaskTransitionResult::getOutcome).containsExactly(
+                TaskTransitionResult.Outcome.REJECTED, TaskTransitionResult.Outcome.REJECTED,
+                TaskTransitionResult.Outcome.REJECTED, TaskTransitionResult.Outcome.REJECTED,
+                TaskTransitionResult.Outcome.REJECTED, TaskTransitionResult.Outcome.APPLIED);
+        assertThat(response.getResults().get(0).getMessage()).contains("Only ASSIGNED tasks can be started");
+        assertThat(response.getResults().get(1).getTask()).isNull();
+        assertThat(response.getResults().get(2).getMessage()).contains("Work summary is required");
+        assertThat(response.getResults().get(3).getMessage()).contains("between 10 and 2000");
+        assertThat(response.getResults().get(4).getMessage()).contains("future");
+        assertThat(unassignedTask.getStatus()).isEqualTo(Task.TaskStatus.UNASSIGNED);
+        assertThat(inProgressTask.getWorkSummary()).isEqualTo("Fixed the leak");
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testApplyTransitions_ReplayedTransitionsReportedAsAlreadyApplied() {
+        // Given
+        when(taskRepository.findWithAssigneesByIdIn(Set.of(2L, 3L))).thenReturn(List.of(inProgressTask, completedTask));
+
+        // When
+        TaskTransitionBatchResponse response = statusService.applyTransitions(List.of(
+                new TaskTransitionRequest(2L, TaskTransitionRequest.Action.START, null, null),
+                new TaskTransitionRequest(3L, TaskTransitionRequest.Action.COMPLETE, null, "Task completed again")));
+
+        // Then
+        assertThat(response.getApplied()).isZero();
+        assertThat(response.getResults()).extracting(TaskTransitionResult::getOutcome).containsOnly(
+                TaskTransitionResult.Outcome.ALREADY_APPLIED);
+        assertThat(completedTask.getWorkSummary()).isEqualTo("Task completed successfully");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testApplyTransitions_EmptyOrOversizedBatch() {
+        // When/Then
+        assertThatThrownBy(() -> statusService.applyTransitions(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        List<TaskTransitionRequest> tooMany = Collections.nCopies(StatusService.MAX_TRANSITION_BATCH_SIZE + 1,
+                new TaskTransitionRequest(1L, TaskTransitionRequest.Action.START, null, null));
+        assertThatThrownBy(() -> statusService.applyTransitions(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void testCanTransitionTo_UnassignedToAssigned() {
         // When/Then
@@ -0,0 +1,116 @@
+package com.fieldservices.service;
+
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.ArchivedTaskRepository;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskCountersService taskCountersService;
+
+    @Mock
+    private TaskListVersionService taskListVersionService;
+
+    private TaskArchiveService taskArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        taskArchiveService = new TaskArchiveService(taskRepository, archivedTaskRepository, taskTombstoneRepository,
+                transactionManager, taskCountersService, taskListVersionService);
+        ReflectionTestUtils.setField(taskArchiveService, "minAgeDays", 90);
+        ReflectionTestUtils.setField(taskArchiveService, "batchSize", 2);
+    }
+
+    @Test
+    void archiveTasks_MovesBatchesUntilNoneLeft() {
+        // Arrange
+        when(taskRepository.findArchivableIds(eq(TaskArchiveService.ARCHIVABLE_STATUSES), any(LocalDateTime.class),
+                eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(archivedTaskRepository.copyFromTasks(anyList(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+        when(taskRepository.deleteArchived(anyList(), eq(TaskArchiveService.ARCHIVABLE_STATUSES), any(LocalDateTime.class)))
+                .thenReturn(2, 1);
+
+        // Act
+        int archived = taskArchiveService.archiveTasks();
+
+        // Assert
+        assertThat(archived).isEqualTo(3);
+        verify(archivedTaskRepository).copyFromTasks(eq(List.of(1L, 2L)), eq(List.of("COMPLETED", "CANCELLED")),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(taskRepository).deleteArchived(eq(List.of(3L)), eq(TaskArchiveService.ARCHIVABLE_STATUSES),
+                any(LocalDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+        verify(taskTombstoneRepository).recordArchived(eq(List.of(1L, 2L)), eq(List.of("COMPLETED", "CANCELLED")),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(taskCountersService).reconcile();
+        verify(taskListVersionService).bump();
+    }
+
+    @Test
+    void archiveTasks_UsesCutoffFromMinimumAge() {
+        // Arrange
+        when(taskRepository.findArchivableIds(any(), any(LocalDateTime.class), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minusDays(90);
+
+        // Act
+        int archived = taskArchiveService.archiveTasks();
+
+        // Assert
+        assertThat(archived).isZero();
+        verify(taskRepository).findArchivableIds(eq(TaskArchiveService.ARCHIVABLE_STATUSES),
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(before.plusMinutes(1))), any());
+        verifyNoInteractions(archivedTaskRepository, transactionManager, taskCountersService, taskListVersionService);
+    }
+
+    @Test
+    void archiveTasks_TaskChangedDuringBatch_RollsBack() {
+        // Arrange
+        when(taskRepository.findArchivableIds(any(), any(LocalDateTime.class), any())).thenReturn(List.of(1L, 2L));
+        when(archivedTaskRepository.copyFromTasks(anyList(), anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(2);
+        when(taskRepository.deleteArchived(anyList(), any(), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskArchiveService.archiveTasks())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("copied 2 tasks but deleted 1");
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verifyNoInteractions(taskCountersService);
+    }
+}
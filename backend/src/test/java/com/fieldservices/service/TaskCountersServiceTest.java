@@ -0,0 +1,197 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskCount;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSummaryResponse;
+import com.fieldservices.dto.TaskVersion;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCountersServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TaskCountersService taskCountersService;
+
+    private TaskResponse task(Task.TaskStatus status, Task.Priority priority) {
+        return TaskResponse.builder().id(1L).status(status).priority(priority).build();
+    }
+
+    @Test
+    void getSummary_FirstCall_LoadsCountsFromDatabase() {
+        // Arrange
+        when(taskRepository.countByStatusAndPriority()).thenReturn(List.of(
+                new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.HIGH, 4),
+                new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.LOW, 2),
+                new TaskCount(Task.TaskStatus.COMPLETED, Task.Priority.HIGH, 5)));
+
+        // Act
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+        taskCountersService.getSummary();
+
+        // Assert
+        assertThat(summary.getTotal()).isEqualTo(11);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.UNASSIGNED, 6L)
+                .containsEntry(Task.TaskStatus.COMPLETED, 5L)
+                .containsEntry(Task.TaskStatus.ASSIGNED, 0L)
+                .hasSize(Task.TaskStatus.values().length);
+        assertThat(summary.getByPriority()).containsEntry(Task.Priority.HIGH, 9L)
+                .containsEntry(Task.Priority.MEDIUM, 0L)
+                .containsEntry(Task.Priority.LOW, 2L);
+        assertThat(summary.getReconciledAt()).isNotNull();
+        verify(taskRepository, times(1)).countByStatusAndPriority();
+    }
+
+    @Test
+    void onTaskChanged_MovesCountBetweenStatusesAndPriorities() {
+        // Arrange
+        when(taskRepository.countByStatusAndPriority()).thenReturn(List.of());
+        taskCountersService.reconcile();
+
+        // Act
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED,
+                task(Task.TaskStatus.UNASSIGNED, Task.Priority.LOW)));
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED,
+                task(Task.TaskStatus.UNASSIGNED, Task.Priority.HIGH), Task.TaskStatus.UNASSIGNED, Task.Priority.LOW));
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED,
+                task(Task.TaskStatus.ASSIGNED, Task.Priority.HIGH), Task.TaskStatus.UNASSIGNED, Task.Priority.HIGH));
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED,
+                task(Task.TaskStatus.ASSIGNED, Task.Priority.HIGH), Task.TaskStatus.ASSIGNED, Task.Priority.HIGH));
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+
+        // Assert
+        assertThat(summary.getTotal()).isEqualTo(1);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.ASSIGNED, 1L)
+                .containsEntry(Task.TaskStatus.UNASSIGNED, 0L);
+        assertThat(summary.getByPriority()).containsEntry(Task.Priority.HIGH, 1L)
+                .containsEntry(Task.Priority.LOW, 0L);
+    }
+
+    @Test
+    void reconcile_CorrectsDriftFromDatabase() {
+        // Arrange
+        when(taskRepository.countByStatusAndPriority()).thenReturn(
+                List.of(new TaskCount(Task.TaskStatus.IN_PROGRESS, Task.Priority.MEDIUM, 3)),
+                List.of(new TaskCount(Task.TaskStatus.IN_PROGRESS, Task.Priority.MEDIUM, 1)));
+        taskCountersService.reconcile();
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED,
+                task(Task.TaskStatus.UNASSIGNED, Task.Priority.MEDIUM)));
+
+        // Act
+        taskCountersService.reconcile();
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+
+        // Assert
+        assertThat(summary.getTotal()).isEqualTo(1);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(Task.TaskStatus.UNASSIGNED, 0L);
+    }
+
+    @Test
+    void onTaskChanged_ChangeAlreadyInReconciledSnapshot_IsCountedOnce() {
+        // Arrange: task 1 was created and started before the snapshot, but the start reaches its listener after it
+        when(taskRepository.countByStatusAndPriority()).thenReturn(
+                List.of(new TaskCount(Task.TaskStatus.IN_PROGRESS, Task.Priority.HIGH, 1)));
+        when(taskRepository.findVersionsUpdatedSince(any())).thenReturn(List.of(new TaskVersion(1L, 2L)));
+        taskCountersService.reconcile();
+        TaskResponse started = task(Task.TaskStatus.IN_PROGRESS, Task.Priority.HIGH);
+        started.setVersion(2L);
+        TaskResponse completed = task(Task.TaskStatus.COMPLETED, Task.Priority.HIGH);
+        completed.setVersion(3L);
+
+        // Act
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.STARTED,
+                started, Task.TaskStatus.ASSIGNED, Task.Priority.HIGH));
+        taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.COMPLETED,
+                completed, Task.TaskStatus.IN_PROGRESS, Task.Priority.HIGH));
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+
+        // Assert
+        assertThat(summary.getTotal()).isEqualTo(1);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.COMPLETED, 1L)
+                .containsEntry(Task.TaskStatus.IN_PROGRESS, 0L)
+                .containsEntry(Task.TaskStatus.ASSIGNED, 0L);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void reconcile_ChangesDuringQueries_DoNotWaitAndAreAppliedAfterSwap() {
+        // Arrange: while the snapshot is read, task 1 (in the snapshot) and task 2 (committed after it) change
+        TaskResponse inSnapshot = task(Task.TaskStatus.ASSIGNED, Task.Priority.LOW);
+        inSnapshot.setVersion(4L);
+        TaskResponse afterSnapshot = TaskResponse.builder().id(2L)
+                .status(Task.TaskStatus.ASSIGNED).priority(Task.Priority.LOW).version(1L).build();
+        List<Boolean> finishedWhileQuerying = new ArrayList<>();
+        when(taskRepository.countByStatusAndPriority()).thenAnswer(invocation -> {
+            Thread committer = new Thread(() -> {
+                taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED,
+                        inSnapshot, Task.TaskStatus.UNASSIGNED, Task.Priority.LOW));
+                taskCountersService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED,
+                        afterSnapshot, Task.TaskStatus.UNASSIGNED, Task.Priority.LOW));
+            });
+            committer.start();
+            committer.join(5000);
+            finishedWhileQuerying.add(!committer.isAlive());
+            return List.of(new TaskCount(Task.TaskStatus.ASSIGNED, Task.Priority.LOW, 1),
+                    new TaskCount(Task.TaskStatus.UNASSIGNED, Task.Priority.LOW, 1));
+        });
+        when(taskRepository.findVersionsUpdatedSince(any())).thenReturn(List.of(new TaskVersion(1L, 4L)));
+
+        // Act
+        taskCountersService.reconcile();
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+
+        // Assert
+        assertThat(finishedWhileQuerying).containsExactly(true);
+        assertThat(summary.getTotal()).isEqualTo(2);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.ASSIGNED, 2L)
+                .containsEntry(Task.TaskStatus.UNASSIGNED, 0L);
+    }
+
+    @Test
+    void onTaskChanged_ConcurrentTransitions_KeepsTotalsConsistent() throws InterruptedException {
+        // Arrange
+        when(taskRepository.countByStatusAndPriority()).thenReturn(
+                List.of(new TaskCount(Task.TaskStatus.ASSIGNED, Task.Priority.HIGH, 1000)));
+        taskCountersService.reconcile();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> taskCountersService.onTaskChanged(new TaskChangedEvent(
+                    TaskChangedEvent.Type.STARTED, task(Task.TaskStatus.IN_PROGRESS, Task.Priority.HIGH),
+                    Task.TaskStatus.ASSIGNED, Task.Priority.HIGH)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        TaskSummaryResponse summary = taskCountersService.getSummary();
+
+        // Assert
+        assertThat(summary.getTotal()).isEqualTo(1000);
+        assertThat(summary.getByStatus()).containsEntry(Task.TaskStatus.ASSIGNED, 0L)
+                .containsEntry(Task.TaskStatus.IN_PROGRESS, 1000L);
+    }
+}
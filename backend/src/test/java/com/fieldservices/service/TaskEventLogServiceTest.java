@@ -0,0 +1,157 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskBoardEntry;
+import com.fieldservices.dto.TaskBoardResponse;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskEvent;
+import com.fieldservices.model.TaskSnapshot;
+import com.fieldservices.repository.TaskEventRepository;
+import com.fieldservices.repository.TaskSnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventLogServiceTest {
+
+    @Mock
+    private TaskEventRepository taskEventRepository;
+
+    @Mock
+    private TaskSnapshotRepository taskSnapshotRepository;
+
+    @InjectMocks
+    private TaskEventLogService taskEventLogService;
+
+    private final LocalDateTime snapshotAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private TaskEvent event(long taskId, Task.TaskStatus status, Long technicianId, LocalDateTime occurredAt) {
+        return new TaskEvent(null, taskId, TaskChangedEvent.Type.UPDATED, status, Task.Priority.MEDIUM,
+                technicianId, "dispatcher1", occurredAt);
+    }
+
+    private TaskSnapshot snapshot(long taskId, Task.TaskStatus status, Long technicianId) {
+        return new TaskSnapshot(null, snapshotAt, taskId, status, Task.Priority.MEDIUM, technicianId);
+    }
+
+    @Test
+    void onTaskChanged_RecordsStateAfterChangeWithActor() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("dispatcher1", null, List.of()));
+        TaskResponse task = TaskResponse.builder()
+                .id(7L)
+                .status(Task.TaskStatus.ASSIGNED)
+                .priority(Task.Priority.HIGH)
+                .assignedTechnicianId(5L)
+                .build();
+
+        // Act
+        taskEventLogService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED, task,
+                Task.TaskStatus.UNASSIGNED, Task.Priority.HIGH));
+
+        // Assert
+        ArgumentCaptor<TaskEvent> saved = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(taskEventRepository).save(saved.capture());
+        assertThat(saved.getValue().getTaskId()).isEqualTo(7L);
+        assertThat(saved.getValue().getType()).isEqualTo(TaskChangedEvent.Type.ASSIGNED);
+        assertThat(saved.getValue().getStatus()).isEqualTo(Task.TaskStatus.ASSIGNED);
+        assertThat(saved.getValue().getPriority()).isEqualTo(Task.Priority.HIGH);
+        assertThat(saved.getValue().getAssignedTechnicianId()).isEqualTo(5L);
+        assertThat(saved.getValue().getActor()).isEqualTo("dispatcher1");
+        assertThat(saved.getValue().getOccurredAt()).isNotNull();
+    }
+
+    @Test
+    void takeSnapshot_RecordsOpenStatuses() {
+        // Arrange
+        when(taskSnapshotRepository.recordSnapshot(any(LocalDateTime.class), anyList())).thenReturn(3);
+
+        // Act
+        int recorded = taskEventLogService.takeSnapshot();
+
+        // Assert
+        assertThat(recorded).isEqualTo(3);
+        verify(taskSnapshotRepository).recordSnapshot(any(LocalDateTime.class),
+                eq(List.of("UNASSIGNED", "ASSIGNED", "IN_PROGRESS")));
+    }
+
+    @Test
+    void getBoardAt_AppliesEventsAfterSnapshot() {
+        // Arrange
+        LocalDateTime at = snapshotAt.plusMinutes(30);
+        when(taskSnapshotRepository.findLatestTakenAt(at)).thenReturn(Optional.of(snapshotAt));
+        when(taskSnapshotRepository.findByTakenAt(snapshotAt)).thenReturn(List.of(
+                snapshot(1L, Task.TaskStatus.UNASSIGNED, null),
+                snapshot(2L, Task.TaskStatus.IN_PROGRESS, 5L),
+                snapshot(3L, Task.TaskStatus.ASSIGNED, 6L)));
+        when(taskEventRepository.findBetween(snapshotAt.minus(TaskEventLogService.SNAPSHOT_OVERLAP), at))
+                .thenReturn(List.of(
+                        event(1L, Task.TaskStatus.ASSIGNED, 5L, snapshotAt.plusMinutes(5)),
+                        event(2L, Task.TaskStatus.COMPLETED, 5L, snapshotAt.plusMinutes(10)),
+                        event(4L, Task.TaskStatus.UNASSIGNED, null, snapshotAt.plusMinutes(15))));
+
+        // Act
+        TaskBoardResponse board = taskEventLogService.getBoardAt(at);
+
+        // Assert
+        assertThat(board.getAt()).isEqualTo(at);
+        assertThat(board.getSnapshotAt()).isEqualTo(snapshotAt);
+        assertThat(board.getEventsApplied()).isEqualTo(3);
+        assertThat(board.getTasks()).containsExactly(
+                new TaskBoardEntry(1L, Task.TaskStatus.ASSIGNED, Task.Priority.MEDIUM, 5L),
+                new TaskBoardEntry(3L, Task.TaskStatus.ASSIGNED, Task.Priority.MEDIUM, 6L),
+                new TaskBoardEntry(4L, Task.TaskStatus.UNASSIGNED, Task.Priority.MEDIUM, null));
+    }
+
+    @Test
+    void getBoardAt_WithoutSnapshot_ReplaysFromStartOfLog() {
+        // Arrange
+        LocalDateTime at = snapshotAt.minusDays(1);
+        when(taskSnapshotRepository.findLatestTakenAt(at)).thenReturn(Optional.empty());
+        when(taskEventRepository.findBetween(TaskEventLogService.LOG_EPOCH, at)).thenReturn(List.of(
+                event(1L, Task.TaskStatus.UNASSIGNED, null, at.minusHours(2)),
+                event(1L, Task.TaskStatus.ASSIGNED, 5L, at.minusHours(1))));
+
+        // Act
+        TaskBoardResponse board = taskEventLogService.getBoardAt(at);
+
+        // Assert
+        assertThat(board.getSnapshotAt()).isNull();
+        assertThat(board.getTasks()).containsExactly(
+                new TaskBoardEntry(1L, Task.TaskStatus.ASSIGNED, Task.Priority.MEDIUM, 5L));
+        verify(taskSnapshotRepository, never()).findByTakenAt(any());
+    }
+
+    @Test
+    void getBoardAt_FutureTime_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskEventLogService.getBoardAt(LocalDateTime.now().plusHours(1)));
+        verifyNoInteractions(taskSnapshotRepository, taskEventRepository);
+    }
+}
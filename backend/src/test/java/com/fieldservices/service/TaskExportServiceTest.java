@@ -0,0 +1,120 @@
+package com.fieldservices.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ObjectMapper objectMapper;
+
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        taskExportService = new TaskExportService(taskRepository, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(taskExportService, "entityManager", entityManager);
+    }
+
+    private Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description " + id);
+        task.setClientAddress(id + " Main St");
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setEstimatedDuration(30);
+        task.setStatus(Task.TaskStatus.UNASSIGNED);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        return task;
+    }
+
+    @Test
+    void exportTasks_WritesOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(task(1), task(2)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = taskExportService.exportTasks(out);
+
+        // Assert
+        assertThat(exported).isEqualTo(2);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Task 2");
+        verify(transactionManager).commit(any());
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportTasks_ClearsPersistenceContextEveryInterval() {
+        // Arrange
+        int total = TaskExportService.CLEAR_INTERVAL * 2 + 1;
+        when(taskRepository.streamAllForExport())
+                .thenReturn(LongStream.rangeClosed(1, total).mapToObj(this::task));
+
+        // Act
+        long exported = taskExportService.exportTasks(new ByteArrayOutputStream());
+
+        // Assert
+        assertThat(exported).isEqualTo(total);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportTasks_ClientDisconnects_ClosesStreamAndRollsBack() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamAllForExport())
+                .thenReturn(Stream.of(task(1)).onClose(() -> closed.set(true)));
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskExportService.exportTasks(failing))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(closed).isTrue();
+        verify(transactionManager).rollback(any());
+    }
+}
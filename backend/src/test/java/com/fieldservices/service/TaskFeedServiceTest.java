@@ -0,0 +1,147 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskChangesResponse;
+import com.fieldservices.dto.TaskDelta;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskFeedServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private TaskFeedService taskFeedService;
+
+    private TaskResponse task(long id, Task.TaskStatus status) {
+        return TaskResponse.builder()
+                .id(id)
+                .title("Task " + id)
+                .priority(Task.Priority.HIGH)
+                .status(status)
+                .version(3L)
+                .build();
+    }
+
+    private void publish(TaskChangedEvent.Type type, TaskResponse task) {
+        taskFeedService.onTaskChanged(new TaskChangedEvent(type, task));
+    }
+
+    @Test
+    void onTaskChanged_BroadcastsCompactDelta() {
+        // Arrange
+        long start = taskFeedService.getChangesSince(null).getLastSequence();
+        TaskResponse started = task(5L, Task.TaskStatus.IN_PROGRESS);
+        started.setAssignedTechnicianId(9L);
+        started.setDescription("Not part of the delta");
+
+        // Act
+        publish(TaskChangedEvent.Type.STARTED, started);
+
+        // Assert
+        ArgumentCaptor<TaskDelta> delta = ArgumentCaptor.forClass(TaskDelta.class);
+        verify(messagingTemplate).convertAndSend(eq(TaskFeedService.TOPIC), delta.capture());
+        assertThat(delta.getValue().getSequence()).isEqualTo(start + 1);
+        assertThat(delta.getValue().getType()).isEqualTo(TaskChangedEvent.Type.STARTED);
+        assertThat(delta.getValue().getTaskId()).isEqualTo(5L);
+        assertThat(delta.getValue().getStatus()).isEqualTo(Task.TaskStatus.IN_PROGRESS);
+        assertThat(delta.getValue().getAssignedTechnicianId()).isEqualTo(9L);
+        assertThat(delta.getValue().getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void getChangesSince_ReplaysChangesAfterSequence() {
+        // Arrange
+        long start = taskFeedService.getChangesSince(null).getLastSequence();
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.TaskStatus.UNASSIGNED));
+        publish(TaskChangedEvent.Type.ASSIGNED, task(1L, Task.TaskStatus.ASSIGNED));
+        publish(TaskChangedEvent.Type.COMPLETED, task(2L, Task.TaskStatus.COMPLETED));
+
+        // Act
+        TaskChangesResponse response = taskFeedService.getChangesSince(start + 1);
+
+        // Assert
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.getLastSequence()).isEqualTo(start + 3);
+        assertThat(response.getChanges()).extracting(TaskDelta::getType)
+                .containsExactly(TaskChangedEvent.Type.ASSIGNED, TaskChangedEvent.Type.COMPLETED);
+    }
+
+    @Test
+    void getChangesSince_UpToDate_ReturnsNoChanges() {
+        // Arrange
+        publish(TaskChangedEvent.Type.CREATED, task(1L, Task.TaskStatus.UNASSIGNED));
+        long current = taskFeedService.getChangesSince(null).getLastSequence();
+
+        // Act
+        TaskChangesResponse response = taskFeedService.getChangesSince(current);
+
+        // Assert
+        assertThat(response.isComplete()).isTrue();
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getLastSequence()).isEqualTo(current);
+    }
+
+    @Test
+    void getChangesSince_EvictedSequence_RequiresReload() {
+        // Arrange
+        long start = taskFeedService.getChangesSince(null).getLastSequence();
+        for (int i = 0; i < TaskFeedService.REPLAY_CAPACITY + 1; i++) {
+            publish(TaskChangedEvent.Type.UPDATED, task(i, Task.TaskStatus.UNASSIGNED));
+        }
+
+        // Act
+        TaskChangesResponse response = taskFeedService.getChangesSince(start);
+
+        // Assert
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getLastSequence()).isEqualTo(start + TaskFeedService.REPLAY_CAPACITY + 1);
+    }
+
+    @Test
+    void getChangesSince_SequenceFromBeforeRestart_RequiresReload() {
+        // Arrange
+        long start = taskFeedService.getChangesSince(null).getLastSequence();
+
+        // Act
+        TaskChangesResponse response = taskFeedService.getChangesSince(start - 500);
+
+        // Assert
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getLastSequence()).isEqualTo(start);
+    }
+
+    @Test
+    void onTaskChanged_BroadcastFails_ChangeStillReplayable() {
+        // Arrange
+        long start = taskFeedService.getChangesSince(null).getLastSequence();
+        doThrow(new MessagingException("broker unavailable"))
+                .when(messagingTemplate).convertAndSend(eq(TaskFeedService.TOPIC), any(Object.class));
+
+        // Act
+        publish(TaskChangedEvent.Type.UPDATED, task(1L, Task.TaskStatus.UNASSIGNED));
+
+        // Assert
+        List<TaskDelta> changes = taskFeedService.getChangesSince(start).getChanges();
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getTaskId()).isEqualTo(1L);
+    }
+}
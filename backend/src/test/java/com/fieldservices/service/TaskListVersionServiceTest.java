@@ -0,0 +1,29 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListVersionServiceTest {
+
+    private final TaskListVersionService taskListVersionService = new TaskListVersionService();
+
+    @Test
+    void current_AdvancesOnTaskChangesAndBumps() {
+        // Arrange
+        long initial = taskListVersionService.current();
+
+        // Act
+        taskListVersionService.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.CREATED,
+                TaskResponse.builder().id(1L).build()));
+        long afterChange = taskListVersionService.current();
+        taskListVersionService.bump();
+
+        // Assert
+        assertThat(initial).isGreaterThan(0);
+        assertThat(afterChange).isEqualTo(initial + 1);
+        assertThat(taskListVersionService.current()).isEqualTo(initial + 2);
+    }
+}
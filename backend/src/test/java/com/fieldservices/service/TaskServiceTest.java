@@ -1,24 +1,51 @@
 package com.fieldservices.service;
 
+import com.fieldservices.dto.BulkTaskResponse;
+import com.fieldservices.dto.TaskCursor;
+import com.fieldservices.dto.TaskField;
+import com.fieldservices.dto.TaskFieldsPageResponse;
+import com.fieldservices.dto.TaskFilter;
+import com.fieldservices.dto.TaskPageResponse;
 import com.fieldservices.dto.TaskRequest;
 import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSearchResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.ArchivedTask;
 import com.fieldservices.model.Task;
+import com.fieldservices.repository.ArchivedTaskRepository;
 import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.util.ETags;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +54,24 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private TaskListVersionService taskListVersionService;
+
+    @Mock
+    private DispatchBacklogService dispatchBacklogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -35,6 +80,8 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(taskService, "entityManager", entityManager);
+
         testTask = new Task();
         testTask.setId(1L);
         testTask.setTitle("Test Task");
@@ -70,6 +117,98 @@ class TaskServiceTest {
         assertEquals(testTask.getPriority(), response.getPriority());
         assertEquals(Task.TaskStatus.UNASSIGNED, response.getStatus());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.getType() == TaskChangedEvent.Type.CREATED && event.getTask() == response));
+    }
+
+    @Test
+    void createTask_StoresNormalizedAddress() {
+        // Arrange
+        testRequest.setClientAddress("  123 Main Street,  City ");
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // Act
+        TaskResponse response = taskService.createTask(testRequest);
+
+        // Assert
+        verify(taskRepository).findIdsByNormalizedAddress("123 main st city", TaskService.OPEN_STATUSES);
+        verify(taskRepository).save(argThat(task -> "123 main st city".equals(task.getNormalizedAddress())));
+        assertTrue(response.getPossibleDuplicateIds().isEmpty());
+    }
+
+    @Test
+    void createTask_OpenTasksAtSameAddress_FlagsPossibleDuplicates() {
+        // Arrange
+        testRequest.setClientAddress("123 MAIN ST. - City");
+        when(taskRepository.findIdsByNormalizedAddress("123 main st city", TaskService.OPEN_STATUSES))
+                .thenReturn(List.of(4L, 9L));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // Act
+        TaskResponse response = taskService.createTask(testRequest);
+
+        // Assert
+        assertEquals(List.of(4L, 9L), response.getPossibleDuplicateIds());
+        verify(taskRepository, times(1)).save(any(Task.class));
+    }
+
+    @Test
+    void createTasks_AllValid_SavesInBatchesAndPublishesEvents() {
+        // Arrange
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(ids.incrementAndGet());
+            return task;
+        });
+        List<TaskRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TaskService.BULK_BATCH_SIZE + 10; i++) {
+            requests.add(testRequest);
+        }
+
+        // Act
+        BulkTaskResponse response = taskService.createTasks(requests);
+
+        // Assert
+        assertEquals(requests.size(), response.getCreated());
+        assertEquals(requests.size(), response.getIds().size());
+        assertEquals(1L, response.getIds().get(0));
+        assertTrue(response.getErrors().isEmpty());
+        verify(taskRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(requests.size())).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTasks_InvalidItems_ReportsErrorsAndCreatesNothing() {
+        // Arrange
+        TaskRequest missingTitle = new TaskRequest(null, null, "9 Elm St", null, null, Task.Priority.LOW, 30);
+        TaskRequest badAddress = new TaskRequest("No number", null, "Elm Street", null, null, Task.Priority.LOW, 30);
+        ConstraintViolation<TaskRequest> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Title is required");
+        when(validator.validate(any(TaskRequest.class))).thenAnswer(invocation ->
+                invocation.getArgument(0) == missingTitle ? Set.of(violation) : Set.of());
+
+        // Act
+        BulkTaskResponse response = taskService.createTasks(List.of(testRequest, missingTitle, badAddress));
+
+        // Assert
+        assertEquals(0, response.getCreated());
+        assertEquals(2, response.getErrors().size());
+        assertEquals(1, response.getErrors().get(0).getIndex());
+        assertEquals(List.of("Title is required"), response.getErrors().get(0).getMessages());
+        assertEquals(2, response.getErrors().get(1).getIndex());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createTasks_EmptyOrTooLarge_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(
+                Collections.nCopies(TaskService.MAX_BULK_SIZE + 1, testRequest)));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -103,7 +242,7 @@ class TaskServiceTest {
     }
 
     @Test
-    void getAllTasks_ReturnsList() {
+    void getTasks_ReturnsFirstPageWithNextCursor() {
         // Arrange
         Task task2 = new Task();
         task2.setId(2L);
@@ -111,24 +250,161 @@ class TaskServiceTest {
         task2.setClientAddress("456 Oak Ave, Town");
         task2.setPriority(Task.Priority.MEDIUM);
         task2.setStatus(Task.TaskStatus.UNASSIGNED);
-        task2.setCreatedAt(LocalDateTime.now());
+        task2.setCreatedAt(LocalDateTime.of(2025, 11, 18, 10, 0));
         task2.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(testTask, task2));
+        Task task3 = new Task();
+        task3.setId(3L);
+        task3.setCreatedAt(LocalDateTime.of(2025, 11, 18, 9, 0));
+
+        TaskFilter filter = TaskFilter.builder().status(Task.TaskStatus.UNASSIGNED).build();
+        when(taskRepository.findPage(filter, null, 3)).thenReturn(Arrays.asList(testTask, task2, task3));
 
         // Act
-        List<TaskResponse> tasks = taskService.getAllTasks();
+        TaskPageResponse page = taskService.getTasks(filter, null, 2);
 
         // Assert
-        assertNotNull(tasks);
-        assertEquals(2, tasks.size());
-        verify(taskRepository, times(1)).findAll();
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(2L, cursor.getId());
+        assertEquals(task2.getCreatedAt(), cursor.getCreatedAt());
+    }
+
+    @Test
+    void getTasks_LastPageHasNoCursor() {
+        // Arrange
+        TaskCursor after = new TaskCursor(LocalDateTime.of(2025, 11, 18, 10, 0), 2L);
+        when(taskRepository.findPage(null, after, TaskService.DEFAULT_PAGE_SIZE + 1)).thenReturn(List.of(testTask));
+
+        // Act
+        TaskPageResponse page = taskService.getTasks(null, after.encode(), null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getTasks_InvalidLimit_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasks(null, null, TaskService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasks_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, "not-a-cursor", 10));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private ArchivedTask archivedTask(long id, LocalDateTime createdAt) {
+        ArchivedTask archived = new ArchivedTask();
+        archived.setId(id);
+        archived.setTitle("Archived " + id);
+        archived.setPriority(Task.Priority.LOW);
+        archived.setStatus(Task.TaskStatus.COMPLETED);
+        archived.setCreatedAt(createdAt);
+        return archived;
+    }
+
+    @Test
+    void getTaskHistory_MergesActiveAndArchivedNewestFirst() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2025, 11, 18, 10, 0);
+        Task newest = new Task();
+        newest.setId(10L);
+        newest.setCreatedAt(base);
+        Task oldest = new Task();
+        oldest.setId(4L);
+        oldest.setCreatedAt(base.minusDays(3));
+        when(taskRepository.findPage(null, null, 3)).thenReturn(List.of(newest, oldest));
+        when(archivedTaskRepository.findPage(null, null, 3))
+                .thenReturn(List.of(archivedTask(7L, base.minusDays(1)), archivedTask(5L, base.minusDays(2))));
+
+        // Act
+        TaskPageResponse page = taskService.getTaskHistory(null, null, 2);
+
+        // Assert
+        assertEquals(List.of(10L, 7L), page.getItems().stream().map(TaskResponse::getId).toList());
+        assertEquals(Task.TaskStatus.COMPLETED, page.getItems().get(1).getStatus());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(7L, cursor.getId());
+        assertEquals(base.minusDays(1), cursor.getCreatedAt());
+    }
+
+    @Test
+    void getTaskByIdIncludingArchive_ArchivedTask_ReturnsArchivedTask() {
+        // Arrange
+        when(taskRepository.findWithAssigneesById(5L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findWithAssigneesById(5L))
+                .thenReturn(Optional.of(archivedTask(5L, LocalDateTime.now())));
+
+        // Act
+        TaskResponse response = taskService.getTaskByIdIncludingArchive(5L);
+
+        // Assert
+        assertEquals(5L, response.getId());
+        assertEquals(Task.TaskStatus.COMPLETED, response.getStatus());
+    }
+
+    @Test
+    void getTaskByIdIncludingArchive_UnknownTask_ThrowsException() {
+        // Arrange
+        when(taskRepository.findWithAssigneesById(999L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findWithAssigneesById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> taskService.getTaskByIdIncludingArchive(999L));
+    }
+
+    private Tuple tuple(Map<String, Object> values) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(tuple.get(anyString(), any())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        return tuple;
+    }
+
+    @Test
+    void getTaskFields_ReturnsOnlyRequestedFieldsWithCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 11, 18, 10, 0);
+        Set<TaskField> fields = EnumSet.of(TaskField.TITLE, TaskField.STATUS);
+        List<Tuple> rows = List.of(
+                tuple(Map.of("id", 3L, "createdAt", createdAt, "updatedAt", createdAt,
+                        "title", "Third", "status", Task.TaskStatus.UNASSIGNED)),
+                tuple(Map.of("id", 2L, "createdAt", createdAt.minusHours(1), "updatedAt", createdAt,
+                        "title", "Second", "status", Task.TaskStatus.ASSIGNED)),
+                mock(Tuple.class));
+        when(taskRepository.findPageFields(null, null, 3, fields)).thenReturn(rows);
+
+        // Act
+        TaskFieldsPageResponse page = taskService.getTaskFields(null, null, 2, fields);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(List.of("title", "status"), List.copyOf(page.getItems().get(0).getFields().keySet()));
+        assertEquals("Second", page.getItems().get(1).getFields().get("title"));
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(2L, cursor.getId());
+        assertEquals(createdAt.minusHours(1), cursor.getCreatedAt());
+    }
+
+    @Test
+    void getTaskFieldsById_NonExistingId_ThrowsException() {
+        // Arrange
+        when(taskRepository.findFieldsByIdIn(List.of(999L), EnumSet.of(TaskField.TITLE))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> taskService.getTaskFieldsById(999L, EnumSet.of(TaskField.TITLE)));
     }
 
     @Test
     void getTaskById_ExistingId_ReturnsTask() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findWithAssigneesById(1L)).thenReturn(Optional.of(testTask));
 
         // Act
         TaskResponse response = taskService.getTaskById(1L);
@@ -137,17 +413,84 @@ class TaskServiceTest {
         assertNotNull(response);
         assertEquals(testTask.getId(), response.getId());
         assertEquals(testTask.getTitle(), response.getTitle());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).findWithAssigneesById(1L);
     }
 
     @Test
     void getTaskById_NonExistingId_ThrowsException() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithAssigneesById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> taskService.getTaskById(999L));
-        verify(taskRepository, times(1)).findById(999L);
+        verify(taskRepository, times(1)).findWithAssigneesById(999L);
+    }
+
+    @Test
+    void searchTasks_KeepsRankOrderAndDetectsMorePages() {
+        // Arrange
+        Task second = new Task();
+        second.setId(2L);
+        second.setTitle("Second");
+        second.setPriority(Task.Priority.LOW);
+        second.setStatus(Task.TaskStatus.UNASSIGNED);
+        when(taskRepository.searchIds("oak street", 2, 3)).thenReturn(List.of(2L, 1L, 5L));
+        when(taskRepository.findWithAssigneesByIdIn(List.of(2L, 1L))).thenReturn(List.of(testTask, second));
+
+        // Act
+        TaskSearchResponse response = taskService.searchTasks(" oak street ", 1, 2);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), response.getItems().stream().map(TaskResponse::getId).toList());
+        assertTrue(response.isHasMore());
+        assertEquals(1, response.getPage());
+        assertEquals(2, response.getSize());
+    }
+
+    @Test
+    void searchTasks_InvalidArguments_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(" ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("oak", -1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.searchTasks("oak", 0, TaskService.MAX_SEARCH_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.searchTasks("oak", Integer.MAX_VALUE / 2, TaskService.MAX_SEARCH_PAGE_SIZE));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskETag_UsesUpdatedAtOnly() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        when(taskRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+        // Act
+        Optional<String> etag = taskService.getTaskETag(1L);
+
+        // Assert
+        assertEquals(Optional.of(ETags.forResource(1L, updatedAt)), etag);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void getTaskListETag_ChangesWithVersionAndQuery() {
+        // Arrange
+        when(taskListVersionService.current()).thenReturn(7L, 7L, 7L, 7L, 7L, 8L);
+
+        // Act
+        String first = taskService.getTaskListETag(Task.TaskStatus.UNASSIGNED, 10);
+        String same = taskService.getTaskListETag(Task.TaskStatus.UNASSIGNED, 10);
+        String otherQuery = taskService.getTaskListETag(Task.TaskStatus.ASSIGNED, 10);
+        String shiftedValues = taskService.getTaskListETag("a,b", null);
+        String splitValues = taskService.getTaskListETag("a", "b");
+        String afterChange = taskService.getTaskListETag(Task.TaskStatus.UNASSIGNED, 10);
+
+        // Assert
+        assertEquals(first, same);
+        assertNotEquals(first, otherQuery);
+        assertNotEquals(shiftedValues, splitValues);
+        assertNotEquals(first, afterChange);
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -171,25 +514,87 @@ class TaskServiceTest {
         lowPriorityTask.setCreatedAt(LocalDateTime.now());
         lowPriorityTask.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findUnassignedTasksSortedByPriority())
+        when(taskRepository.findUnassignedTasksSortedByPriority(Pageable.unpaged()))
                 .thenReturn(Arrays.asList(highPriorityTask, lowPriorityTask));
 
         // Act
-        List<TaskResponse> tasks = taskService.getUnassignedTasks();
+        List<TaskResponse> tasks = taskService.getUnassignedTasks(null);
 
         // Assert
         assertNotNull(tasks);
         assertEquals(2, tasks.size());
         assertEquals(Task.Priority.HIGH, tasks.get(0).getPriority());
         assertEquals(Task.Priority.LOW, tasks.get(1).getPriority());
-        verify(taskRepository, times(1)).findUnassignedTasksSortedByPriority();
+        verify(taskRepository, times(1)).findUnassignedTasksSortedByPriority(Pageable.unpaged());
+    }
+
+    @Test
+    void getUnassignedTasks_WithLimit_RequestsFirstPage() {
+        // Arrange
+        when(taskRepository.findUnassignedTasksSortedByPriority(PageRequest.of(0, 10)))
+                .thenReturn(List.of(testTask));
+
+        // Act
+        List<TaskResponse> tasks = taskService.getUnassignedTasks(10);
+
+        // Assert
+        assertEquals(1, tasks.size());
+        verify(taskRepository).findUnassignedTasksSortedByPriority(PageRequest.of(0, 10));
+    }
+
+    @Test
+    void getUnassignedTasks_BacklogReady_ServedFromBacklog() {
+        // Arrange
+        TaskResponse queued = TaskResponse.fromEntity(testTask);
+        when(dispatchBacklogService.isReady()).thenReturn(true);
+        when(dispatchBacklogService.top(5)).thenReturn(List.of(queued));
+
+        // Act
+        List<TaskResponse> tasks = taskService.getUnassignedTasks(5);
+
+        // Assert
+        assertEquals(List.of(queued), tasks);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getNextUnassignedTask_BacklogReady_ReturnsHead() {
+        // Arrange
+        TaskResponse queued = TaskResponse.fromEntity(testTask);
+        when(dispatchBacklogService.isReady()).thenReturn(true);
+        when(dispatchBacklogService.next()).thenReturn(Optional.of(queued));
+
+        // Act & Assert
+        assertEquals(Optional.of(queued), taskService.getNextUnassignedTask());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getNextUnassignedTask_BacklogNotReady_QueriesFirstTask() {
+        // Arrange
+        when(taskRepository.findUnassignedTasksSortedByPriority(PageRequest.of(0, 1))).thenReturn(List.of(testTask));
+
+        // Act
+        Optional<TaskResponse> next = taskService.getNextUnassignedTask();
+
+        // Assert
+        assertTrue(next.isPresent());
+        assertEquals(testTask.getId(), next.get().getId());
+    }
+
+    @Test
+    void getUnassignedTasks_LimitOutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getUnassignedTasks(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getUnassignedTasks(TaskService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void updateTask_ValidRequest_ReturnsUpdatedTask() {
         // Arrange
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         TaskRequest updateRequest = new TaskRequest();
         updateRequest.setTitle("Updated Task");
@@ -204,7 +609,7 @@ class TaskServiceTest {
         // Assert
         assertNotNull(response);
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -215,7 +620,22 @@ class TaskServiceTest {
         // Act & Assert
         assertThrows(EntityNotFoundException.class, () -> taskService.updateTask(999L, testRequest));
         verify(taskRepository, times(1)).findById(999L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void updateTask_AddressChanged_UpdatesNormalizedAddress() {
+        // Arrange
+        TaskRequest updateRequest = new TaskRequest();
+        updateRequest.setClientAddress("789 Pine Road, Village");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        taskService.updateTask(1L, updateRequest);
+
+        // Assert
+        assertEquals("789 pine rd village", testTask.getNormalizedAddress());
     }
 
     @Test
@@ -229,14 +649,14 @@ class TaskServiceTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> taskService.updateTask(1L, updateRequest));
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
     void updateTask_PartialUpdate_UpdatesOnlyProvidedFields() {
         // Arrange
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         TaskRequest updateRequest = new TaskRequest();
         updateRequest.setTitle("Updated Title Only");
@@ -247,6 +667,6 @@ class TaskServiceTest {
         // Assert
         assertNotNull(response);
         verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).saveAndFlush(any(Task.class));
     }
 }
@@ -0,0 +1,248 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskDelta;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.util.ReplayBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskStatusStreamServiceTest {
+
+    private TaskStatusStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        // Dispatch on the calling thread so sends can be asserted directly
+        streamService = new TaskStatusStreamService(Runnable::run);
+    }
+
+    /**
+     * Emitter that records the payload of every event instead of writing to a response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Object> payloads = new CopyOnWriteArrayList<>();
+        private boolean failing;
+        // When set, every send waits for it, like a client whose TCP window is full
+        private CountDownLatch stalledUntil;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (stalledUntil != null) {
+                try {
+                    stalledUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted", e);
+                }
+            }
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(data -> !(data instanceof String))
+                    .forEach(payloads::add);
+        }
+
+        List<Long> taskIds() {
+            return payloads.stream()
+                    .filter(TaskDelta.class::isInstance)
+                    .map(payload -> ((TaskDelta) payload).getTaskId())
+                    .toList();
+        }
+    }
+
+    private void publish(TaskChangedEvent.Type type, long taskId, Task.TaskStatus status, Long technicianId) {
+        TaskResponse task = TaskResponse.builder()
+                .id(taskId)
+                .title("Task " + taskId)
+                .priority(Task.Priority.MEDIUM)
+                .status(status)
+                .assignedTechnicianId(technicianId)
+                .build();
+        streamService.onTaskChanged(new TaskChangedEvent(type, task));
+    }
+
+    private long lastSequence() {
+        return ((ReplayBuffer<?>) ReflectionTestUtils.getField(streamService, "recentTransitions")).lastSequence();
+    }
+
+    @Test
+    void onTaskChanged_SendsStatusTransitionsToSubscribers() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        streamService.register(emitter, null, null, null);
+
+        // Act
+        publish(TaskChangedEvent.Type.ASSIGNED, 1L, Task.TaskStatus.ASSIGNED, 7L);
+        publish(TaskChangedEvent.Type.UPDATED, 1L, Task.TaskStatus.ASSIGNED, 7L);
+        publish(TaskChangedEvent.Type.STARTED, 1L, Task.TaskStatus.IN_PROGRESS, 7L);
+
+        // Assert
+        assertThat(emitter.taskIds()).containsExactly(1L, 1L);
+        assertThat(emitter.payloads).extracting(payload -> ((TaskDelta) payload).getType())
+                .containsExactly(TaskChangedEvent.Type.ASSIGNED, TaskChangedEvent.Type.STARTED);
+    }
+
+    @Test
+    void onTaskChanged_SendsUnassignmentBackToTheQueue() {
+        // Arrange
+        RecordingEmitter all = new RecordingEmitter();
+        RecordingEmitter unassignedOnly = new RecordingEmitter();
+        streamService.register(all, null, null, null);
+        streamService.register(unassignedOnly, null, Task.TaskStatus.UNASSIGNED, null);
+
+        // Act
+        publish(TaskChangedEvent.Type.ASSIGNED, 1L, Task.TaskStatus.ASSIGNED, 7L);
+        publish(TaskChangedEvent.Type.UNASSIGNED, 1L, Task.TaskStatus.UNASSIGNED, null);
+
+        // Assert
+        assertThat(all.payloads).extracting(payload -> ((TaskDelta) payload).getType())
+                .containsExactly(TaskChangedEvent.Type.ASSIGNED, TaskChangedEvent.Type.UNASSIGNED);
+        assertThat(unassignedOnly.taskIds()).containsExactly(1L);
+    }
+
+    @Test
+    void onTaskChanged_AppliesTechnicianAndStatusFilters() {
+        // Arrange
+        RecordingEmitter byTechnician = new RecordingEmitter();
+        RecordingEmitter completedOnly = new RecordingEmitter();
+        streamService.register(byTechnician, 7L, null, null);
+        streamService.register(completedOnly, null, Task.TaskStatus.COMPLETED, null);
+
+        // Act
+        publish(TaskChangedEvent.Type.ASSIGNED, 1L, Task.TaskStatus.ASSIGNED, 7L);
+        publish(TaskChangedEvent.Type.ASSIGNED, 2L, Task.TaskStatus.ASSIGNED, 8L);
+        publish(TaskChangedEvent.Type.COMPLETED, 3L, Task.TaskStatus.COMPLETED, 8L);
+
+        // Assert
+        assertThat(byTechnician.taskIds()).containsExactly(1L);
+        assertThat(completedOnly.taskIds()).containsExactly(3L);
+    }
+
+    @Test
+    void register_WithLastEventId_ReplaysMissedTransitions() {
+        // Arrange
+        publish(TaskChangedEvent.Type.ASSIGNED, 1L, Task.TaskStatus.ASSIGNED, 7L);
+        long seen = lastSequence();
+        publish(TaskChangedEvent.Type.STARTED, 1L, Task.TaskStatus.IN_PROGRESS, 7L);
+        publish(TaskChangedEvent.Type.ASSIGNED, 2L, Task.TaskStatus.ASSIGNED, 8L);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        streamService.register(emitter, 7L, null, seen);
+        publish(TaskChangedEvent.Type.COMPLETED, 1L, Task.TaskStatus.COMPLETED, 7L);
+
+        // Assert
+        assertThat(emitter.payloads).extracting(payload -> ((TaskDelta) payload).getType())
+                .containsExactly(TaskChangedEvent.Type.STARTED, TaskChangedEvent.Type.COMPLETED);
+    }
+
+    @Test
+    void register_WithEvictedLastEventId_SendsReset() {
+        // Arrange
+        long stale = lastSequence() - 1;
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        streamService.register(emitter, null, null, stale);
+
+        // Assert
+        assertThat(emitter.payloads).containsExactly(lastSequence());
+    }
+
+    @Test
+    void subscribe_InvalidLastEventId_Throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> streamService.subscribe(null, null, "not-a-number"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void send_FailingClient_IsRemoved() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        streamService.register(emitter, null, null, null);
+
+        // Act
+        publish(TaskChangedEvent.Type.COMPLETED, 1L, Task.TaskStatus.COMPLETED, 7L);
+
+        // Assert
+        assertThat(streamService.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void onTaskChanged_StalledClient_DoesNotDelayOtherSubscribers() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newCachedThreadPool();
+        TaskStatusStreamService service = new TaskStatusStreamService(executor);
+        RecordingEmitter stalled = new RecordingEmitter();
+        stalled.stalledUntil = new CountDownLatch(1);
+        RecordingEmitter healthy = new RecordingEmitter();
+        service.register(stalled, null, null, null);
+        service.register(healthy, null, null, null);
+
+        try {
+            // Act
+            for (long taskId = 1; taskId <= 5; taskId++) {
+                TaskResponse task = TaskResponse.builder().id(taskId).priority(Task.Priority.MEDIUM)
+                        .status(Task.TaskStatus.ASSIGNED).assignedTechnicianId(7L).build();
+                service.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED, task));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (healthy.taskIds().size() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // Assert
+            assertThat(healthy.taskIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(stalled.taskIds()).isEmpty();
+        } finally {
+            stalled.stalledUntil.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void onTaskChanged_QueueOverflow_ReplacesBacklogWithReset() {
+        // Arrange: a dispatcher that never gets round to running, so the queue only grows
+        List<Runnable> pending = new ArrayList<>();
+        TaskStatusStreamService service = new TaskStatusStreamService(pending::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(emitter, null, null, null);
+        TaskResponse task = TaskResponse.builder().id(1L).priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.ASSIGNED).assignedTechnicianId(7L).build();
+
+        // Act
+        for (int i = 0; i <= TaskStatusStreamService.QUEUE_CAPACITY; i++) {
+            service.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.ASSIGNED, task));
+        }
+        service.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.STARTED, task));
+        pending.forEach(Runnable::run);
+
+        // Assert: the reset carries the sequence of the last dropped transition, then streaming resumes
+        assertThat(pending).hasSize(1);
+        assertThat(emitter.payloads).hasSize(2);
+        assertThat(emitter.payloads.get(0)).isInstanceOf(Long.class);
+        assertThat(((TaskDelta) emitter.payloads.get(1)).getType()).isEqualTo(TaskChangedEvent.Type.STARTED);
+        assertThat(((TaskDelta) emitter.payloads.get(1)).getSequence())
+                .isEqualTo((Long) emitter.payloads.get(0) + 1);
+    }
+}
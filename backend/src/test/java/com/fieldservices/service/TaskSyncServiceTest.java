@@ -0,0 +1,208 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskSyncCursor;
+import com.fieldservices.dto.TaskSyncResponse;
+import com.fieldservices.model.Task;
+import com.fieldservices.model.TaskTombstone;
+import com.fieldservices.model.User;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.TaskTombstoneRepository;
+import com.fieldservices.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TaskSyncService taskSyncService;
+
+    private User technician;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskSyncService, "tombstoneRetentionDays", 30);
+        technician = new User();
+        technician.setId(5L);
+        technician.setUsername("tech1");
+        technician.setRole(User.Role.TECHNICIAN);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(technician.getUsername(), null));
+        lenient().when(userRepository.findByUsername("tech1")).thenReturn(Optional.of(technician));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Task task(long id, LocalDateTime updatedAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(Task.TaskStatus.ASSIGNED);
+        task.setAssignedTechnician(technician);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    private TaskTombstone tombstone(long id, long taskId, LocalDateTime removedAt) {
+        return new TaskTombstone(id, taskId, technician.getId(), TaskTombstone.Reason.UNASSIGNED, removedAt);
+    }
+
+    @Test
+    void sync_NoCursor_SendsFullListAndAsksForReset() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(taskRepository.findSyncPage(5L, TaskSyncService.SYNC_EPOCH, 0L, PageRequest.of(0, 200)))
+                .thenReturn(List.of(task(1L, now.minusDays(2))));
+        when(taskTombstoneRepository.findSyncPage(eq(5L), any(LocalDateTime.class), eq(0L), any()))
+                .thenReturn(List.of());
+
+        // Act
+        TaskSyncResponse response = taskSyncService.sync(null, null);
+
+        // Assert
+        assertThat(response.isReset()).isTrue();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(1L);
+        assertThat(response.getRemoved()).isEmpty();
+        TaskSyncCursor cursor = TaskSyncCursor.decode(response.getCursor());
+        assertThat(cursor.getUpdatedAt()).isEqualTo(now.minusDays(2));
+        assertThat(cursor.getTaskId()).isEqualTo(1L);
+        assertThat(cursor.getRemovedAt()).isBefore(now.minus(TaskSyncService.OVERLAP).plusSeconds(1));
+    }
+
+    @Test
+    void sync_WithCursor_ReturnsChangesAndRemovalsOfTasksNoLongerAssigned() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(3);
+        String token = new TaskSyncCursor(since, 4L, since, 2L).encode();
+        LocalDateTime changedAt = LocalDateTime.now().minusHours(1);
+        when(taskRepository.findSyncPage(5L, since, 4L, PageRequest.of(0, 200)))
+                .thenReturn(List.of(task(9L, changedAt)));
+        when(taskTombstoneRepository.findSyncPage(5L, since, 2L, PageRequest.of(0, 200)))
+                .thenReturn(List.of(tombstone(3L, 8L, changedAt.minusMinutes(5)), tombstone(4L, 9L, changedAt.minusMinutes(2))));
+        when(taskRepository.findIdsAssignedTo(Set.of(8L, 9L), 5L)).thenReturn(List.of(9L));
+
+        // Act
+        TaskSyncResponse response = taskSyncService.sync(token, null);
+
+        // Assert
+        assertThat(response.isReset()).isFalse();
+        assertThat(response.getChanged()).extracting(TaskResponse::getId).containsExactly(9L);
+        assertThat(response.getRemoved()).containsExactly(8L);
+        assertThat(TaskSyncCursor.decode(response.getCursor()))
+                .isEqualTo(new TaskSyncCursor(changedAt, 9L, changedAt.minusMinutes(2), 4L));
+    }
+
+    @Test
+    void sync_CaughtUp_HoldsCursorBackByOverlap() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        String token = new TaskSyncCursor(since, 4L, since, 2L).encode();
+        when(taskRepository.findSyncPage(eq(5L), eq(since), eq(4L), any()))
+                .thenReturn(List.of(task(9L, LocalDateTime.now())));
+        when(taskTombstoneRepository.findSyncPage(eq(5L), eq(since), eq(2L), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now().minus(TaskSyncService.OVERLAP);
+
+        // Act
+        TaskSyncResponse response = taskSyncService.sync(token, null);
+
+        // Assert
+        TaskSyncCursor cursor = TaskSyncCursor.decode(response.getCursor());
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(cursor.getUpdatedAt()).isAfterOrEqualTo(before).isBefore(LocalDateTime.now());
+        assertThat(cursor.getTaskId()).isZero();
+    }
+
+    @Test
+    void sync_FullPage_AdvancesToLastTaskAndReportsMore() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        String token = new TaskSyncCursor(since, 4L, since, 2L).encode();
+        LocalDateTime justNow = LocalDateTime.now();
+        when(taskRepository.findSyncPage(5L, since, 4L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(task(9L, justNow)));
+        when(taskTombstoneRepository.findSyncPage(5L, since, 2L, PageRequest.of(0, 1))).thenReturn(List.of());
+
+        // Act
+        TaskSyncResponse response = taskSyncService.sync(token, 1);
+
+        // Assert
+        assertThat(response.isHasMore()).isTrue();
+        TaskSyncCursor cursor = TaskSyncCursor.decode(response.getCursor());
+        assertThat(cursor.getUpdatedAt()).isEqualTo(justNow);
+        assertThat(cursor.getTaskId()).isEqualTo(9L);
+    }
+
+    @Test
+    void sync_CursorOlderThanTombstoneRetention_StartsOver() {
+        // Arrange
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(45);
+        String token = new TaskSyncCursor(longAgo, 4L, longAgo, 2L).encode();
+        when(taskRepository.findSyncPage(eq(5L), eq(TaskSyncService.SYNC_EPOCH), eq(0L), any())).thenReturn(List.of());
+        when(taskTombstoneRepository.findSyncPage(eq(5L), any(LocalDateTime.class), eq(0L), any())).thenReturn(List.of());
+
+        // Act
+        TaskSyncResponse response = taskSyncService.sync(token, null);
+
+        // Assert
+        assertThat(response.isReset()).isTrue();
+    }
+
+    @Test
+    void sync_InvalidLimitOrCursor_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskSyncService.sync(null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskSyncService.sync(null, TaskSyncService.MAX_SYNC_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskSyncService.sync("not-a-cursor", null)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    void purgeTombstones_DeletesTombstonesPastRetention() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        // Act
+        taskSyncService.purgeTombstones();
+
+        // Assert
+        verify(taskTombstoneRepository).deleteRemovedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(before.plusMinutes(1))));
+    }
+}
@@ -0,0 +1,144 @@
+package com.fieldservices.service;
+
+import com.fieldservices.dto.AssignmentRequest;
+import com.fieldservices.dto.TaskChangesResponse;
+import com.fieldservices.dto.TaskCompleteRequest;
+import com.fieldservices.dto.TaskRequest;
+import com.fieldservices.dto.TaskResponse;
+import com.fieldservices.dto.TaskTransitionBatchResponse;
+import com.fieldservices.dto.TaskTransitionRequest;
+import com.fieldservices.event.TaskChangedEvent;
+import com.fieldservices.model.Task;
+import com.fieldservices.repository.TaskRepository;
+import com.fieldservices.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that write responses and change feed deltas describe the row as stored, version included, against the real database
+ * and without a test transaction, so every service call commits as in production
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TaskVersionIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private StatusService statusService;
+
+    @Autowired
+    private TaskFeedService taskFeedService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken("dispatcher", null, List.of())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private long storedVersion(Long taskId) {
+        return taskRepository.findById(taskId).map(Task::getVersion).orElseThrow();
+    }
+
+    private TaskRequest request(String title) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setClientAddress("42 Version Lane, Springfield");
+        request.setPriority(Task.Priority.MEDIUM);
+        return request;
+    }
+
+    @Test
+    void writes_ReturnTheVersionTheyStored() {
+        // Arrange
+        TaskResponse created = taskService.createTask(request("Version check"));
+        Long taskId = created.getId();
+        Long technicianId = userRepository.findByUsername("technician").orElseThrow().getId();
+
+        // Act
+        TaskResponse updated = taskService.updateTask(taskId, request("Version check updated"));
+        TaskResponse assigned = assignmentService.assignTask(taskId, new AssignmentRequest(technicianId));
+        TaskResponse unassigned = assignmentService.unassignTask(taskId);
+        TaskResponse reassigned = assignmentService.assignTask(taskId, new AssignmentRequest(technicianId));
+        TaskResponse started = statusService.startTask(taskId);
+        TaskResponse completed = statusService.completeTask(taskId,
+                new TaskCompleteRequest("Replaced the worn part and tested it"));
+
+        // Assert
+        assertThat(created.getVersion()).isEqualTo(storedVersion(taskId) - 6);
+        assertThat(List.of(updated, assigned, unassigned, reassigned, started, completed))
+                .extracting(TaskResponse::getVersion)
+                .containsExactly(created.getVersion() + 1, created.getVersion() + 2, created.getVersion() + 3,
+                        created.getVersion() + 4, created.getVersion() + 5, created.getVersion() + 6);
+        assertThat(completed.getVersion()).isEqualTo(storedVersion(taskId));
+    }
+
+    @Test
+    void applyTransitions_EachResultCarriesTheVersionItProduced() {
+        // Arrange
+        TaskResponse created = taskService.createTask(request("Batch version check"));
+        Long taskId = created.getId();
+        Long technicianId = userRepository.findByUsername("technician").orElseThrow().getId();
+        TaskResponse assigned = assignmentService.assignTask(taskId, new AssignmentRequest(technicianId));
+
+        // Act
+        TaskTransitionBatchResponse response = statusService.applyTransitions(List.of(
+                new TaskTransitionRequest(taskId, TaskTransitionRequest.Action.START, null, null),
+                new TaskTransitionRequest(taskId, TaskTransitionRequest.Action.COMPLETE, null,
+                        "Replaced the worn part and tested it")));
+
+        // Assert
+        assertThat(response.getResults())
+                .extracting(result -> result.getTask().getVersion())
+                .containsExactly(assigned.getVersion() + 1, assigned.getVersion() + 2);
+        assertThat(storedVersion(taskId)).isEqualTo(assigned.getVersion() + 2);
+    }
+
+    @Test
+    void feed_DeltasCarryTheVersionOfTheCommittedChange() {
+        // Arrange
+        TaskResponse created = taskService.createTask(request("Feed version check"));
+        Long taskId = created.getId();
+        long position = taskFeedService.getChangesSince(null).getLastSequence();
+
+        // Act
+        taskService.updateTask(taskId, request("Feed version check updated"));
+        TaskChangesResponse changes = taskFeedService.getChangesSince(position);
+
+        // Assert
+        assertThat(changes.getChanges())
+                .filteredOn(delta -> delta.getTaskId().equals(taskId))
+                .singleElement()
+                .satisfies(delta -> {
+                    assertThat(delta.getType()).isEqualTo(TaskChangedEvent.Type.UPDATED);
+                    assertThat(delta.getVersion()).isEqualTo(created.getVersion() + 1);
+                    assertThat(delta.getVersion()).isEqualTo(storedVersion(taskId));
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package com.fieldservices.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppliedVersionsTest {
+
+    @Test
+    void record_OnlyNewerVersionsApply() {
+        // Arrange
+        AppliedVersions<Long> versions = new AppliedVersions<>(1000);
+        versions.record(1L, 2L, 0);
+
+        // Act & Assert
+        assertThat(versions.record(1L, 1L, 0)).isFalse();
+        assertThat(versions.record(1L, 2L, 0)).isFalse();
+        assertThat(versions.record(1L, 3L, 0)).isTrue();
+        assertThat(versions.record(2L, 1L, 0)).isTrue();
+    }
+
+    @Test
+    void record_NullVersionAlwaysAppliesAndIsNotKept() {
+        // Arrange
+        AppliedVersions<Long> versions = new AppliedVersions<>(1000);
+        versions.record(1L, 5L, 0);
+
+        // Act & Assert
+        assertThat(versions.record(1L, null, 0)).isTrue();
+        assertThat(versions.record(2L, null, 0)).isTrue();
+        assertThat(versions.size()).isEqualTo(1);
+    }
+
+    @Test
+    void purge_ForgetsUnretainedKeysOnceGracePeriodPassed() {
+        // Arrange
+        AppliedVersions<Long> versions = new AppliedVersions<>(1000);
+        versions.record(1L, 1L, 0);
+        versions.record(2L, 1L, 0);
+        versions.record(3L, 1L, 500);
+
+        // Act
+        int early = versions.purge(999, key -> false);
+        int purged = versions.purge(1000, Set.of(2L)::contains);
+
+        // Assert
+        assertThat(early).isZero();
+        assertThat(purged).isEqualTo(1);
+        assertThat(versions.size()).isEqualTo(2);
+        assertThat(versions.record(1L, 1L, 1000)).isTrue();
+        assertThat(versions.record(2L, 1L, 1000)).isFalse();
+    }
+
+    @Test
+    void constructor_RejectsNegativeGracePeriod() {
+        assertThatThrownBy(() -> new AppliedVersions<>(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,149 @@
+package com.fieldservices.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class AssignmentSolverTest {
+
+    /**
+     * Cheapest total cost over every way of giving each row a distinct column
+     */
+    private static double bruteForceMinimum(double[] cost, int rows, int cols) {
+        return bruteForce(cost, rows, cols, 0, new boolean[cols]);
+    }
+
+    private static double bruteForce(double[] cost, int rows, int cols, int row, boolean[] used) {
+        if (row == rows) {
+            return 0;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int col = 0; col < cols; col++) {
+            if (!used[col]) {
+                used[col] = true;
+                best = Math.min(best, cost[row * cols + col] + bruteForce(cost, rows, cols, row + 1, used));
+                used[col] = false;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Check that every row got a distinct column and return the total cost of the match
+     */
+    private static double totalCost(int[] match, double[] cost, int rows, int cols) {
+        assertThat(match).hasSize(rows);
+        assertThat(match).doesNotHaveDuplicates();
+        double total = 0;
+        for (int row = 0; row < rows; row++) {
+            assertThat(match[row]).isBetween(0, cols - 1);
+            total += cost[row * cols + match[row]];
+        }
+        return total;
+    }
+
+    private static double[] randomMatrix(Random random, int rows, int cols, int distinctValues) {
+        double[] cost = new double[rows * cols];
+        for (int i = 0; i < cost.length; i++) {
+            // Few distinct values give many ties; many give continuous costs like travel distances
+            cost[i] = distinctValues > 0 ? random.nextInt(distinctValues) : random.nextDouble() * 100;
+        }
+        return cost;
+    }
+
+    @Test
+    void solve_RandomSquareMatrices_MatchBruteForce() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 300; trial++) {
+            // Arrange
+            int size = 1 + random.nextInt(6);
+            double[] cost = randomMatrix(random, size, size, 0);
+
+            // Act
+            int[] match = AssignmentSolver.solve(cost, size, size);
+
+            // Assert
+            assertThat(totalCost(match, cost, size, size))
+                    .isCloseTo(bruteForceMinimum(cost, size, size), offset(1e-9));
+        }
+    }
+
+    @Test
+    void solve_RandomMatricesWithMoreColumns_MatchBruteForce() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 300; trial++) {
+            // Arrange
+            int rows = 1 + random.nextInt(5);
+            int cols = rows + 1 + random.nextInt(3);
+            double[] cost = randomMatrix(random, rows, cols, 0);
+
+            // Act
+            int[] match = AssignmentSolver.solve(cost, rows, cols);
+
+            // Assert
+            assertThat(totalCost(match, cost, rows, cols))
+                    .isCloseTo(bruteForceMinimum(cost, rows, cols), offset(1e-9));
+        }
+    }
+
+    @Test
+    void solve_ManyTies_MatchBruteForce() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 300; trial++) {
+            // Arrange
+            int rows = 1 + random.nextInt(6);
+            int cols = rows + random.nextInt(3);
+            double[] cost = randomMatrix(random, rows, cols, 3);
+
+            // Act
+            int[] match = AssignmentSolver.solve(cost, rows, cols);
+
+            // Assert
+            assertThat(totalCost(match, cost, rows, cols)).isEqualTo(bruteForceMinimum(cost, rows, cols));
+        }
+    }
+
+    @Test
+    void solve_DuplicateRows_GivesEachRowItsOwnColumn() {
+        // Arrange: every row prefers column 2, then column 0
+        double[] row = {2, 5, 1, 9};
+        double[] cost = new double[3 * 4];
+        for (int r = 0; r < 3; r++) {
+            System.arraycopy(row, 0, cost, r * 4, 4);
+        }
+
+        // Act
+        int[] match = AssignmentSolver.solve(cost, 3, 4);
+
+        // Assert
+        assertThat(totalCost(match, cost, 3, 4)).isEqualTo(8.0);
+        assertThat(match).containsExactlyInAnyOrder(0, 1, 2);
+    }
+
+    @Test
+    void solve_AllCostsEqual_ReturnsAnyValidMatch() {
+        // Arrange
+        double[] cost = new double[4 * 4];
+        Arrays.fill(cost, 3.5);
+
+        // Act
+        int[] match = AssignmentSolver.solve(cost, 4, 4);
+
+        // Assert
+        assertThat(totalCost(match, cost, 4, 4)).isEqualTo(14.0);
+    }
+
+    @Test
+    void solve_MoreRowsThanColumnsOrWrongSize_Throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> AssignmentSolver.solve(new double[6], 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AssignmentSolver.solve(new double[5], 2, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
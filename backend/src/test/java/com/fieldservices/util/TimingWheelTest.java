@@ -0,0 +1,188 @@
+package com.fieldservices.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+    // 4 slots and 3 levels with 10 ms ticks: level 0 spans 40 ms, level 1 160 ms, level 2 640 ms
+    private static final long TICK = 10;
+
+    private final TimingWheel<String, String> wheel = new TimingWheel<>(TICK, 2, 3, 0);
+
+    /**
+     * Advance one tick at a time, recording the time each value expired
+     */
+    private Map<String, Long> advanceByTicks(TimingWheel<String, String> wheel, long fromMillis, long toMillis) {
+        Map<String, Long> expiredAt = new HashMap<>();
+        for (long now = fromMillis; now <= toMillis; now += TICK) {
+            for (String value : wheel.advance(now)) {
+                expiredAt.put(value, now);
+            }
+        }
+        return expiredAt;
+    }
+
+    @Test
+    void advance_ExpiresEntriesAtTheirDeadlineRoundedUpToATick() {
+        // Arrange
+        wheel.schedule("a", "a", 30);
+        wheel.schedule("b", "b", 31);
+
+        // Act
+        List<String> before = wheel.advance(29);
+        List<String> atThirty = wheel.advance(30);
+        List<String> atForty = wheel.advance(40);
+
+        // Assert
+        assertThat(before).isEmpty();
+        assertThat(atThirty).containsExactly("a");
+        assertThat(atForty).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancel_RemovesEntrySoItNeverExpires() {
+        // Arrange
+        wheel.schedule("near", "near", 20);
+        wheel.schedule("far", "far", 500);
+        wheel.schedule("kept", "kept", 500);
+
+        // Act
+        String cancelledNear = wheel.cancel("near");
+        String cancelledFar = wheel.cancel("far");
+        String missing = wheel.cancel("far");
+        Map<String, Long> expiredAt = advanceByTicks(wheel, 0, 1000);
+
+        // Assert
+        assertThat(cancelledNear).isEqualTo("near");
+        assertThat(cancelledFar).isEqualTo("far");
+        assertThat(missing).isNull();
+        assertThat(expiredAt).containsOnlyKeys("kept").containsEntry("kept", 500L);
+    }
+
+    @Test
+    void schedule_ExistingKey_ReplacesDeadlineAndValue() {
+        // Arrange
+        wheel.schedule("task", "first", 100);
+
+        // Act
+        wheel.schedule("task", "second", 50);
+        Map<String, Long> expiredAt = advanceByTicks(wheel, 0, 200);
+
+        // Assert
+        assertThat(expiredAt).containsOnlyKeys("second").containsEntry("second", 50L);
+    }
+
+    @Test
+    void advance_CascadesEntriesDownEveryLevel() {
+        // Arrange: one deadline per tick across all three levels
+        for (long deadline = TICK; deadline < 640; deadline += TICK) {
+            wheel.schedule("t" + deadline, "t" + deadline, deadline);
+        }
+
+        // Act
+        Map<String, Long> expiredAt = advanceByTicks(wheel, 0, 640);
+
+        // Assert
+        assertThat(expiredAt).hasSize(63);
+        expiredAt.forEach((value, at) -> assertThat(at).isEqualTo(Long.parseLong(value.substring(1))));
+    }
+
+    @Test
+    void advance_FarFutureDeadline_IsParkedAndExpiresOnTime() {
+        // Arrange: beyond the 640 ms the wheel spans, from a start that is not aligned to any level
+        TimingWheel<String, String> offsetWheel = new TimingWheel<>(TICK, 2, 3, 1230);
+        offsetWheel.schedule("far", "far", 1230 + 5000);
+        offsetWheel.schedule("farther", "farther", 1230 + 20_000);
+
+        // Act
+        Map<String, Long> expiredAt = advanceByTicks(offsetWheel, 1230, 1230 + 25_000);
+
+        // Assert
+        assertThat(expiredAt).containsEntry("far", 1230L + 5000).containsEntry("farther", 1230L + 20_000);
+    }
+
+    @Test
+    void advance_LargeJump_ExpiresEverythingDue() {
+        // Arrange
+        wheel.schedule("soon", "soon", 10);
+        wheel.schedule("later", "later", 400);
+        wheel.schedule("far", "far", 3000);
+
+        // Act
+        List<String> expired = wheel.advance(2990);
+
+        // Assert
+        assertThat(expired).containsExactlyInAnyOrder("soon", "later");
+        assertThat(wheel.contains("far")).isTrue();
+        assertThat(wheel.advance(3000)).containsExactly("far");
+    }
+
+    @Test
+    void schedule_PastDeadline_ExpiresOnNextAdvance() {
+        // Arrange
+        wheel.advance(100);
+
+        // Act
+        wheel.schedule("late", "late", 50);
+
+        // Assert
+        assertThat(wheel.advance(105)).isEmpty();
+        assertThat(wheel.advance(110)).containsExactly("late");
+    }
+
+    @Test
+    void randomOperations_MatchReferenceSchedule() {
+        // Arrange
+        Random random = new Random(3);
+        TimingWheel<Integer, Integer> randomWheel = new TimingWheel<>(TICK, 2, 3, 0);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        long now = 0;
+
+        for (int step = 0; step < 5000; step++) {
+            // Act
+            int key = random.nextInt(50);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                // Mostly within the wheel, sometimes far past its span
+                long deadline = now + (random.nextInt(10) == 0 ? random.nextInt(5000) : random.nextInt(700));
+                randomWheel.schedule(key, key, deadline);
+                deadlines.put(key, Math.max(Math.floorDiv(deadline + TICK - 1, TICK), now / TICK + 1) * TICK);
+            } else if (operation < 7) {
+                randomWheel.cancel(key);
+                deadlines.remove(key);
+            } else {
+                now += random.nextInt(80);
+                List<Integer> expected = new ArrayList<>();
+                for (Map.Entry<Integer, Long> entry : deadlines.entrySet()) {
+                    if (entry.getValue() <= now) {
+                        expected.add(entry.getKey());
+                    }
+                }
+                expected.forEach(deadlines::remove);
+
+                // Assert
+                assertThat(randomWheel.advance(now)).containsExactlyInAnyOrderElementsOf(expected);
+            }
+            assertThat(randomWheel.size()).isEqualTo(deadlines.size());
+        }
+    }
+
+    @Test
+    void constructor_InvalidDimensions_Throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> new TimingWheel<String, String>(0, 2, 3, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<String, String>(TICK, 16, 4, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}